@@ -3,6 +3,8 @@ package uk.gov.hmcts.reform.civil.controllers;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
@@ -19,10 +21,14 @@ import java.io.UnsupportedEncodingException;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.springframework.http.HttpHeaders.ACCEPT;
 import static org.springframework.http.HttpHeaders.CONTENT_TYPE;
+import static org.springframework.http.MediaType.APPLICATION_CBOR_VALUE;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+import static org.springframework.http.MediaType.APPLICATION_NDJSON_VALUE;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static uk.gov.hmcts.reform.civil.config.BinaryFormatConfiguration.APPLICATION_SMILE_VALUE;
 
 @SpringBootTest
 @AutoConfigureMockMvc(addFilters = false)
@@ -32,24 +38,34 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 class JudgmentEventControllerIntTest extends WireMockIntTestBase {
 
     private static final String ENDPOINT_JUDGMENT = "/judgment";
+    private static final String ENDPOINT_JUDGMENTS = "/judgments";
 
     private static final String COURT_EPIMS_ID = "123456";
     private static final String COURT_EPIMS_ID_UNRECOGNISED = "999999";
 
+    private static final int HTTP_STATUS_OK = 200;
     private static final int HTTP_STATUS_CREATED = 201;
     private static final int HTTP_STATUS_BAD_REQUEST = 400;
 
     private static final String FIELD_ERROR_CODE = "errorCode";
     private static final String FIELD_ERROR_MESSAGE = "errorMessage";
+    private static final String FIELD_JUDGMENT_ID = "judgmentId";
+    private static final String FIELD_STATUS = "status";
 
     private final MockMvc mockMvc;
 
     private final ObjectMapper objectMapper;
 
+    private final CBORMapper cborMapper;
+
+    private final SmileMapper smileMapper;
+
     @Autowired
     public JudgmentEventControllerIntTest(MockMvc mockMvc) {
         this.mockMvc = mockMvc;
         objectMapper = new ObjectMapper();
+        cborMapper = new CBORMapper();
+        smileMapper = new SmileMapper();
     }
 
     @Test
@@ -271,6 +287,268 @@ class JudgmentEventControllerIntTest extends WireMockIntTestBase {
         invokeJudgmentEndpoint(judgmentEvent, HTTP_STATUS_CREATED);
     }
 
+    @Test
+    void testJudgmentEventBatch() throws Exception {
+        stubIdamS2SAuthResponseOk();
+        stubRefDataLocationApiResponseOk(COURT_EPIMS_ID);
+
+        String judgmentEvents = """
+            [
+              {
+                "serviceId": "IT01",
+                "judgmentId": "1001",
+                "judgmentEventTimeStamp": "2024-01-01T01:00:00Z",
+                "courtEpimsId": "123456",
+                "ccdCaseRef": "10000001",
+                "caseNumber": "0AA10001",
+                "judgmentAdminOrderTotal": 11.00,
+                "judgmentAdminOrderDate": "2024-01-01",
+                "registrationType": "R",
+                "defendant1": {
+                  "defendantName": "Jud1Def1FirstName Jud1Def1LastName",
+                  "defendantAddress": {
+                    "defendantAddressLine1": "Jud1Def1 Address Line 1",
+                    "defendantPostcode": "JD1 1DD"
+                  }
+                }
+              },
+              {
+                "serviceId": "IT99",
+                "judgmentId": "2002",
+                "judgmentEventTimeStamp": "2024-02-02T02:00:00Z",
+                "courtEpimsId": "123456",
+                "ccdCaseRef": "20000002",
+                "caseNumber": "0AA20002",
+                "judgmentAdminOrderTotal": 22.00,
+                "judgmentAdminOrderDate": "2024-02-02",
+                "registrationType": "R",
+                "defendant1": {
+                  "defendantName": "Jud2Def1FirstName Jud2Def1LastName",
+                  "defendantAddress": {
+                    "defendantAddressLine1": "Jud2Def1 Address Line 1",
+                    "defendantPostcode": "JD2 1DD"
+                  }
+                }
+              },
+              {
+                "serviceId": "IT01",
+                "judgmentId": "5005",
+                "judgmentEventTimeStamp": "2024-05-05T05:00:00Z",
+                "courtEpimsId": "123456",
+                "ccdCaseRef": "50000005",
+                "caseNumber": "0AA50005",
+                "judgmentAdminOrderTotal": 999.00,
+                "judgmentAdminOrderDate": "2024-05-05",
+                "registrationType": "R",
+                "defendant1": {
+                  "defendantName": "Jud5Def1FirstName Jud5Def1LastName",
+                  "defendantAddress": {
+                    "defendantAddressLine1": "Jud5Def1 Address Line 1",
+                    "defendantPostcode": "JD5 1DD"
+                  }
+                }
+              },
+              {
+                "serviceId": "IT01",
+                "judgmentId": "7007",
+                "judgmentEventTimeStamp": "2024-07-07T07:00:00Z",
+                "courtEpimsId": "123456",
+                "ccdCaseRef": "70000007",
+                "caseNumber": "0AA70007",
+                "judgmentAdminOrderTotal": 77.00,
+                "judgmentAdminOrderDate": "2024-07-07",
+                "registrationType": "R",
+                "defendant1": {
+                  "defendantName": "Jud7Def1FirstName Jud7Def1LastName",
+                  "defendantAddress": {
+                    "defendantAddressLine1": "Jud7Def1 Address Line 1",
+                    "defendantPostcode": "JD7 1DD"
+                  }
+                }
+              }
+            ]
+            """;
+
+        MvcResult mvcResult = invokeEndpoint(ENDPOINT_JUDGMENTS, judgmentEvents, HTTP_STATUS_OK);
+        JsonNode rootNode = parseMvcResult(mvcResult);
+
+        assertEquals(4, rootNode.size(), "Response has unexpected number of results");
+        assertJudgmentResult(rootNode.get(0), "1001", HTTP_STATUS_CREATED);
+        assertJudgmentResult(rootNode.get(1), "2002", HTTP_STATUS_BAD_REQUEST);
+        assertJudgmentErrorResponse(rootNode.get(1), "001", "unrecognised serviceid");
+        assertJudgmentResult(rootNode.get(2), "5005", HTTP_STATUS_BAD_REQUEST);
+        assertJudgmentErrorResponse(rootNode.get(2), "008", "update of extant record not allowed");
+        assertJudgmentResult(rootNode.get(3), "7007", HTTP_STATUS_CREATED);
+    }
+
+    @Test
+    void testJudgmentEventStream() throws Exception {
+        stubIdamS2SAuthResponseOk();
+        stubRefDataLocationApiResponseOk(COURT_EPIMS_ID);
+
+        String judgmentEvents = """
+            {"serviceId": "IT01", "judgmentId": "1001", "judgmentEventTimeStamp": "2024-01-01T01:00:00Z", \
+            "courtEpimsId": "123456", "ccdCaseRef": "10000001", "caseNumber": "0AA10001", \
+            "judgmentAdminOrderTotal": 11.00, "judgmentAdminOrderDate": "2024-01-01", "registrationType": "R", \
+            "defendant1": {"defendantName": "Jud1Def1FirstName Jud1Def1LastName", \
+            "defendantAddress": {"defendantAddressLine1": "Jud1Def1 Address Line 1", "defendantPostcode": "JD1 1DD"}}}
+            {"serviceId": "IT01", "judgmentId": "4004", "judgmentEventTimeStamp": "2024-04-04T04:00:00Z", \
+            "courtEpimsId": "123456", "ccdCaseRef": "40000004", "caseNumber": "0AA40004", \
+            "judgmentAdminOrderTotal": 44.00, "judgmentAdminOrderDate": "2024-04-04", "registrationType": "C", \
+            "defendant1": {"defendantName": "Jud4Def1FirstName Jud4Def1LastName", \
+            "defendantAddress": {"defendantAddressLine1": "Jud4Def1 Address Line 1", "defendantPostcode": "JD4 1DD"}}}
+            """;
+
+        MvcResult mvcResult = mockMvc.perform(
+            post(ENDPOINT_JUDGMENTS)
+                .header(CONTENT_TYPE, APPLICATION_NDJSON_VALUE)
+                .content(judgmentEvents)
+        ).andExpect(status().is(HTTP_STATUS_OK)).andReturn();
+
+        String[] results = mvcResult.getResponse().getContentAsString().split("\n");
+        assertEquals(2, results.length, "Response has unexpected number of results");
+
+        JsonNode createdResult = objectMapper.readTree(results[0]);
+        assertJudgmentResult(createdResult, "1001", HTTP_STATUS_CREATED);
+
+        JsonNode errorResult = objectMapper.readTree(results[1]);
+        assertJudgmentResult(errorResult, "4004", HTTP_STATUS_BAD_REQUEST);
+        assertJudgmentErrorResponse(errorResult, "004", "missing cancellation date");
+    }
+
+    @Test
+    void testNoExistingJudgmentEventCbor() throws Exception {
+        stubIdamS2SAuthResponseOk();
+        stubRefDataLocationApiResponseOk(COURT_EPIMS_ID);
+
+        String judgmentEvent = """
+            {
+              "serviceId": "IT01",
+              "judgmentId": "1001",
+              "judgmentEventTimeStamp": "2024-01-01T01:00:00Z",
+              "courtEpimsId": "123456",
+              "ccdCaseRef": "10000001",
+              "caseNumber": "0AA10001",
+              "judgmentAdminOrderTotal": 11.00,
+              "judgmentAdminOrderDate": "2024-01-01",
+              "registrationType": "R",
+              "defendant1": {
+                "defendantName": "Jud1Def1FirstName Jud1Def1LastName",
+                "defendantAddress": {
+                  "defendantAddressLine1": "Jud1Def1 Address Line 1",
+                  "defendantPostcode": "JD1 1DD"
+                }
+              }
+            }
+            """;
+
+        mockMvc.perform(
+            post(ENDPOINT_JUDGMENT)
+                .header(CONTENT_TYPE, APPLICATION_CBOR_VALUE)
+                .content(cborMapper.writeValueAsBytes(objectMapper.readTree(judgmentEvent)))
+        ).andExpect(status().is(HTTP_STATUS_CREATED));
+    }
+
+    @Test
+    void testUnrecognisedServiceIdSmile() throws Exception {
+        String judgmentEvent = """
+            {
+              "serviceId": "IT99",
+              "judgmentId": "2002",
+              "judgmentEventTimeStamp": "2024-02-02T02:00:00Z",
+              "courtEpimsId": "123456",
+              "ccdCaseRef": "20000002",
+              "caseNumber": "0AA20002",
+              "judgmentAdminOrderTotal": 22.00,
+              "judgmentAdminOrderDate": "2024-02-02",
+              "registrationType": "R",
+              "defendant1": {
+                "defendantName": "Jud2Def1FirstName Jud2Def1LastName",
+                "defendantAddress": {
+                  "defendantAddressLine1": "Jud2Def1 Address Line 1",
+                  "defendantPostcode": "JD2 1DD"
+                }
+              }
+            }
+            """;
+
+        MvcResult mvcResult = mockMvc.perform(
+            post(ENDPOINT_JUDGMENT)
+                .header(CONTENT_TYPE, APPLICATION_SMILE_VALUE)
+                .content(smileMapper.writeValueAsBytes(objectMapper.readTree(judgmentEvent)))
+        ).andExpect(status().is(HTTP_STATUS_BAD_REQUEST)).andReturn();
+        JsonNode rootNode = parseMvcResult(mvcResult);
+
+        assertJudgmentErrorResponse(rootNode, "001", "unrecognised serviceid");
+    }
+
+    @Test
+    void testJudgmentEventBatchCbor() throws Exception {
+        stubIdamS2SAuthResponseOk();
+        stubRefDataLocationApiResponseOk(COURT_EPIMS_ID);
+
+        String judgmentEvents = """
+            [
+              {
+                "serviceId": "IT01",
+                "judgmentId": "1001",
+                "judgmentEventTimeStamp": "2024-01-01T01:00:00Z",
+                "courtEpimsId": "123456",
+                "ccdCaseRef": "10000001",
+                "caseNumber": "0AA10001",
+                "judgmentAdminOrderTotal": 11.00,
+                "judgmentAdminOrderDate": "2024-01-01",
+                "registrationType": "R",
+                "defendant1": {
+                  "defendantName": "Jud1Def1FirstName Jud1Def1LastName",
+                  "defendantAddress": {
+                    "defendantAddressLine1": "Jud1Def1 Address Line 1",
+                    "defendantPostcode": "JD1 1DD"
+                  }
+                }
+              },
+              {
+                "serviceId": "IT01",
+                "judgmentId": "4004",
+                "judgmentEventTimeStamp": "2024-04-04T04:00:00Z",
+                "courtEpimsId": "123456",
+                "ccdCaseRef": "40000004",
+                "caseNumber": "0AA40004",
+                "judgmentAdminOrderTotal": 44.00,
+                "judgmentAdminOrderDate": "2024-04-04",
+                "registrationType": "C",
+                "defendant1": {
+                  "defendantName": "Jud4Def1FirstName Jud4Def1LastName",
+                  "defendantAddress": {
+                    "defendantAddressLine1": "Jud4Def1 Address Line 1",
+                    "defendantPostcode": "JD4 1DD"
+                  }
+                }
+              }
+            ]
+            """;
+
+        MvcResult mvcResult = mockMvc.perform(
+            post(ENDPOINT_JUDGMENTS)
+                .header(CONTENT_TYPE, APPLICATION_CBOR_VALUE)
+                .header(ACCEPT, APPLICATION_CBOR_VALUE)
+                .content(cborMapper.writeValueAsBytes(objectMapper.readTree(judgmentEvents)))
+        ).andExpect(status().is(HTTP_STATUS_OK)).andReturn();
+        JsonNode rootNode = cborMapper.readTree(mvcResult.getResponse().getContentAsByteArray());
+
+        assertEquals(2, rootNode.size(), "Response has unexpected number of results");
+        assertJudgmentResult(rootNode.get(0), "1001", HTTP_STATUS_CREATED);
+        assertJudgmentResult(rootNode.get(1), "4004", HTTP_STATUS_BAD_REQUEST);
+        assertJudgmentErrorResponse(rootNode.get(1), "004", "missing cancellation date");
+    }
+
+    void assertJudgmentResult(JsonNode resultNode, String expectedJudgmentId, int expectedStatus) {
+        assertEquals(expectedJudgmentId,
+                     resultNode.get(FIELD_JUDGMENT_ID).textValue(),
+                     "Result has unexpected judgment id");
+        assertEquals(expectedStatus, resultNode.get(FIELD_STATUS).intValue(), "Result has unexpected status");
+    }
+
     void assertJudgmentErrorResponse(JsonNode rootNode, String expectedErrorCode, String expectedErrorMessage) {
         JsonNode errorCodeNode = rootNode.get(FIELD_ERROR_CODE);
         assertEquals(expectedErrorCode, errorCodeNode.textValue(), "Response has unexpected error code");
@@ -280,8 +558,12 @@ class JudgmentEventControllerIntTest extends WireMockIntTestBase {
     }
 
     private MvcResult invokeJudgmentEndpoint(String content, int expectedStatus) throws Exception {
+        return invokeEndpoint(ENDPOINT_JUDGMENT, content, expectedStatus);
+    }
+
+    private MvcResult invokeEndpoint(String endpoint, String content, int expectedStatus) throws Exception {
         return mockMvc.perform(
-            post(ENDPOINT_JUDGMENT)
+            post(endpoint)
                 .header(CONTENT_TYPE, APPLICATION_JSON_VALUE)
                 .content(content)
         ).andExpect(status().is(expectedStatus)).andReturn();
@@ -0,0 +1,54 @@
+package uk.gov.hmcts.reform.civil.repository;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import uk.gov.hmcts.reform.civil.domain.JudgmentEventStaging;
+import uk.gov.hmcts.reform.civil.service.task.ScheduledTaskRunner;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataJpaTest(includeFilters = @ComponentScan.Filter(
+    type = FilterType.ASSIGNABLE_TYPE,
+    classes = ScheduledTaskRunner.class)
+)
+@ActiveProfiles("itest")
+@Sql(scripts = {"judgment_event_staging_repository_int_test.sql"})
+class JudgmentEventStagingRepositoryIntTest {
+
+    private final JudgmentEventStagingRepository judgmentEventStagingRepository;
+
+    @Autowired
+    public JudgmentEventStagingRepositoryIntTest(JudgmentEventStagingRepository judgmentEventStagingRepository) {
+        this.judgmentEventStagingRepository = judgmentEventStagingRepository;
+    }
+
+    @Test
+    void testFindForProcessing() {
+        LocalDateTime claimedBefore = LocalDateTime.now().minusMinutes(5);
+
+        List<JudgmentEventStaging> stagedEvents = judgmentEventStagingRepository.findForProcessing(claimedBefore, 10);
+
+        assertEquals(3, stagedEvents.size(), "Unexpected number of staged judgment events found");
+        assertEquals(1L, stagedEvents.get(0).getId(), "Pending judgment event should be found");
+        assertEquals(3L, stagedEvents.get(1).getId(), "Judgment event with expired claim should be found");
+        assertEquals(5L, stagedEvents.get(2).getId(), "Pending judgment event should be found");
+    }
+
+    @Test
+    void testFindForProcessingBatchSize() {
+        LocalDateTime claimedBefore = LocalDateTime.now().minusMinutes(5);
+
+        List<JudgmentEventStaging> stagedEvents = judgmentEventStagingRepository.findForProcessing(claimedBefore, 1);
+
+        assertEquals(1, stagedEvents.size(), "Unexpected number of staged judgment events found");
+        assertEquals(1L, stagedEvents.get(0).getId(), "Oldest pending judgment event should be found");
+    }
+}
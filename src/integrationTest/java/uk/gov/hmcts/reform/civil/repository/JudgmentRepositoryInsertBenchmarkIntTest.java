@@ -0,0 +1,94 @@
+package uk.gov.hmcts.reform.civil.repository;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.test.context.ActiveProfiles;
+import uk.gov.hmcts.reform.civil.domain.Judgment;
+import uk.gov.hmcts.reform.civil.service.task.ScheduledTaskRunner;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Measures the throughput of saving two defendant judgment events with saveAllIfAbsent, which is the path used by
+ * ingest, one group commit of judgment events at a time.  Only run when RUN_BENCHMARKS is true, e.g.
+ * {@code RUN_BENCHMARKS=true ./gradlew integration --tests '*JudgmentRepositoryInsertBenchmarkIntTest'}.
+ */
+@DataJpaTest(includeFilters = @ComponentScan.Filter(
+    type = FilterType.ASSIGNABLE_TYPE,
+    classes = ScheduledTaskRunner.class)
+)
+@ActiveProfiles(profiles = "itest")
+@EnabledIfEnvironmentVariable(named = "RUN_BENCHMARKS", matches = "true")
+@Slf4j
+class JudgmentRepositoryInsertBenchmarkIntTest {
+
+    private static final String SERVICE_ID = "IT01";
+    private static final int WARM_UP_EVENTS = 1000;
+    private static final int MEASURED_EVENTS = 10000;
+    private static final int EVENTS_PER_SAVE = 50;
+
+    private final JudgmentRepository judgmentRepository;
+
+    @Autowired
+    public JudgmentRepositoryInsertBenchmarkIntTest(JudgmentRepository judgmentRepository) {
+        this.judgmentRepository = judgmentRepository;
+    }
+
+    @Test
+    void testSaveAllIfAbsentThroughput() {
+        saveJudgmentEvents(0, WARM_UP_EVENTS);
+
+        long start = System.nanoTime();
+        int rows = saveJudgmentEvents(WARM_UP_EVENTS, MEASURED_EVENTS);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        log.info("Saved [{}] judgments in [{}ms], [{}] rows/s",
+                 rows, elapsedMillis, rows * 1000L / Math.max(elapsedMillis, 1));
+        assertEquals(MEASURED_EVENTS * 2, rows, "Unexpected number of judgments saved");
+    }
+
+    private int saveJudgmentEvents(int firstEvent, int events) {
+        int rows = 0;
+        for (int start = firstEvent; start < firstEvent + events; start += EVENTS_PER_SAVE) {
+            List<List<Judgment>> judgmentEvents = new ArrayList<>(EVENTS_PER_SAVE);
+            for (int event = start; event < start + EVENTS_PER_SAVE; event++) {
+                judgmentEvents.add(List.of(createJudgment(event, "-1"), createJudgment(event, "-2")));
+            }
+            for (boolean saved : judgmentRepository.saveAllIfAbsent(judgmentEvents)) {
+                rows += saved ? 2 : 0;
+            }
+        }
+        return rows;
+    }
+
+    private Judgment createJudgment(int event, String judgmentIdSuffix) {
+        Judgment judgment = new Judgment();
+
+        judgment.setServiceId(SERVICE_ID);
+        judgment.setJudgmentId("B" + event + judgmentIdSuffix);
+        judgment.setJudgmentEventTimestamp(LocalDateTime.of(2024, 1, 1, 1, 0, 0));
+        judgment.setCourtCode("101");
+        judgment.setCcdCaseRef("%08d".formatted(event));
+        judgment.setCaseNumber("0B%06d".formatted(event));
+        judgment.setJudgmentAdminOrderTotal(new BigDecimal("11.00"));
+        judgment.setJudgmentAdminOrderDate(LocalDate.of(2024, 1, 1));
+        judgment.setRegistrationType("R");
+        judgment.setDefendantName("BenchFirstName BenchLastName" + judgmentIdSuffix);
+        judgment.setDefendantAddressLine1("Bench Address Line 1");
+        judgment.setDefendantAddressPostcode("BB1 1BB");
+
+        return judgment;
+    }
+}
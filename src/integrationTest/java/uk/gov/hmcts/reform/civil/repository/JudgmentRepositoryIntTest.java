@@ -8,13 +8,20 @@ import org.springframework.context.annotation.FilterType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.jdbc.Sql;
 import uk.gov.hmcts.reform.civil.domain.Judgment;
+import uk.gov.hmcts.reform.civil.model.JudgmentEventKey;
 import uk.gov.hmcts.reform.civil.service.task.ScheduledTaskRunner;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @DataJpaTest(includeFilters = @ComponentScan.Filter(
     type = FilterType.ASSIGNABLE_TYPE,
@@ -91,6 +98,213 @@ class JudgmentRepositoryIntTest {
                        JUD_2_DEF2_POSTCODE);
     }
 
+    @Test
+    void testForEachJudgmentEventKey() {
+        List<JudgmentEventKey> keys = new ArrayList<>();
+
+        judgmentRepository.forEachJudgmentEventKey(keys::add);
+
+        assertTrue(keys.contains(new JudgmentEventKey(JUD_1_SERVICE_ID,
+                                                      JUD_1_JUDGMENT_ID,
+                                                      JUD_1_JUDGMENT_EVENT_TIMESTAMP,
+                                                      JUD_1_CASE_NUMBER)),
+                   "Key of judgment event with one defendant should be found");
+        assertEquals(1,
+                     keys.stream().filter(key -> key.judgmentId().equals(JUD_2_JUDGMENT_ID)).count(),
+                     "Key of judgment event with two defendants should be found once");
+    }
+
+    @Test
+    void testForEachJudgmentEventKeySubHundredthTimestamp() {
+        // A request timestamp finer than the hundredths of a second it is stored to
+        LocalDateTime requestTimestamp = LocalDateTime.of(2024, 7, 7, 7, 0, 0, 123_456_789);
+        List<Judgment> judgments =
+            List.of(createJudgment(JUD_1_SERVICE_ID, "7007" + JUDGMENT_ID_SUFFIX_1, requestTimestamp, "0AA70007"));
+        judgmentRepository.saveAllIfAbsent(List.of(judgments));
+
+        List<JudgmentEventKey> keys = new ArrayList<>();
+        judgmentRepository.forEachJudgmentEventKey(keys::add);
+
+        JudgmentEventKey requestKey = new JudgmentEventKey(JUD_1_SERVICE_ID, "7007", requestTimestamp, "0AA70007");
+        assertTrue(keys.contains(requestKey), "Key read back should match the key of the request that saved it");
+    }
+
+    @Test
+    void testSaveAllIfAbsent() {
+        LocalDateTime judgmentEventTimestamp = LocalDateTime.of(2024, 3, 3, 3, 0, 0);
+        List<Judgment> newJudgments = List.of(
+            createJudgment(JUD_1_SERVICE_ID, "3003" + JUDGMENT_ID_SUFFIX_1, judgmentEventTimestamp, "0AA30003"),
+            createJudgment(JUD_1_SERVICE_ID, "3003" + JUDGMENT_ID_SUFFIX_2, judgmentEventTimestamp, "0AA30003")
+        );
+        List<Judgment> existingJudgments = List.of(
+            createJudgment(JUD_2_SERVICE_ID,
+                           JUD_2_JUDGMENT_ID + JUDGMENT_ID_SUFFIX_1,
+                           JUD_2_JUDGMENT_EVENT_TIMESTAMP,
+                           JUD_2_CASE_NUMBER),
+            createJudgment(JUD_2_SERVICE_ID,
+                           JUD_2_JUDGMENT_ID + JUDGMENT_ID_SUFFIX_2,
+                           JUD_2_JUDGMENT_EVENT_TIMESTAMP,
+                           JUD_2_CASE_NUMBER)
+        );
+
+        List<Boolean> saved = judgmentRepository.saveAllIfAbsent(List.of(newJudgments, existingJudgments));
+
+        assertEquals(List.of(true, false), saved, "Only the new judgment event should be saved");
+        assertNotEquals(0, newJudgments.get(0).getId(), "Saved judgment should have an id value");
+        assertNotEquals(0, newJudgments.get(1).getId(), "Saved judgment should have an id value");
+
+        List<Judgment> judgments =
+            findByEventDetails(JUD_1_SERVICE_ID, "3003", judgmentEventTimestamp, "0AA30003");
+        assertEquals(2, judgments.size(), "Unexpected number of judgments saved");
+        assertEquals(newJudgments.get(0).getId(), judgments.get(0).getId(), "Unexpected id for saved judgment");
+        assertEquals(newJudgments.get(1).getId(), judgments.get(1).getId(), "Unexpected id for saved judgment");
+    }
+
+    @Test
+    void testSaveAllIfAbsentPartialConflict() {
+        List<Judgment> judgments = List.of(
+            createJudgment(JUD_1_SERVICE_ID,
+                           JUD_1_JUDGMENT_ID + JUDGMENT_ID_SUFFIX_1,
+                           JUD_1_JUDGMENT_EVENT_TIMESTAMP,
+                           JUD_1_CASE_NUMBER),
+            createJudgment(JUD_1_SERVICE_ID,
+                           JUD_1_JUDGMENT_ID + JUDGMENT_ID_SUFFIX_2,
+                           JUD_1_JUDGMENT_EVENT_TIMESTAMP,
+                           JUD_1_CASE_NUMBER)
+        );
+
+        List<Boolean> saved = judgmentRepository.saveAllIfAbsent(List.of(judgments));
+
+        assertEquals(List.of(false), saved, "Judgment event with an existing judgment should not be saved");
+        assertEquals(0, judgments.get(1).getId(), "Judgment that was not saved should not have an id value");
+
+        List<Judgment> existingJudgments =
+            findByEventDetails(JUD_1_SERVICE_ID, JUD_1_JUDGMENT_ID, JUD_1_JUDGMENT_EVENT_TIMESTAMP, JUD_1_CASE_NUMBER);
+        assertEquals(1, existingJudgments.size(), "Judgments of the judgment event should be unchanged");
+    }
+
+    @Test
+    void testSaveAllIfAbsentSameEventTwice() {
+        LocalDateTime judgmentEventTimestamp = LocalDateTime.of(2024, 4, 4, 4, 0, 0);
+        List<Judgment> firstJudgments = List.of(
+            createJudgment(JUD_1_SERVICE_ID, "4004" + JUDGMENT_ID_SUFFIX_1, judgmentEventTimestamp, "0AA40004")
+        );
+        List<Judgment> secondJudgments = List.of(
+            createJudgment(JUD_1_SERVICE_ID, "4004" + JUDGMENT_ID_SUFFIX_1, judgmentEventTimestamp, "0AA40004")
+        );
+
+        List<Boolean> saved = judgmentRepository.saveAllIfAbsent(List.of(firstJudgments, secondJudgments));
+
+        assertEquals(List.of(true, false), saved, "Only the first of the same judgment event should be saved");
+        assertNotEquals(0, firstJudgments.getFirst().getId(), "Saved judgment should have an id value");
+        assertEquals(0, secondJudgments.getFirst().getId(), "Judgment that was not saved should not have an id value");
+
+        List<Judgment> judgments =
+            findByEventDetails(JUD_1_SERVICE_ID, "4004", judgmentEventTimestamp, "0AA40004");
+        assertEquals(1, judgments.size(), "Unexpected number of judgments saved");
+    }
+
+    @Test
+    void testCopyAllIfAbsent() {
+        LocalDateTime judgmentEventTimestamp = LocalDateTime.of(2024, 5, 5, 5, 0, 0);
+        Judgment newJudgment =
+            createJudgment(JUD_1_SERVICE_ID, "5005" + JUDGMENT_ID_SUFFIX_1, judgmentEventTimestamp, "0AA50005");
+        newJudgment.setDefendantName("Def \"Quoted\", Name");
+        newJudgment.setDefendantAddressLine2("");
+        Judgment existingJudgment = createJudgment(JUD_1_SERVICE_ID,
+                                                   JUD_1_JUDGMENT_ID + JUDGMENT_ID_SUFFIX_1,
+                                                   JUD_1_JUDGMENT_EVENT_TIMESTAMP,
+                                                   JUD_1_CASE_NUMBER);
+
+        List<Boolean> copied =
+            judgmentRepository.copyAllIfAbsent(List.of(List.of(newJudgment), List.of(existingJudgment)));
+        assertEquals(List.of(true, false), copied, "Only the new judgment event should be copied");
+        assertNotEquals(0, newJudgment.getId(), "Copied judgment should have an id value");
+
+        // The temporary table is dropped after each copy, so a second copy in the same transaction works
+        assertEquals(List.of(false),
+                     judgmentRepository.copyAllIfAbsent(List.of(List.of(newJudgment))),
+                     "Judgment event should not be copied again");
+
+        List<Judgment> judgments =
+            findByEventDetails(JUD_1_SERVICE_ID, "5005", judgmentEventTimestamp, "0AA50005");
+        assertEquals(1, judgments.size(), "Unexpected number of judgments copied");
+
+        Judgment judgment = judgments.getFirst();
+        assertNotEquals(0, judgment.getId(), "Copied judgment should have an id value");
+        assertEquals("Def \"Quoted\", Name", judgment.getDefendantName(), "Unexpected defendant name");
+        assertEquals("", judgment.getDefendantAddressLine2(), "Empty value should not be copied as null");
+        assertNull(judgment.getDefendantAddressLine3(), "Null value should be copied as null");
+        assertEquals(new BigDecimal("11.00"),
+                     judgment.getJudgmentAdminOrderTotal(),
+                     "Unexpected judgment admin order total");
+        assertEquals(judgmentEventTimestamp,
+                     judgment.getJudgmentEventTimestamp(),
+                     "Unexpected judgment event timestamp");
+    }
+
+    @Test
+    void testCopyAllIfAbsentPartialConflict() {
+        List<Judgment> judgments = List.of(
+            createJudgment(JUD_1_SERVICE_ID,
+                           JUD_1_JUDGMENT_ID + JUDGMENT_ID_SUFFIX_1,
+                           JUD_1_JUDGMENT_EVENT_TIMESTAMP,
+                           JUD_1_CASE_NUMBER),
+            createJudgment(JUD_1_SERVICE_ID,
+                           JUD_1_JUDGMENT_ID + JUDGMENT_ID_SUFFIX_2,
+                           JUD_1_JUDGMENT_EVENT_TIMESTAMP,
+                           JUD_1_CASE_NUMBER)
+        );
+
+        List<Boolean> copied = judgmentRepository.copyAllIfAbsent(List.of(judgments));
+
+        assertEquals(List.of(false), copied, "Judgment event with an existing judgment should not be copied");
+        assertEquals(0, judgments.get(1).getId(), "Judgment that was not copied should not have an id value");
+
+        List<Judgment> existingJudgments =
+            findByEventDetails(JUD_1_SERVICE_ID, JUD_1_JUDGMENT_ID, JUD_1_JUDGMENT_EVENT_TIMESTAMP, JUD_1_CASE_NUMBER);
+        assertEquals(1, existingJudgments.size(), "Judgments of the judgment event should be unchanged");
+    }
+
+    @Test
+    void testSaveAllIfAbsentSequentialIds() {
+        LocalDateTime judgmentEventTimestamp = LocalDateTime.of(2024, 6, 6, 6, 0, 0);
+        List<Judgment> newJudgments = List.of(
+            createJudgment(JUD_1_SERVICE_ID, "6006" + JUDGMENT_ID_SUFFIX_1, judgmentEventTimestamp, "0AA60006"),
+            createJudgment(JUD_1_SERVICE_ID, "6006" + JUDGMENT_ID_SUFFIX_2, judgmentEventTimestamp, "0AA60006")
+        );
+
+        List<Boolean> saved = judgmentRepository.saveAllIfAbsent(List.of(newJudgments));
+
+        // Each row takes a single id from the sequence, rather than a block of them
+        assertEquals(List.of(true), saved, "Judgment event should be saved");
+        long firstId = newJudgments.get(0).getId();
+        assertNotEquals(0, firstId, "Saved judgment should have an id value");
+        assertEquals(firstId + 1, newJudgments.get(1).getId(), "Judgment ids should be consecutive");
+    }
+
+    private Judgment createJudgment(String serviceId,
+                                    String judgmentId,
+                                    LocalDateTime judgmentEventTimestamp,
+                                    String caseNumber) {
+        Judgment judgment = new Judgment();
+
+        judgment.setServiceId(serviceId);
+        judgment.setJudgmentId(judgmentId);
+        judgment.setJudgmentEventTimestamp(judgmentEventTimestamp);
+        judgment.setCourtCode("101");
+        judgment.setCcdCaseRef("10000001");
+        judgment.setCaseNumber(caseNumber);
+        judgment.setJudgmentAdminOrderTotal(new BigDecimal("11.00"));
+        judgment.setJudgmentAdminOrderDate(LocalDate.of(2024, 1, 1));
+        judgment.setRegistrationType("R");
+        judgment.setDefendantName("DefFirstName DefLastName");
+        judgment.setDefendantAddressLine1("Def Address Line 1");
+        judgment.setDefendantAddressPostcode("DD1 1DD");
+
+        return judgment;
+    }
+
     private List<Judgment> findByEventDetails(String serviceId,
                                               String judgmentId,
                                               LocalDateTime judgmentEventTimestamp,
@@ -0,0 +1,112 @@
+package uk.gov.hmcts.reform.civil.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+import uk.gov.hmcts.reform.civil.WireMockIntTestBase;
+import uk.gov.hmcts.reform.civil.exception.UpdateExistingJudgmentException;
+import uk.gov.hmcts.reform.civil.model.Defendant;
+import uk.gov.hmcts.reform.civil.model.DefendantAddress;
+import uk.gov.hmcts.reform.civil.model.JudgmentEvent;
+import uk.gov.hmcts.reform.civil.model.RegistrationType;
+import uk.gov.hmcts.reform.civil.util.LocalSftpServer;
+
+import java.io.File;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Checks that once expireAfterWrite has passed, a replay of a judgment that has been reported to RTL is no longer
+ * answered from the judgment event cache and is rejected.  The cache is disabled for other integration tests.
+ */
+@SpringBootTest(properties = {
+    "rtl-export.ingest.cache.enabled=true",
+    "rtl-export.ingest.cache.expireAfterWrite=" + JudgmentEventCacheIntTest.EXPIRE_AFTER_WRITE_SECONDS
+})
+@ActiveProfiles("itest")
+@Transactional
+class JudgmentEventCacheIntTest extends WireMockIntTestBase {
+
+    static final int EXPIRE_AFTER_WRITE_SECONDS = 1;
+
+    private static final boolean NOT_TEST = false;
+
+    private static final String SERVICE_ID = "IT01";
+    private static final String COURT_EPIMS_ID = "123456";
+
+    private final JudgmentEventService judgmentEventService;
+    private final ScheduledReportService scheduledReportService;
+
+    private final int sftpPort;
+    private final String sftpRemoteDir;
+
+    @TempDir
+    private File sftpRootDir;
+
+    @Autowired
+    public JudgmentEventCacheIntTest(JudgmentEventService judgmentEventService,
+                                     ScheduledReportService scheduledReportService,
+                                     @Value("${rtl-export.sftp.serverPort}") int sftpPort,
+                                     @Value("${rtl-export.sftp.remoteDir}") String sftpRemoteDir) {
+        this.judgmentEventService = judgmentEventService;
+        this.scheduledReportService = scheduledReportService;
+        this.sftpPort = sftpPort;
+        this.sftpRemoteDir = sftpRemoteDir;
+    }
+
+    @Test
+    void testProcessJudgmentEventReplayAfterReport() throws IOException, InterruptedException {
+        stubIdamS2SAuthResponseOk();
+        stubRefDataLocationApiResponseOk(COURT_EPIMS_ID);
+
+        JudgmentEvent judgmentEvent = createJudgmentEvent();
+        assertDoesNotThrow(() -> judgmentEventService.processJudgmentEvent(judgmentEvent),
+                           "No exceptions should be thrown for a new judgment event");
+        assertDoesNotThrow(() -> judgmentEventService.processJudgmentEvent(createJudgmentEvent()),
+                           "No exceptions should be thrown for a replay before the judgment is reported");
+
+        try (LocalSftpServer sftpServer = LocalSftpServer.create(sftpPort, sftpRootDir, sftpRemoteDir)) {
+            scheduledReportService.generateReport(NOT_TEST, null, SERVICE_ID);
+        }
+
+        Thread.sleep(EXPIRE_AFTER_WRITE_SECONDS * 1000L + 500L);
+
+        JudgmentEvent replay = createJudgmentEvent();
+        assertThrows(UpdateExistingJudgmentException.class,
+                     () -> judgmentEventService.processJudgmentEvent(replay),
+                     "Replay of a reported judgment should be rejected once the cache entry has expired");
+    }
+
+    private JudgmentEvent createJudgmentEvent() {
+        DefendantAddress address = new DefendantAddress();
+        address.setDefendantAddressLine1("Jud1Def1 Address Line 1");
+        address.setDefendantPostcode("JD1 1DD");
+
+        Defendant defendant = new Defendant();
+        defendant.setDefendantName("Jud1Def1FirstName Jud1Def1LastName");
+        defendant.setDefendantAddress(address);
+
+        JudgmentEvent judgmentEvent = new JudgmentEvent();
+        judgmentEvent.setServiceId(SERVICE_ID);
+        judgmentEvent.setJudgmentId("9001");
+        judgmentEvent.setJudgmentEventTimeStamp(LocalDateTime.of(2024, 9, 1, 9, 0, 0));
+        judgmentEvent.setCourtEpimsId(COURT_EPIMS_ID);
+        judgmentEvent.setCcdCaseRef("90000001");
+        judgmentEvent.setCaseNumber("0AA90001");
+        judgmentEvent.setJudgmentAdminOrderTotal(new BigDecimal("99.00"));
+        judgmentEvent.setJudgmentAdminOrderDate(LocalDate.of(2024, 9, 1));
+        judgmentEvent.setRegistrationType(RegistrationType.JUDGMENT_REGISTERED);
+        judgmentEvent.setDefendant1(defendant);
+
+        return judgmentEvent;
+    }
+}
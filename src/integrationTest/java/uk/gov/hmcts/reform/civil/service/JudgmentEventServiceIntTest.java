@@ -234,6 +234,47 @@ class JudgmentEventServiceIntTest extends WireMockIntTestBase {
         assertNewJudgment(judgmentEvent, judgmentEvent.getDefendant2(), JUDGMENT_ID_SUFFIX_2, judgmentsAfter.get(1));
     }
 
+    @Test
+    void testProcessJudgmentEventContentHash() {
+        stubIdamS2SAuthResponseOk();
+        stubRefDataLocationApiResponseOk(COURT_EPIMS_ID);
+
+        String judgmentId = "9009";
+        LocalDateTime judgmentEventTimestamp = LocalDateTime.of(2024, 9, 9, 9, 0, 0);
+        String caseNumber = "0AA90009";
+
+        JudgmentEvent judgmentEvent = createJudgmentEvent(judgmentId,
+                                                          judgmentEventTimestamp,
+                                                          "90000009",
+                                                          caseNumber,
+                                                          new BigDecimal("99.00"),
+                                                          LocalDate.of(2024, 9, 9),
+                                                          RegistrationType.JUDGMENT_REGISTERED);
+        judgmentEvent.setDefendant1(createDefendant("Jud9Def1", "JD9 1DD"));
+
+        judgmentEventService.processJudgmentEvent(judgmentEvent);
+
+        List<Judgment> judgmentsBefore =
+            judgmentRepository.findByEventDetails(SERVICE_ID, judgmentId, judgmentEventTimestamp, caseNumber);
+        assertEquals(1, judgmentsBefore.size(), "JudgmentEvent should be saved");
+        assertEquals(judgmentsBefore.getFirst().calculateContentHash(),
+                     judgmentsBefore.getFirst().getContentHash(),
+                     "Saved judgment should have a content hash matching its content");
+
+        judgmentEventService.processJudgmentEvent(judgmentEvent);
+
+        List<Judgment> judgmentsAfter =
+            judgmentRepository.findByEventDetails(SERVICE_ID, judgmentId, judgmentEventTimestamp, caseNumber);
+        assertEquals(1, judgmentsAfter.size(), "Duplicate JudgmentEvent should not be saved");
+        assertExistingJudgment(judgmentsBefore.getFirst(), judgmentsAfter.getFirst());
+
+        judgmentEvent.setDefendant1(createDefendant("DiffJud9Def1", "JD9 1DD"));
+
+        assertThrows(UpdateExistingJudgmentException.class,
+                     () -> judgmentEventService.processJudgmentEvent(judgmentEvent),
+                     "UpdateExistingJudgmentException should be thrown");
+    }
+
     private void assertExistingJudgment(Judgment judgmentBefore, Judgment judgmentAfter) {
         assertEquals(judgmentBefore.getId(), judgmentAfter.getId(), "Before and after ids should match");
         assertEquals(judgmentBefore.getVersionNumber(),
@@ -0,0 +1,18 @@
+INSERT INTO judgment_event_staging
+(id, service_id, judgment_id, judgment_event_timestamp, case_number,
+ payload, status, received_at, claimed_at, attempts)
+VALUES
+(1, 'IT01', '1001', CURRENT_TIMESTAMP, 'IT100001',
+ '{}', 'PENDING', now() - INTERVAL '5 minute', null, 0),
+
+(2, 'IT01', '1002', CURRENT_TIMESTAMP, 'IT100002',
+ '{}', 'PROCESSING', now() - INTERVAL '4 minute', now() - INTERVAL '1 minute', 1),
+
+(3, 'IT01', '1003', CURRENT_TIMESTAMP, 'IT100003',
+ '{}', 'PROCESSING', now() - INTERVAL '3 minute', now() - INTERVAL '10 minute', 1),
+
+(4, 'IT01', '1004', CURRENT_TIMESTAMP, 'IT100004',
+ '{}', 'FAILED', now() - INTERVAL '2 minute', now() - INTERVAL '10 minute', 1),
+
+(5, 'IT01', '1005', CURRENT_TIMESTAMP, 'IT100005',
+ '{}', 'PENDING', now() - INTERVAL '1 minute', null, 0);
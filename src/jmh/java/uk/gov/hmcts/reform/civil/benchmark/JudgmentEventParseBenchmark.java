@@ -0,0 +1,127 @@
+package uk.gov.hmcts.reform.civil.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import uk.gov.hmcts.reform.civil.model.JudgmentEvent;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the cost of parsing judgment event batches sent as JSON, CBOR and Smile. Each format is read with a mapper
+ * configured the same way as the application's message converters. Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JudgmentEventParseBenchmark {
+
+    private static final String JUDGMENT_EVENT = """
+        {
+          "serviceId": "IT01",
+          "judgmentId": "%1$d",
+          "judgmentEventTimeStamp": "2024-01-01T01:00:00Z",
+          "courtEpimsId": "123456",
+          "ccdCaseRef": "%2$08d",
+          "caseNumber": "0AA%3$05d",
+          "judgmentAdminOrderTotal": 1234.56,
+          "judgmentAdminOrderDate": "2024-01-01",
+          "registrationType": "R",
+          "defendant1": {
+            "defendantName": "Defendant One FirstName Defendant One LastName",
+            "defendantAddress": {
+              "defendantAddressLine1": "Flat 1, Defendant One House",
+              "defendantAddressLine2": "1 Defendant One Street",
+              "defendantAddressLine3": "Defendant One Town",
+              "defendantAddressLine4": "Defendant One County",
+              "defendantAddressLine5": "United Kingdom",
+              "defendantPostcode": "DD1 1DD"
+            },
+            "defendantDateOfBirth": "1980-01-01"
+          },
+          "defendant2": {
+            "defendantName": "Defendant Two FirstName Defendant Two LastName",
+            "defendantAddress": {
+              "defendantAddressLine1": "Flat 2, Defendant Two House",
+              "defendantAddressLine2": "2 Defendant Two Street",
+              "defendantAddressLine3": "Defendant Two Town",
+              "defendantPostcode": "DD2 2DD"
+            },
+            "defendantDateOfBirth": "1990-02-02"
+          }
+        }
+        """;
+
+    private static final TypeReference<List<JudgmentEvent>> JUDGMENT_EVENT_LIST = new TypeReference<>() {};
+
+    @Param({"1", "100"})
+    private int batchSize;
+
+    private ObjectReader jsonReader;
+    private ObjectReader cborReader;
+    private ObjectReader smileReader;
+
+    private byte[] jsonBody;
+    private byte[] cborBody;
+    private byte[] smileBody;
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper jsonMapper = new Jackson2ObjectMapperBuilder().build();
+        ObjectMapper cborMapper = new Jackson2ObjectMapperBuilder().factory(new CBORFactory()).build();
+        ObjectMapper smileMapper = new Jackson2ObjectMapperBuilder().factory(new SmileFactory()).build();
+
+        jsonReader = jsonMapper.readerFor(JUDGMENT_EVENT_LIST);
+        cborReader = cborMapper.readerFor(JUDGMENT_EVENT_LIST);
+        smileReader = smileMapper.readerFor(JUDGMENT_EVENT_LIST);
+
+        StringBuilder judgmentEvents = new StringBuilder("[");
+        for (int i = 1; i <= batchSize; i++) {
+            if (i > 1) {
+                judgmentEvents.append(',');
+            }
+            judgmentEvents.append(JUDGMENT_EVENT.formatted(i, i, i));
+        }
+        judgmentEvents.append(']');
+
+        JsonNode judgmentEventsNode = jsonMapper.readTree(judgmentEvents.toString());
+        jsonBody = jsonMapper.writeValueAsBytes(judgmentEventsNode);
+        cborBody = cborMapper.writeValueAsBytes(judgmentEventsNode);
+        smileBody = smileMapper.writeValueAsBytes(judgmentEventsNode);
+    }
+
+    @Benchmark
+    public List<JudgmentEvent> parseJson() throws IOException {
+        return jsonReader.readValue(jsonBody);
+    }
+
+    @Benchmark
+    public List<JudgmentEvent> parseCbor() throws IOException {
+        return cborReader.readValue(cborBody);
+    }
+
+    @Benchmark
+    public List<JudgmentEvent> parseSmile() throws IOException {
+        return smileReader.readValue(smileBody);
+    }
+}
@@ -0,0 +1,100 @@
+package uk.gov.hmcts.reform.civil.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import uk.gov.hmcts.reform.civil.model.JudgmentEvent;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the cost of reading a single JSON judgment event through the generic {@code ObjectMapper.readValue} path,
+ * through a pre-built {@link ObjectReader}, and through a pre-built {@link ObjectReader} with the Blackbird module.
+ * Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JudgmentEventReaderBenchmark {
+
+    private static final byte[] JUDGMENT_EVENT = """
+        {
+          "serviceId": "IT01",
+          "judgmentId": "1001",
+          "judgmentEventTimeStamp": "2024-01-01T01:00:00Z",
+          "courtEpimsId": "123456",
+          "ccdCaseRef": "10000001",
+          "caseNumber": "0AA10001",
+          "judgmentAdminOrderTotal": 1234.56,
+          "judgmentAdminOrderDate": "2024-01-01",
+          "registrationType": "R",
+          "defendant1": {
+            "defendantName": "Defendant One FirstName Defendant One LastName",
+            "defendantAddress": {
+              "defendantAddressLine1": "Flat 1, Defendant One House",
+              "defendantAddressLine2": "1 Defendant One Street",
+              "defendantAddressLine3": "Defendant One Town",
+              "defendantAddressLine4": "Defendant One County",
+              "defendantAddressLine5": "United Kingdom",
+              "defendantPostcode": "DD1 1DD"
+            },
+            "defendantDateOfBirth": "1980-01-01"
+          },
+          "defendant2": {
+            "defendantName": "Defendant Two FirstName Defendant Two LastName",
+            "defendantAddress": {
+              "defendantAddressLine1": "Flat 2, Defendant Two House",
+              "defendantAddressLine2": "2 Defendant Two Street",
+              "defendantAddressLine3": "Defendant Two Town",
+              "defendantPostcode": "DD2 2DD"
+            },
+            "defendantDateOfBirth": "1990-02-02"
+          }
+        }
+        """.getBytes(StandardCharsets.UTF_8);
+
+    private ObjectMapper objectMapper;
+    private ObjectReader objectReader;
+    private ObjectReader blackbirdObjectReader;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new Jackson2ObjectMapperBuilder().build();
+        objectReader = objectMapper.readerFor(JudgmentEvent.class);
+        blackbirdObjectReader = new Jackson2ObjectMapperBuilder()
+            .modulesToInstall(new BlackbirdModule())
+            .build()
+            .readerFor(JudgmentEvent.class);
+    }
+
+    @Benchmark
+    public JudgmentEvent readObjectMapper() throws IOException {
+        return objectMapper.readValue(JUDGMENT_EVENT, JudgmentEvent.class);
+    }
+
+    @Benchmark
+    public JudgmentEvent readObjectReader() throws IOException {
+        return objectReader.readValue(JUDGMENT_EVENT);
+    }
+
+    @Benchmark
+    public JudgmentEvent readBlackbirdObjectReader() throws IOException {
+        return blackbirdObjectReader.readValue(JUDGMENT_EVENT);
+    }
+}
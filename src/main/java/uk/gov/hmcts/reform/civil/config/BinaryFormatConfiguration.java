@@ -0,0 +1,37 @@
+package uk.gov.hmcts.reform.civil.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * Registers CBOR and Smile message converters built from the same Jackson settings as the JSON converter, so binary
+ * judgment event payloads are read exactly as their JSON equivalents would be.
+ */
+@Configuration
+public class BinaryFormatConfiguration {
+
+    public static final String APPLICATION_SMILE_VALUE = "application/x-jackson-smile";
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(
+        Jackson2ObjectMapperBuilder jackson2ObjectMapperBuilder
+    ) {
+        return new MappingJackson2CborHttpMessageConverter(
+            jackson2ObjectMapperBuilder.factory(new CBORFactory()).build()
+        );
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(
+        Jackson2ObjectMapperBuilder jackson2ObjectMapperBuilder
+    ) {
+        return new MappingJackson2SmileHttpMessageConverter(
+            jackson2ObjectMapperBuilder.factory(new SmileFactory()).build()
+        );
+    }
+}
@@ -0,0 +1,25 @@
+package uk.gov.hmcts.reform.civil.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class GzipRequestConfiguration {
+
+    private static final String[] INGEST_URL_PATTERNS = {"/judgment", "/judgments"};
+
+    /**
+     * Accept gzip request bodies on the judgment event ingest endpoints only.
+     */
+    @Bean
+    public FilterRegistrationBean<GzipRequestFilter> gzipRequestFilter(
+        @Value("${rtl-export.ingest.gzip.maxInflatedSize}") long maxInflatedSize
+    ) {
+        FilterRegistrationBean<GzipRequestFilter> registration =
+            new FilterRegistrationBean<>(new GzipRequestFilter(maxInflatedSize));
+        registration.addUrlPatterns(INGEST_URL_PATTERNS);
+        return registration;
+    }
+}
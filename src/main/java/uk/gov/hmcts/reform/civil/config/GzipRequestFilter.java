@@ -0,0 +1,197 @@
+package uk.gov.hmcts.reform.civil.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.lang.NonNull;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.springframework.http.HttpHeaders.CONTENT_ENCODING;
+import static org.springframework.http.HttpHeaders.CONTENT_LENGTH;
+
+/**
+ * Decompresses request bodies sent with {@code Content-Encoding: gzip}.  The body is inflated as it is read, so it is
+ * never buffered in full, and reading fails once more than the maximum inflated size has been read to protect against
+ * small requests that inflate to very large bodies.
+ */
+@Slf4j
+public class GzipRequestFilter extends OncePerRequestFilter {
+
+    private static final List<String> GZIP_ENCODINGS = List.of("gzip", "x-gzip");
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final long maxInflatedSize;
+
+    public GzipRequestFilter(long maxInflatedSize) {
+        this.maxInflatedSize = maxInflatedSize;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        String contentEncoding = request.getHeader(CONTENT_ENCODING);
+        return contentEncoding == null || !GZIP_ENCODINGS.contains(contentEncoding.trim().toLowerCase());
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        log.debug("Decompress gzip request body: uri [{}]", request.getRequestURI());
+        filterChain.doFilter(new GzipRequestWrapper(request, maxInflatedSize), response);
+    }
+
+    /**
+     * Presents the inflated request body, hiding the content encoding and length of the compressed body.
+     */
+    static class GzipRequestWrapper extends HttpServletRequestWrapper {
+
+        private final long maxInflatedSize;
+
+        private ServletInputStream inputStream;
+
+        private BufferedReader reader;
+
+        GzipRequestWrapper(HttpServletRequest request, long maxInflatedSize) {
+            super(request);
+            this.maxInflatedSize = maxInflatedSize;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() throws IOException {
+            if (reader != null) {
+                throw new IllegalStateException("getReader() has already been called for this request");
+            }
+            if (inputStream == null) {
+                inputStream = new InflatingInputStream(new GZIPInputStream(super.getInputStream(), BUFFER_SIZE),
+                                                       maxInflatedSize);
+            }
+            return inputStream;
+        }
+
+        @Override
+        public BufferedReader getReader() throws IOException {
+            if (reader == null) {
+                String encoding = getCharacterEncoding();
+                Charset charset = encoding == null ? StandardCharsets.UTF_8 : Charset.forName(encoding);
+                reader = new BufferedReader(new InputStreamReader(getInputStream(), charset));
+            }
+            return reader;
+        }
+
+        @Override
+        public int getContentLength() {
+            return -1;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return -1L;
+        }
+
+        @Override
+        public String getHeader(String name) {
+            return isHiddenHeader(name) ? null : super.getHeader(name);
+        }
+
+        @Override
+        public Enumeration<String> getHeaders(String name) {
+            return isHiddenHeader(name) ? Collections.emptyEnumeration() : super.getHeaders(name);
+        }
+
+        @Override
+        public Enumeration<String> getHeaderNames() {
+            return Collections.enumeration(
+                Collections.list(super.getHeaderNames()).stream().filter(name -> !isHiddenHeader(name)).toList()
+            );
+        }
+
+        private static boolean isHiddenHeader(String name) {
+            return CONTENT_ENCODING.equalsIgnoreCase(name) || CONTENT_LENGTH.equalsIgnoreCase(name);
+        }
+    }
+
+    /**
+     * Reads from a gzip stream, failing if more than the maximum inflated size is read.
+     */
+    static class InflatingInputStream extends ServletInputStream {
+
+        private final InputStream inflater;
+
+        private final long maxInflatedSize;
+
+        private long inflatedSize;
+
+        private boolean finished;
+
+        InflatingInputStream(InputStream inflater, long maxInflatedSize) {
+            this.inflater = inflater;
+            this.maxInflatedSize = maxInflatedSize;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = inflater.read();
+            if (b == -1) {
+                finished = true;
+            } else {
+                addInflated(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(@NonNull byte[] b, int off, int len) throws IOException {
+            int count = inflater.read(b, off, len);
+            if (count == -1) {
+                finished = true;
+            } else {
+                addInflated(count);
+            }
+            return count;
+        }
+
+        @Override
+        public void close() throws IOException {
+            inflater.close();
+        }
+
+        @Override
+        public boolean isFinished() {
+            return finished;
+        }
+
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        @Override
+        public void setReadListener(ReadListener readListener) {
+            throw new UnsupportedOperationException("Non-blocking reads of gzip request bodies are not supported");
+        }
+
+        private void addInflated(int count) throws IOException {
+            inflatedSize += count;
+            if (inflatedSize > maxInflatedSize) {
+                throw new IOException("Inflated request body exceeds maximum size of " + maxInflatedSize + " bytes");
+            }
+        }
+    }
+}
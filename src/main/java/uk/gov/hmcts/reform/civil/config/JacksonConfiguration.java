@@ -0,0 +1,27 @@
+package uk.gov.hmcts.reform.civil.config;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import uk.gov.hmcts.reform.civil.service.ingest.JudgmentEventReader;
+
+@Configuration
+public class JacksonConfiguration {
+
+    /**
+     * Replaces reflective property access with generated accessors.  Registered as a bean so that it is applied to
+     * every mapper built by Spring, including the CBOR and Smile converter mappers.
+     */
+    @Bean
+    public Module blackbirdModule() {
+        return new BlackbirdModule();
+    }
+
+    @Bean
+    public JudgmentEventHttpMessageConverter judgmentEventHttpMessageConverter(
+        JudgmentEventReader judgmentEventReader
+    ) {
+        return new JudgmentEventHttpMessageConverter(judgmentEventReader);
+    }
+}
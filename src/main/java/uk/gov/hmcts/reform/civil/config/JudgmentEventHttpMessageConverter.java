@@ -0,0 +1,68 @@
+package uk.gov.hmcts.reform.civil.config;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.exc.InvalidDefinitionException;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageConversionException;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import uk.gov.hmcts.reform.civil.model.JudgmentEvent;
+import uk.gov.hmcts.reform.civil.service.ingest.JudgmentEventReader;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Reads single JSON judgment events using the pre-built {@link JudgmentEventReader}, so the judgment endpoint does
+ * not look up the judgment event deserializer on every request.  Failures are reported in the same way as the
+ * default Jackson converter, which still handles everything else.
+ */
+public class JudgmentEventHttpMessageConverter extends AbstractHttpMessageConverter<JudgmentEvent> {
+
+    private final JudgmentEventReader judgmentEventReader;
+
+    public JudgmentEventHttpMessageConverter(JudgmentEventReader judgmentEventReader) {
+        super(StandardCharsets.UTF_8, MediaType.APPLICATION_JSON);
+        this.judgmentEventReader = judgmentEventReader;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return JudgmentEvent.class == clazz;
+    }
+
+    @Override
+    public boolean canWrite(Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected JudgmentEvent readInternal(Class<? extends JudgmentEvent> clazz, HttpInputMessage inputMessage)
+        throws IOException {
+
+        MediaType contentType = inputMessage.getHeaders().getContentType();
+        Charset charset = contentType == null || contentType.getCharset() == null
+            ? StandardCharsets.UTF_8
+            : contentType.getCharset();
+
+        try {
+            if (StandardCharsets.UTF_8.equals(charset)) {
+                return judgmentEventReader.read(inputMessage.getBody());
+            }
+            return judgmentEventReader.read(new InputStreamReader(inputMessage.getBody(), charset));
+        } catch (InvalidDefinitionException e) {
+            throw new HttpMessageConversionException("Type definition error: " + e.getType(), e);
+        } catch (JsonProcessingException e) {
+            throw new HttpMessageNotReadableException("JSON parse error: " + e.getOriginalMessage(), e, inputMessage);
+        }
+    }
+
+    @Override
+    protected void writeInternal(JudgmentEvent judgmentEvent, HttpOutputMessage outputMessage) {
+        throw new UnsupportedOperationException("Writing judgment events is not supported");
+    }
+}
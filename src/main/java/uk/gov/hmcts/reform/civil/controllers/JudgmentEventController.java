@@ -1,35 +1,71 @@
 package uk.gov.hmcts.reform.civil.controllers;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
+import uk.gov.hmcts.reform.civil.exception.BatchTooLargeException;
 import uk.gov.hmcts.reform.civil.exception.JudgmentEventError;
 import uk.gov.hmcts.reform.civil.model.JudgmentEvent;
+import uk.gov.hmcts.reform.civil.model.JudgmentEventResult;
 import uk.gov.hmcts.reform.civil.service.JudgmentEventService;
+import uk.gov.hmcts.reform.civil.service.ingest.IngestAdmissionService;
+import uk.gov.hmcts.reform.civil.service.ingest.IngestConfigProperties;
+import uk.gov.hmcts.reform.civil.service.ingest.JudgmentEventStreamService;
+import uk.gov.hmcts.reform.civil.service.journal.JudgmentEventJournalService;
+import uk.gov.hmcts.reform.civil.service.staging.JudgmentEventStagingService;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Objects;
+
+import static org.springframework.http.MediaType.APPLICATION_CBOR_VALUE;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+import static org.springframework.http.MediaType.APPLICATION_NDJSON_VALUE;
+import static uk.gov.hmcts.reform.civil.config.BinaryFormatConfiguration.APPLICATION_SMILE_VALUE;
 
 @RestController
 public class JudgmentEventController {
 
+    private static final int HTTP_STATUS_OK = 200;
     private static final int HTTP_STATUS_CREATED = 201;
+    private static final int HTTP_STATUS_ACCEPTED = 202;
 
     private final JudgmentEventService judgmentEventService;
+    private final JudgmentEventStreamService judgmentEventStreamService;
+    private final JudgmentEventStagingService judgmentEventStagingService;
+    private final JudgmentEventJournalService judgmentEventJournalService;
+    private final IngestAdmissionService ingestAdmissionService;
+    private final int maxBatchSize;
 
     @Autowired
-    public JudgmentEventController(JudgmentEventService judgmentEventService) {
+    public JudgmentEventController(JudgmentEventService judgmentEventService,
+                                   JudgmentEventStreamService judgmentEventStreamService,
+                                   JudgmentEventStagingService judgmentEventStagingService,
+                                   JudgmentEventJournalService judgmentEventJournalService,
+                                   IngestAdmissionService ingestAdmissionService,
+                                   IngestConfigProperties ingestConfigProperties) {
         this.judgmentEventService = judgmentEventService;
+        this.judgmentEventStreamService = judgmentEventStreamService;
+        this.judgmentEventStagingService = judgmentEventStagingService;
+        this.judgmentEventJournalService = judgmentEventJournalService;
+        this.ingestAdmissionService = ingestAdmissionService;
+        maxBatchSize = ingestConfigProperties.getMaxBatchSize();
     }
 
-    @PostMapping(value = "/judgment", consumes = APPLICATION_JSON_VALUE)
+    @PostMapping(value = "/judgment",
+        consumes = {APPLICATION_JSON_VALUE, APPLICATION_CBOR_VALUE, APPLICATION_SMILE_VALUE})
     @Operation(summary = "Create judgment record")
     @ApiResponse(responseCode = "201", description = "Judgment record created")
+    @ApiResponse(responseCode = "202", description = "Judgment event accepted, judgment record will be created later")
     @ApiResponse(responseCode = "400",
             description = "Bad request",
             content = @Content(mediaType = "application/json",
@@ -38,8 +74,76 @@ public class JudgmentEventController {
     )
     @ApiResponse(responseCode = "401", description = "Service authentication failed")
     @ApiResponse(responseCode = "403", description = "Service is not an authorised service")
+    @ApiResponse(responseCode = "429", description = "Too many requests, retry after the time given in Retry-After")
     public ResponseEntity<Void> judgmentEvent(@RequestBody JudgmentEvent judgmentEvent) {
-        judgmentEventService.processJudgmentEvent(judgmentEvent);
+        try (IngestAdmissionService.Admission admission = ingestAdmissionService.admit(judgmentEvent.getServiceId())) {
+            return processJudgmentEvent(judgmentEvent);
+        }
+    }
+
+    @PostMapping(value = "/judgments",
+        consumes = {APPLICATION_JSON_VALUE, APPLICATION_CBOR_VALUE, APPLICATION_SMILE_VALUE},
+        produces = {APPLICATION_JSON_VALUE, APPLICATION_CBOR_VALUE, APPLICATION_SMILE_VALUE})
+    @Operation(summary = "Create judgment records for a batch of judgment events")
+    @ApiResponse(responseCode = "200",
+            description = "Batch processed, the result of each judgment event is returned in request order",
+            content = @Content(mediaType = "application/json",
+                    array = @ArraySchema(schema = @Schema(implementation = JudgmentEventResult.class))
+            )
+    )
+    @ApiResponse(responseCode = "401", description = "Service authentication failed")
+    @ApiResponse(responseCode = "403", description = "Service is not an authorised service")
+    @ApiResponse(responseCode = "413", description = "Batch has more judgment events than are accepted at once")
+    @ApiResponse(responseCode = "429", description = "Too many requests, retry after the time given in Retry-After")
+    public ResponseEntity<List<JudgmentEventResult>> judgmentEvents(@RequestBody List<JudgmentEvent> judgmentEvents) {
+        if (judgmentEvents.size() > maxBatchSize) {
+            throw new BatchTooLargeException(maxBatchSize);
+        }
+
+        List<String> serviceIds =
+            judgmentEvents.stream().filter(Objects::nonNull).map(JudgmentEvent::getServiceId).toList();
+        try (IngestAdmissionService.Admission admission = ingestAdmissionService.admit(serviceIds)) {
+            return ResponseEntity.ok(judgmentEventService.processJudgmentEvents(judgmentEvents));
+        }
+    }
+
+    @PostMapping(value = "/judgments", consumes = APPLICATION_NDJSON_VALUE, produces = APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Create judgment records for a stream of newline delimited judgment events")
+    @ApiResponse(responseCode = "200",
+            description = "Stream processed, the result of each judgment event is streamed back in request order",
+            content = @Content(mediaType = APPLICATION_NDJSON_VALUE,
+                    schema = @Schema(implementation = JudgmentEventResult.class)
+            )
+    )
+    @ApiResponse(responseCode = "401", description = "Service authentication failed")
+    @ApiResponse(responseCode = "403", description = "Service is not an authorised service")
+    @ApiResponse(responseCode = "429", description = "Too many requests, retry after the time given in Retry-After")
+    public void judgmentEventStream(InputStream requestBody, HttpServletResponse response) throws IOException {
+        response.setStatus(HTTP_STATUS_OK);
+        response.setContentType(APPLICATION_NDJSON_VALUE);
+        judgmentEventStreamService.processJudgmentEvents(requestBody, response.getOutputStream());
+    }
+
+    private ResponseEntity<Void> processJudgmentEvent(JudgmentEvent judgmentEvent) {
+        if (judgmentEventStagingService.isEnabled()) {
+            judgmentEventStagingService.stageJudgmentEvent(judgmentEvent);
+            return ResponseEntity.status(HTTP_STATUS_ACCEPTED).build();
+        }
+
+        if (judgmentEventJournalService.isJournalling()) {
+            judgmentEventJournalService.journalJudgmentEvent(judgmentEvent);
+            return ResponseEntity.status(HTTP_STATUS_ACCEPTED).build();
+        }
+
+        try {
+            judgmentEventService.processJudgmentEvent(judgmentEvent);
+        } catch (RuntimeException e) {
+            if (!judgmentEventJournalService.isDatabaseUnavailable(e)) {
+                throw e;
+            }
+            judgmentEventJournalService.journalJudgmentEvent(judgmentEvent);
+            return ResponseEntity.status(HTTP_STATUS_ACCEPTED).build();
+        }
         return ResponseEntity.status(HTTP_STATUS_CREATED).build();
     }
 }
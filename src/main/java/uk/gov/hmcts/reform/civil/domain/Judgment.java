@@ -13,9 +13,14 @@ import lombok.Setter;
 import org.apache.commons.lang3.StringUtils;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.HexFormat;
 import java.util.Objects;
 
 @Table(name = "JUDGMENTS")
@@ -26,6 +31,12 @@ public class Judgment {
 
     private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("ddMMyyyy");
 
+    private static final String CONTENT_HASH_ALGORITHM = "SHA-256";
+    private static final char CONTENT_FIELD_SEPARATOR = '\u001f';
+    private static final char CONTENT_NULL_FIELD = '\u0000';
+    private static final int CONTENT_TOTAL_SCALE = 2;
+    private static final long CONTENT_TIMESTAMP_PRECISION_NANOS = 10_000_000L;
+
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "jud_seq")
     @SequenceGenerator(name = "jud_seq", sequenceName = "jud_seq", allocationSize = 1)
@@ -93,7 +104,19 @@ public class Judgment {
     @Column(name = "REPORTED_TO_RTL")
     private LocalDateTime reportedToRtl;
 
+    @Column(name = "CONTENT_HASH")
+    private String contentHash;
+
+    // The court EPIMS id the court code was looked up from, which is not reported to RTL so is not part of the content
+    @Column(name = "COURT_EPIMS_ID")
+    private String courtEpimsId;
+
     public boolean equalsJudgment(Judgment judgment) {
+        if (contentHash != null && judgment.getContentHash() != null) {
+            return contentHash.equals(judgment.getContentHash())
+                && Objects.equals(reportedToRtl, judgment.getReportedToRtl());
+        }
+
         return (
             Objects.equals(serviceId, judgment.getServiceId())
                 && Objects.equals(judgmentId, judgment.getJudgmentId())
@@ -140,9 +163,52 @@ public class Judgment {
                 + ", defendantAddressPostcode=" + defendantAddressPostcode
                 + ", defendantDob=" + defendantDob
                 + ", reportedToRtl=" + reportedToRtl
+                + ", contentHash=" + contentHash
+                + ", courtEpimsId=" + courtEpimsId
                 + "]";
     }
 
+    /**
+     * Calculate a SHA-256 digest, as a hex string, of the judgment's content.  All fields that are compared by
+     * equalsJudgment, apart from reportedToRtl, are included.  Values are normalised to the precision they are
+     * stored with, so the digest of a saved judgment matches the digest of the judgment it was created from.
+     *
+     * @return the content hash of the judgment
+     */
+    public String calculateContentHash() {
+        StringBuilder content = new StringBuilder();
+
+        appendContentField(content, serviceId);
+        appendContentField(content, judgmentId);
+        appendContentField(content, judgmentEventTimestamp == null ? null : roundTimestamp(judgmentEventTimestamp));
+        appendContentField(content, courtCode);
+        appendContentField(content, ccdCaseRef);
+        appendContentField(content, caseNumber);
+        appendContentField(content, judgmentAdminOrderTotal == null
+            ? null
+            : judgmentAdminOrderTotal.setScale(CONTENT_TOTAL_SCALE, RoundingMode.HALF_UP).toPlainString());
+        appendContentField(content, judgmentAdminOrderDate);
+        appendContentField(content, registrationType);
+        appendContentField(content, cancellationDate);
+        appendContentField(content, defendantName);
+        appendContentField(content, defendantAddressLine1);
+        appendContentField(content, defendantAddressLine2);
+        appendContentField(content, defendantAddressLine3);
+        appendContentField(content, defendantAddressLine4);
+        appendContentField(content, defendantAddressLine5);
+        appendContentField(content, defendantAddressPostcode);
+        appendContentField(content, defendantDob);
+
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance(CONTENT_HASH_ALGORITHM);
+            byte[] digest = messageDigest.digest(content.toString().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
     public String toFormattedString() {
         return String.join("",
                            courtCode,
@@ -162,6 +228,27 @@ public class Judgment {
         );
     }
 
+    private static void appendContentField(StringBuilder content, Object value) {
+        if (value == null) {
+            content.append(CONTENT_NULL_FIELD);
+        } else {
+            content.append(value);
+        }
+        content.append(CONTENT_FIELD_SEPARATOR);
+    }
+
+    /**
+     * Round a timestamp to the hundredths of a second it is stored to, so that it matches the timestamp read back.
+     *
+     * @param timestamp - the timestamp to round
+     * @return the rounded timestamp
+     */
+    public static LocalDateTime roundTimestamp(LocalDateTime timestamp) {
+        long roundedNanos = (timestamp.getNano() + CONTENT_TIMESTAMP_PRECISION_NANOS / 2)
+            / CONTENT_TIMESTAMP_PRECISION_NANOS * CONTENT_TIMESTAMP_PRECISION_NANOS;
+        return timestamp.withNano(0).plusNanos(roundedNanos);
+    }
+
     private String formattedOptionalDate(LocalDate date) {
         return date != null ? date.format(DATE_FORMAT) : StringUtils.rightPad("", 8);
     }
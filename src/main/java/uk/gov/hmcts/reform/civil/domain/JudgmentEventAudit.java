@@ -0,0 +1,63 @@
+package uk.gov.hmcts.reform.civil.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+
+@Table(name = "JUDGMENT_EVENT_AUDIT")
+@Entity
+@Getter
+@Setter
+public class JudgmentEventAudit {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "jea_seq")
+    // Must match the increment of jea_seq, ids are allocated from each block using the default pooled optimizer
+    @SequenceGenerator(name = "jea_seq", sequenceName = "jea_seq", allocationSize = 50)
+    @Column(name = "ID")
+    private long id;
+
+    @Column(name = "SERVICE_ID")
+    private String serviceId;
+
+    @Column(name = "JUDGMENT_ID")
+    private String judgmentId;
+
+    @Column(name = "JUDGMENT_EVENT_TIMESTAMP")
+    private LocalDateTime judgmentEventTimestamp;
+
+    @Column(name = "CASE_NUMBER")
+    private String caseNumber;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "PAYLOAD")
+    private String payload;
+
+    @Column(name = "RECEIVED_AT")
+    private LocalDateTime receivedAt;
+
+    @Column(name = "OUTCOME")
+    private String outcome;
+
+    @Override
+    public String toString() {
+        return "JudgmentEventAudit[" + "id=" + id
+            + ", serviceId=" + serviceId
+            + ", judgmentId=" + judgmentId
+            + ", judgmentEventTimestamp=" + judgmentEventTimestamp
+            + ", caseNumber=" + caseNumber
+            + ", receivedAt=" + receivedAt
+            + ", outcome=" + outcome
+            + "]";
+    }
+}
@@ -0,0 +1,79 @@
+package uk.gov.hmcts.reform.civil.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Table(name = "JUDGMENT_EVENT_STAGING")
+@Entity
+@Getter
+@Setter
+public class JudgmentEventStaging {
+
+    public static final String STATUS_PENDING = "PENDING";
+    public static final String STATUS_PROCESSING = "PROCESSING";
+    public static final String STATUS_FAILED = "FAILED";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "jes_seq")
+    @SequenceGenerator(name = "jes_seq", sequenceName = "jes_seq", allocationSize = 1)
+    @Column(name = "ID")
+    private long id;
+
+    @Column(name = "SERVICE_ID")
+    private String serviceId;
+
+    @Column(name = "JUDGMENT_ID")
+    private String judgmentId;
+
+    @Column(name = "JUDGMENT_EVENT_TIMESTAMP")
+    private LocalDateTime judgmentEventTimestamp;
+
+    @Column(name = "CASE_NUMBER")
+    private String caseNumber;
+
+    @Column(name = "PAYLOAD")
+    private String payload;
+
+    @Column(name = "STATUS")
+    private String status;
+
+    @Column(name = "RECEIVED_AT")
+    private LocalDateTime receivedAt;
+
+    @Column(name = "CLAIMED_AT")
+    private LocalDateTime claimedAt;
+
+    @Column(name = "ATTEMPTS")
+    private int attempts;
+
+    @Column(name = "ERROR_CODE")
+    private String errorCode;
+
+    @Column(name = "ERROR_MESSAGE")
+    private String errorMessage;
+
+    @Override
+    public String toString() {
+        return "JudgmentEventStaging[" + "id=" + id
+            + ", serviceId=" + serviceId
+            + ", judgmentId=" + judgmentId
+            + ", judgmentEventTimestamp=" + judgmentEventTimestamp
+            + ", caseNumber=" + caseNumber
+            + ", status=" + status
+            + ", receivedAt=" + receivedAt
+            + ", claimedAt=" + claimedAt
+            + ", attempts=" + attempts
+            + ", errorCode=" + errorCode
+            + ", errorMessage=" + errorMessage
+            + "]";
+    }
+}
@@ -0,0 +1,20 @@
+package uk.gov.hmcts.reform.civil.exception;
+
+import lombok.Getter;
+
+import java.io.Serial;
+
+@Getter
+public class BatchTooLargeException extends RuntimeException {
+
+    @Serial
+    private static final long serialVersionUID = 4127904716204512786L;
+
+    /** Maximum number of judgment events accepted in a batch. */
+    private final int maxBatchSize;
+
+    public BatchTooLargeException(int maxBatchSize) {
+        super("batch larger than " + maxBatchSize + " judgment events");
+        this.maxBatchSize = maxBatchSize;
+    }
+}
@@ -0,0 +1,46 @@
+package uk.gov.hmcts.reform.civil.exception;
+
+import lombok.Getter;
+
+@Getter
+public enum JudgmentEventErrorType {
+
+    UNRECOGNISED_SERVICE_ID(UnrecognisedServiceIdException.class, "001", "unrecognised serviceid"),
+    UNRECOGNISED_EPIMS_ID(UnrecognisedEpimsIdException.class, "003", "unrecognised EPIMSId"),
+    MISSING_CANCELLATION_DATE(MissingCancellationDateException.class, "004", "missing cancellation date"),
+    UPDATE_EXISTING_JUDGMENT(UpdateExistingJudgmentException.class, "008", "update of extant record not allowed"),
+    DIFFERENT_NUMBER_OF_DEFENDANTS(DifferentNumberOfDefendantsException.class,
+                                   "009",
+                                   "changing number of defendants not allowed");
+
+    private final Class<? extends RuntimeException> exceptionClass;
+
+    private final String errorCode;
+
+    private final String errorMessage;
+
+    JudgmentEventErrorType(Class<? extends RuntimeException> exceptionClass, String errorCode, String errorMessage) {
+        this.exceptionClass = exceptionClass;
+        this.errorCode = errorCode;
+        this.errorMessage = errorMessage;
+    }
+
+    public JudgmentEventError toJudgmentEventError() {
+        return new JudgmentEventError(errorCode, errorMessage);
+    }
+
+    /**
+     * Find the error type reported to callers for an exception thrown while processing a judgment event.
+     *
+     * @param e - the exception thrown
+     * @return the matching error type, or null if the exception is not a judgment event error
+     */
+    public static JudgmentEventErrorType fromException(Throwable e) {
+        for (JudgmentEventErrorType errorType : values()) {
+            if (errorType.exceptionClass.isInstance(e)) {
+                return errorType;
+            }
+        }
+        return null;
+    }
+}
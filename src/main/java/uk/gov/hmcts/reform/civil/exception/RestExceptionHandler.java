@@ -1,5 +1,7 @@
 package uk.gov.hmcts.reform.civil.exception;
 
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -10,31 +12,42 @@ public class RestExceptionHandler extends ResponseEntityExceptionHandler {
 
     @ExceptionHandler(value = {UnrecognisedServiceIdException.class})
     public ResponseEntity<Object> handleUnrecognisedServiceIdException(UnrecognisedServiceIdException e) {
-        return createJudgmentEventErrorResponse("001", "unrecognised serviceid");
+        return createJudgmentEventErrorResponse(JudgmentEventErrorType.UNRECOGNISED_SERVICE_ID);
     }
 
     @ExceptionHandler(value = {UnrecognisedEpimsIdException.class})
     public ResponseEntity<Object> handleUnrecognisedEpimsIdException(UnrecognisedEpimsIdException e) {
-        return createJudgmentEventErrorResponse("003", "unrecognised EPIMSId");
+        return createJudgmentEventErrorResponse(JudgmentEventErrorType.UNRECOGNISED_EPIMS_ID);
     }
 
     @ExceptionHandler(value = {MissingCancellationDateException.class})
     public ResponseEntity<Object> handleMissingCancellationDateException(MissingCancellationDateException e) {
-        return createJudgmentEventErrorResponse("004", "missing cancellation date");
+        return createJudgmentEventErrorResponse(JudgmentEventErrorType.MISSING_CANCELLATION_DATE);
     }
 
     @ExceptionHandler(value = {UpdateExistingJudgmentException.class})
     public ResponseEntity<Object> handleUpdateExistingJudgmentException(UpdateExistingJudgmentException e) {
-        return createJudgmentEventErrorResponse("008", "update of extant record not allowed");
+        return createJudgmentEventErrorResponse(JudgmentEventErrorType.UPDATE_EXISTING_JUDGMENT);
     }
 
     @ExceptionHandler(value = {DifferentNumberOfDefendantsException.class})
     public ResponseEntity<Object> handleDifferentNumberOfDefendantsException(DifferentNumberOfDefendantsException e) {
-        return createJudgmentEventErrorResponse("009", "changing number of defendants not allowed");
+        return createJudgmentEventErrorResponse(JudgmentEventErrorType.DIFFERENT_NUMBER_OF_DEFENDANTS);
     }
 
-    private ResponseEntity<Object> createJudgmentEventErrorResponse(String errorCode, String errorMessage) {
-        JudgmentEventError judgmentEventError = new JudgmentEventError(errorCode, errorMessage);
-        return ResponseEntity.badRequest().body(judgmentEventError);
+    @ExceptionHandler(value = {TooManyRequestsException.class})
+    public ResponseEntity<Object> handleTooManyRequestsException(TooManyRequestsException e) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+            .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfter()))
+            .build();
+    }
+
+    @ExceptionHandler(value = {BatchTooLargeException.class})
+    public ResponseEntity<Object> handleBatchTooLargeException(BatchTooLargeException e) {
+        return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).build();
+    }
+
+    private ResponseEntity<Object> createJudgmentEventErrorResponse(JudgmentEventErrorType errorType) {
+        return ResponseEntity.badRequest().body(errorType.toJudgmentEventError());
     }
 }
@@ -0,0 +1,20 @@
+package uk.gov.hmcts.reform.civil.exception;
+
+import lombok.Getter;
+
+import java.io.Serial;
+
+@Getter
+public class TooManyRequestsException extends RuntimeException {
+
+    @Serial
+    private static final long serialVersionUID = -2716092456312877458L;
+
+    /** Number of seconds the caller should wait before trying again. */
+    private final long retryAfter;
+
+    public TooManyRequestsException(String message, long retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+}
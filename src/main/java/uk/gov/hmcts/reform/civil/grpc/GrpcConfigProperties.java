@@ -0,0 +1,19 @@
+package uk.gov.hmcts.reform.civil.grpc;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "rtl-export.ingest.grpc")
+@Getter
+@Setter
+public class GrpcConfigProperties {
+
+    private boolean enabled;
+
+    private int port;
+
+    private int maxInboundMessageSize;
+}
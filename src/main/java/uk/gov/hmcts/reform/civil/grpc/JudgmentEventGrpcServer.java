@@ -0,0 +1,72 @@
+package uk.gov.hmcts.reform.civil.grpc;
+
+import io.grpc.Server;
+import io.grpc.ServerInterceptors;
+import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the gRPC ingest service on its own port when it is enabled.  Calls are run on virtual threads, as processing
+ * judgment events blocks on RefData and the database.
+ */
+@Component
+@Slf4j
+public class JudgmentEventGrpcServer {
+
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 30;
+
+    private final JudgmentEventGrpcService judgmentEventGrpcService;
+    private final ServiceAuthInterceptor serviceAuthInterceptor;
+    private final GrpcConfigProperties grpcConfigProperties;
+
+    private ExecutorService executorService;
+
+    private Server server;
+
+    @Autowired
+    public JudgmentEventGrpcServer(JudgmentEventGrpcService judgmentEventGrpcService,
+                                   ServiceAuthInterceptor serviceAuthInterceptor,
+                                   GrpcConfigProperties grpcConfigProperties) {
+        this.judgmentEventGrpcService = judgmentEventGrpcService;
+        this.serviceAuthInterceptor = serviceAuthInterceptor;
+        this.grpcConfigProperties = grpcConfigProperties;
+    }
+
+    @PostConstruct
+    public void start() throws IOException {
+        if (!grpcConfigProperties.isEnabled()) {
+            log.debug("gRPC ingest server not started");
+            return;
+        }
+
+        log.info("Starting gRPC ingest server on port [{}]", grpcConfigProperties.getPort());
+        executorService = Executors.newVirtualThreadPerTaskExecutor();
+        server = NettyServerBuilder.forPort(grpcConfigProperties.getPort())
+            .executor(executorService)
+            .maxInboundMessageSize(grpcConfigProperties.getMaxInboundMessageSize())
+            .addService(ServerInterceptors.intercept(judgmentEventGrpcService, serviceAuthInterceptor))
+            .build()
+            .start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (server != null) {
+            log.info("Stopping gRPC ingest server");
+            server.shutdown();
+            if (!server.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                server.shutdownNow();
+            }
+            executorService.shutdown();
+        }
+    }
+}
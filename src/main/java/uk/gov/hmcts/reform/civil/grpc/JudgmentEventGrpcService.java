@@ -0,0 +1,203 @@
+package uk.gov.hmcts.reform.civil.grpc;
+
+import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.civil.exception.TooManyRequestsException;
+import uk.gov.hmcts.reform.civil.grpc.api.JudgmentEventIngestGrpc;
+import uk.gov.hmcts.reform.civil.grpc.api.JudgmentEventMessage;
+import uk.gov.hmcts.reform.civil.grpc.api.SubmitJudgmentsResponse;
+import uk.gov.hmcts.reform.civil.model.JudgmentEvent;
+import uk.gov.hmcts.reform.civil.model.JudgmentEventResult;
+import uk.gov.hmcts.reform.civil.service.JudgmentEventService;
+import uk.gov.hmcts.reform.civil.service.ingest.IngestAdmissionService;
+import uk.gov.hmcts.reform.civil.service.ingest.IngestConfigProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * gRPC ingest service for internal callers that produce judgments in bulk.  Judgment events are processed in chunks
+ * as they arrive, in the same way as a stream of newline delimited JSON judgment events posted to /judgments.
+ * <p>
+ * Messages are requested from the caller one chunk at a time, so a caller that sends faster than judgment events can
+ * be saved is held back by HTTP/2 flow control rather than having its messages buffered in memory.  Each chunk is
+ * admitted by the same per serviceId bulkheads as the HTTP endpoints.
+ * <p>
+ * The results of each chunk are returned in their own response as soon as the chunk has been processed, so the size
+ * of a response does not grow with the size of the stream, and a caller whose stream fails part way through still
+ * receives the results of the judgment events that were saved.  The next chunk is not requested until the caller
+ * has read enough of the responses for the call to be ready again.
+ */
+@Component
+@Slf4j
+public class JudgmentEventGrpcService extends JudgmentEventIngestGrpc.JudgmentEventIngestImplBase {
+
+    private static final String ERROR_MESSAGE_UNREADABLE = "unable to read judgment event";
+
+    private final JudgmentEventService judgmentEventService;
+    private final JudgmentEventMessageMapper judgmentEventMessageMapper;
+    private final IngestAdmissionService ingestAdmissionService;
+    private final int chunkSize;
+
+    @Autowired
+    public JudgmentEventGrpcService(JudgmentEventService judgmentEventService,
+                                    JudgmentEventMessageMapper judgmentEventMessageMapper,
+                                    IngestAdmissionService ingestAdmissionService,
+                                    IngestConfigProperties ingestConfigProperties) {
+        this.judgmentEventService = judgmentEventService;
+        this.judgmentEventMessageMapper = judgmentEventMessageMapper;
+        this.ingestAdmissionService = ingestAdmissionService;
+        chunkSize = ingestConfigProperties.getChunkSize();
+    }
+
+    @Override
+    public StreamObserver<JudgmentEventMessage> submitJudgments(
+        StreamObserver<SubmitJudgmentsResponse> responseObserver
+    ) {
+        ServerCallStreamObserver<SubmitJudgmentsResponse> serverCallStreamObserver =
+            (ServerCallStreamObserver<SubmitJudgmentsResponse>) responseObserver;
+        serverCallStreamObserver.disableAutoRequest();
+
+        JudgmentEventMessageObserver requestObserver = new JudgmentEventMessageObserver(serverCallStreamObserver);
+        serverCallStreamObserver.setOnReadyHandler(requestObserver::onReady);
+        serverCallStreamObserver.request(chunkSize);
+
+        return requestObserver;
+    }
+
+    /**
+     * Receives the judgment event messages of a single call.  gRPC delivers the messages and ready notifications of
+     * a call one at a time, so the observer is not shared between threads.
+     */
+    private class JudgmentEventMessageObserver implements StreamObserver<JudgmentEventMessage> {
+
+        private final ServerCallStreamObserver<SubmitJudgmentsResponse> responseObserver;
+
+        private final SubmitJudgmentsResponse.Builder response = SubmitJudgmentsResponse.newBuilder();
+
+        private final List<JudgmentEvent> chunk = new ArrayList<>(chunkSize);
+
+        private int count;
+
+        private int requested = chunkSize;
+
+        private boolean awaitingReady;
+
+        private boolean failed;
+
+        JudgmentEventMessageObserver(ServerCallStreamObserver<SubmitJudgmentsResponse> responseObserver) {
+            this.responseObserver = responseObserver;
+        }
+
+        @Override
+        public void onNext(JudgmentEventMessage message) {
+            if (failed) {
+                return;
+            }
+            count++;
+            requested--;
+
+            try {
+                chunk.add(judgmentEventMessageMapper.toJudgmentEvent(message));
+            } catch (IllegalArgumentException e) {
+                log.debug("Unable to read judgmentEvent", e);
+                processChunk();
+                addResult(JudgmentEventResult.unreadable(ERROR_MESSAGE_UNREADABLE + " at message " + count));
+            }
+
+            if (requested == 0) {
+                processChunk();
+                if (!failed) {
+                    sendResults();
+                    requestChunk();
+                }
+            }
+        }
+
+        /**
+         * Called when the call is ready for more responses, after the caller has read enough of those already sent.
+         */
+        void onReady() {
+            if (awaitingReady) {
+                requestChunk();
+            }
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            log.debug("Stream of judgmentEvents cancelled after [{}] judgmentEvents", count, t);
+            chunk.clear();
+            awaitingReady = false;
+        }
+
+        @Override
+        public void onCompleted() {
+            awaitingReady = false;
+            processChunk();
+            if (!failed) {
+                log.debug("Processed stream of [{}] judgmentEvents", count);
+                sendResults();
+                responseObserver.onCompleted();
+            }
+        }
+
+        private void processChunk() {
+            if (failed || chunk.isEmpty()) {
+                return;
+            }
+
+            log.debug("Process chunk of [{}] judgmentEvents", chunk.size());
+            List<String> serviceIds = chunk.stream().map(JudgmentEvent::getServiceId).filter(Objects::nonNull).toList();
+            try (IngestAdmissionService.Admission admission = ingestAdmissionService.admit(serviceIds)) {
+                judgmentEventService.processJudgmentEvents(chunk).forEach(this::addResult);
+            } catch (TooManyRequestsException e) {
+                log.debug("Chunk of [{}] judgmentEvents rejected: {}", chunk.size(), e.getMessage());
+                fail(Status.RESOURCE_EXHAUSTED.withDescription("Too many requests, retry after "
+                                                                   + e.getRetryAfter() + " seconds"));
+            } catch (RuntimeException e) {
+                log.error("Unable to process chunk of [{}] judgmentEvents", chunk.size(), e);
+                fail(Status.UNAVAILABLE.withDescription("Unable to process judgment events"));
+            } finally {
+                chunk.clear();
+            }
+        }
+
+        /**
+         * Request the next chunk of messages, unless the caller has not yet read enough of the responses, in which
+         * case the chunk is requested once the call is ready again.
+         */
+        private void requestChunk() {
+            awaitingReady = !responseObserver.isReady();
+            if (!awaitingReady) {
+                requested = chunkSize;
+                responseObserver.request(chunkSize);
+            }
+        }
+
+        /**
+         * End the call with an error, first returning the results of any judgment events of the current chunk that
+         * were processed before it failed.
+         */
+        private void fail(Status status) {
+            sendResults();
+            failed = true;
+            responseObserver.onError(status.asRuntimeException());
+        }
+
+        private void sendResults() {
+            if (response.getResultsCount() > 0) {
+                responseObserver.onNext(response.build());
+                response.clear();
+            }
+        }
+
+        private void addResult(JudgmentEventResult result) {
+            response.addResults(judgmentEventMessageMapper.toJudgmentEventStatus(result));
+        }
+    }
+}
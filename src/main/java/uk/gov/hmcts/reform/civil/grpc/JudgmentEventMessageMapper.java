@@ -0,0 +1,157 @@
+package uk.gov.hmcts.reform.civil.grpc;
+
+import com.google.protobuf.Timestamp;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.civil.grpc.api.DefendantAddressMessage;
+import uk.gov.hmcts.reform.civil.grpc.api.DefendantMessage;
+import uk.gov.hmcts.reform.civil.grpc.api.JudgmentEventMessage;
+import uk.gov.hmcts.reform.civil.grpc.api.JudgmentEventStatus;
+import uk.gov.hmcts.reform.civil.model.Defendant;
+import uk.gov.hmcts.reform.civil.model.DefendantAddress;
+import uk.gov.hmcts.reform.civil.model.JudgmentEvent;
+import uk.gov.hmcts.reform.civil.model.JudgmentEventResult;
+import uk.gov.hmcts.reform.civil.model.RegistrationType;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Converts between the protobuf messages of the gRPC ingest service and the judgment event model.  Fields that are
+ * not set in a message are left null, so judgment events are validated in the same way as those received as JSON.
+ */
+@Component
+public class JudgmentEventMessageMapper {
+
+    /**
+     * Convert a judgment event message to a judgment event.
+     *
+     * @param message - the judgment event message
+     * @return the judgment event
+     * @throws IllegalArgumentException if an amount, date or registration type cannot be read
+     */
+    public JudgmentEvent toJudgmentEvent(JudgmentEventMessage message) {
+        JudgmentEvent judgmentEvent = new JudgmentEvent();
+
+        judgmentEvent.setServiceId(message.hasServiceId() ? message.getServiceId() : null);
+        judgmentEvent.setJudgmentId(message.hasJudgmentId() ? message.getJudgmentId() : null);
+        judgmentEvent.setJudgmentEventTimeStamp(
+            message.hasJudgmentEventTimeStamp() ? toLocalDateTime(message.getJudgmentEventTimeStamp()) : null
+        );
+        judgmentEvent.setCourtEpimsId(message.hasCourtEpimsId() ? message.getCourtEpimsId() : null);
+        judgmentEvent.setCcdCaseRef(message.hasCcdCaseRef() ? message.getCcdCaseRef() : null);
+        judgmentEvent.setCaseNumber(message.hasCaseNumber() ? message.getCaseNumber() : null);
+        judgmentEvent.setJudgmentAdminOrderTotal(
+            message.hasJudgmentAdminOrderTotal() ? toBigDecimal(message.getJudgmentAdminOrderTotal()) : null
+        );
+        judgmentEvent.setJudgmentAdminOrderDate(
+            message.hasJudgmentAdminOrderDate() ? toLocalDate(message.getJudgmentAdminOrderDate()) : null
+        );
+        judgmentEvent.setRegistrationType(
+            message.hasRegistrationType() ? RegistrationType.fromRegType(message.getRegistrationType()) : null
+        );
+        judgmentEvent.setCancellationDate(
+            message.hasCancellationDate() ? toLocalDate(message.getCancellationDate()) : null
+        );
+        judgmentEvent.setDefendant1(message.hasDefendant1() ? toDefendant(message.getDefendant1()) : null);
+        judgmentEvent.setDefendant2(message.hasDefendant2() ? toDefendant(message.getDefendant2()) : null);
+
+        return judgmentEvent;
+    }
+
+    /**
+     * Convert the result of a judgment event to a judgment event status message.
+     *
+     * @param result - the result of the judgment event
+     * @return the judgment event status
+     */
+    public JudgmentEventStatus toJudgmentEventStatus(JudgmentEventResult result) {
+        JudgmentEventStatus.Builder status = JudgmentEventStatus.newBuilder().setStatus(result.getStatus());
+
+        if (result.getServiceId() != null) {
+            status.setServiceId(result.getServiceId());
+        }
+        if (result.getJudgmentId() != null) {
+            status.setJudgmentId(result.getJudgmentId());
+        }
+        if (result.getJudgmentEventTimeStamp() != null) {
+            status.setJudgmentEventTimeStamp(toTimestamp(result.getJudgmentEventTimeStamp()));
+        }
+        if (result.getCaseNumber() != null) {
+            status.setCaseNumber(result.getCaseNumber());
+        }
+        if (result.getErrorCode() != null) {
+            status.setErrorCode(result.getErrorCode());
+        }
+        if (result.getErrorMessage() != null) {
+            status.setErrorMessage(result.getErrorMessage());
+        }
+
+        return status.build();
+    }
+
+    private Defendant toDefendant(DefendantMessage message) {
+        Defendant defendant = new Defendant();
+
+        defendant.setDefendantName(message.hasDefendantName() ? message.getDefendantName() : null);
+        defendant.setDefendantAddress(
+            message.hasDefendantAddress() ? toDefendantAddress(message.getDefendantAddress()) : null
+        );
+        defendant.setDefendantDateOfBirth(
+            message.hasDefendantDateOfBirth() ? toLocalDate(message.getDefendantDateOfBirth()) : null
+        );
+
+        return defendant;
+    }
+
+    private DefendantAddress toDefendantAddress(DefendantAddressMessage message) {
+        DefendantAddress defendantAddress = new DefendantAddress();
+
+        defendantAddress.setDefendantAddressLine1(
+            message.hasDefendantAddressLine1() ? message.getDefendantAddressLine1() : null
+        );
+        defendantAddress.setDefendantAddressLine2(
+            message.hasDefendantAddressLine2() ? message.getDefendantAddressLine2() : null
+        );
+        defendantAddress.setDefendantAddressLine3(
+            message.hasDefendantAddressLine3() ? message.getDefendantAddressLine3() : null
+        );
+        defendantAddress.setDefendantAddressLine4(
+            message.hasDefendantAddressLine4() ? message.getDefendantAddressLine4() : null
+        );
+        defendantAddress.setDefendantAddressLine5(
+            message.hasDefendantAddressLine5() ? message.getDefendantAddressLine5() : null
+        );
+        defendantAddress.setDefendantPostcode(message.hasDefendantPostcode() ? message.getDefendantPostcode() : null);
+
+        return defendantAddress;
+    }
+
+    /**
+     * Judgment event timestamps sent as JSON are UTC, so protobuf timestamps are converted in the same way.
+     */
+    private LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return LocalDateTime.ofInstant(Instant.ofEpochSecond(timestamp.getSeconds(), timestamp.getNanos()),
+                                       ZoneOffset.UTC);
+    }
+
+    private Timestamp toTimestamp(LocalDateTime localDateTime) {
+        Instant instant = localDateTime.toInstant(ZoneOffset.UTC);
+        return Timestamp.newBuilder().setSeconds(instant.getEpochSecond()).setNanos(instant.getNano()).build();
+    }
+
+    private BigDecimal toBigDecimal(String value) {
+        return new BigDecimal(value);
+    }
+
+    private LocalDate toLocalDate(String value) {
+        try {
+            return LocalDate.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid date [" + value + "]", e);
+        }
+    }
+}
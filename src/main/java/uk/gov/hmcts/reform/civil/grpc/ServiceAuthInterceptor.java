@@ -0,0 +1,71 @@
+package uk.gov.hmcts.reform.civil.grpc;
+
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.Status;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.authorisation.validators.AuthTokenValidator;
+
+import java.util.List;
+
+/**
+ * Authenticates gRPC calls with the same S2S token and authorised services as the HTTP endpoints, which are protected
+ * by the ServiceAuthFilter.  The token is sent in the ServiceAuthorization metadata.
+ */
+@Component
+@Slf4j
+public class ServiceAuthInterceptor implements ServerInterceptor {
+
+    static final Metadata.Key<String> SERVICE_AUTHORIZATION =
+        Metadata.Key.of("ServiceAuthorization", Metadata.ASCII_STRING_MARSHALLER);
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final AuthTokenValidator authTokenValidator;
+    private final List<String> authorisedServices;
+
+    @Autowired
+    public ServiceAuthInterceptor(AuthTokenValidator authTokenValidator,
+                                  @Value("${idam.s2s-authorised.services}") List<String> authorisedServices) {
+        this.authTokenValidator = authTokenValidator;
+        this.authorisedServices = authorisedServices;
+    }
+
+    @Override
+    public <Q, R> ServerCall.Listener<Q> interceptCall(ServerCall<Q, R> call,
+                                                      Metadata headers,
+                                                      ServerCallHandler<Q, R> next) {
+        String token = headers.get(SERVICE_AUTHORIZATION);
+        if (token == null) {
+            return close(call, Status.UNAUTHENTICATED.withDescription("Missing ServiceAuthorization"));
+        }
+
+        String serviceName;
+        try {
+            serviceName = authTokenValidator.getServiceName(token.startsWith(BEARER_PREFIX)
+                                                                ? token
+                                                                : BEARER_PREFIX + token);
+        } catch (RuntimeException e) {
+            log.debug("Invalid ServiceAuthorization for gRPC call", e);
+            return close(call, Status.UNAUTHENTICATED.withDescription("Invalid ServiceAuthorization"));
+        }
+
+        if (!authorisedServices.contains(serviceName)) {
+            log.debug("Service [{}] is not an authorised service", serviceName);
+            return close(call, Status.PERMISSION_DENIED.withDescription("Service is not an authorised service"));
+        }
+
+        return next.startCall(call, headers);
+    }
+
+    private <Q, R> ServerCall.Listener<Q> close(ServerCall<Q, R> call, Status status) {
+        call.close(status, new Metadata());
+        return new ServerCall.Listener<>() {
+        };
+    }
+}
@@ -0,0 +1,10 @@
+package uk.gov.hmcts.reform.civil.model;
+
+import java.time.LocalDateTime;
+
+public record JudgmentContentHash(String judgmentId,
+                                  String contentHash,
+                                  LocalDateTime reportedToRtl,
+                                  String courtCode,
+                                  String courtEpimsId) {
+}
@@ -0,0 +1,29 @@
+package uk.gov.hmcts.reform.civil.model;
+
+import uk.gov.hmcts.reform.civil.domain.Judgment;
+
+import java.time.LocalDateTime;
+
+/**
+ * Natural key of a judgment event, matching the unique constraint on the judgments table.  The timestamp is rounded
+ * to the hundredths of a second it is stored to, so the key of a judgment event matches the key read back from the
+ * judgments saved for it.
+ */
+public record JudgmentEventKey(String serviceId,
+                               String judgmentId,
+                               LocalDateTime judgmentEventTimeStamp,
+                               String caseNumber) {
+
+    public JudgmentEventKey {
+        if (judgmentEventTimeStamp != null) {
+            judgmentEventTimeStamp = Judgment.roundTimestamp(judgmentEventTimeStamp);
+        }
+    }
+
+    public static JudgmentEventKey of(JudgmentEvent judgmentEvent) {
+        return new JudgmentEventKey(judgmentEvent.getServiceId(),
+                                    judgmentEvent.getJudgmentId(),
+                                    judgmentEvent.getJudgmentEventTimeStamp(),
+                                    judgmentEvent.getCaseNumber());
+    }
+}
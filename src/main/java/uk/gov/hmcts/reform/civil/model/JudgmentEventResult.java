@@ -0,0 +1,70 @@
+package uk.gov.hmcts.reform.civil.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import uk.gov.hmcts.reform.civil.exception.JudgmentEventError;
+
+import java.time.LocalDateTime;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+public class JudgmentEventResult {
+
+    private static final int STATUS_CREATED = 201;
+    private static final int STATUS_BAD_REQUEST = 400;
+    private static final int STATUS_TOO_MANY_REQUESTS = 429;
+    private static final int STATUS_INTERNAL_SERVER_ERROR = 500;
+
+    private String serviceId;
+
+    private String judgmentId;
+
+    private LocalDateTime judgmentEventTimeStamp;
+
+    private String caseNumber;
+
+    private int status;
+
+    private String errorCode;
+
+    private String errorMessage;
+
+    public static JudgmentEventResult created(JudgmentEvent judgmentEvent) {
+        return create(judgmentEvent, STATUS_CREATED, null, null);
+    }
+
+    public static JudgmentEventResult error(JudgmentEvent judgmentEvent, JudgmentEventError judgmentEventError) {
+        return create(judgmentEvent,
+                      STATUS_BAD_REQUEST,
+                      judgmentEventError.getErrorCode(),
+                      judgmentEventError.getErrorMessage());
+    }
+
+    public static JudgmentEventResult rejected(JudgmentEvent judgmentEvent, String errorMessage) {
+        return create(judgmentEvent, STATUS_TOO_MANY_REQUESTS, null, errorMessage);
+    }
+
+    public static JudgmentEventResult internalError(JudgmentEvent judgmentEvent) {
+        return create(judgmentEvent, STATUS_INTERNAL_SERVER_ERROR, null, null);
+    }
+
+    public static JudgmentEventResult unreadable(String errorMessage) {
+        return new JudgmentEventResult(null, null, null, null, STATUS_BAD_REQUEST, null, errorMessage);
+    }
+
+    private static JudgmentEventResult create(JudgmentEvent judgmentEvent,
+                                              int status,
+                                              String errorCode,
+                                              String errorMessage) {
+        return new JudgmentEventResult(judgmentEvent.getServiceId(),
+                                       judgmentEvent.getJudgmentId(),
+                                       judgmentEvent.getJudgmentEventTimeStamp(),
+                                       judgmentEvent.getCaseNumber(),
+                                       status,
+                                       errorCode,
+                                       errorMessage);
+    }
+}
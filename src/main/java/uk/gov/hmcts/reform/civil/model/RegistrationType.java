@@ -2,6 +2,11 @@ package uk.gov.hmcts.reform.civil.model;
 
 import com.fasterxml.jackson.annotation.JsonValue;
 
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 public enum RegistrationType {
 
     JUDGMENT_REGISTERED("R"),
@@ -12,6 +17,9 @@ public enum RegistrationType {
     ADMIN_ORDER_REVOKED("K"),
     ADMIN_ORDER_VARIED("V");
 
+    private static final Map<String, RegistrationType> REGISTRATION_TYPES = Arrays.stream(values())
+        .collect(Collectors.toUnmodifiableMap(RegistrationType::getRegType, Function.identity()));
+
     private final String regType;
 
     RegistrationType(String regType) {
@@ -22,4 +30,20 @@ public enum RegistrationType {
     public String getRegType() {
         return regType;
     }
+
+    /**
+     * Look up a registration type by its code, for judgment events that are not read by Jackson.  This is not a
+     * @JsonCreator: Jackson already resolves codes from the @JsonValue of each registration type through its own map.
+     *
+     * @param regType - the registration type code, e.g. "R"
+     * @return the registration type with the given code
+     * @throws IllegalArgumentException if the code is not a recognised registration type
+     */
+    public static RegistrationType fromRegType(String regType) {
+        RegistrationType registrationType = regType == null ? null : REGISTRATION_TYPES.get(regType);
+        if (registrationType == null) {
+            throw new IllegalArgumentException("Unrecognised registration type [" + regType + "]");
+        }
+        return registrationType;
+    }
 }
@@ -0,0 +1,13 @@
+package uk.gov.hmcts.reform.civil.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import uk.gov.hmcts.reform.civil.domain.JudgmentEventAudit;
+
+import java.util.List;
+
+@Repository
+public interface JudgmentEventAuditRepository extends JpaRepository<JudgmentEventAudit, Long> {
+
+    List<JudgmentEventAudit> findByServiceIdAndJudgmentIdOrderByReceivedAt(String serviceId, String judgmentId);
+}
@@ -0,0 +1,29 @@
+package uk.gov.hmcts.reform.civil.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import uk.gov.hmcts.reform.civil.domain.JudgmentEventStaging;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface JudgmentEventStagingRepository extends JpaRepository<JudgmentEventStaging, Long> {
+
+    /**
+     * Lock the oldest staged judgment events that are waiting to be processed, skipping any that are already
+     * locked by another worker.  Events claimed by a worker that did not complete them are reclaimed once
+     * their claim has expired.
+     */
+    @Query(value = "SELECT * FROM judgment_event_staging "
+        + "WHERE status = 'PENDING' "
+        + "OR (status = 'PROCESSING' AND claimed_at < :claimedBefore) "
+        + "ORDER BY id "
+        + "LIMIT :batchSize "
+        + "FOR UPDATE SKIP LOCKED",
+        nativeQuery = true)
+    List<JudgmentEventStaging> findForProcessing(@Param("claimedBefore") LocalDateTime claimedBefore,
+                                                 @Param("batchSize") int batchSize);
+}
@@ -7,12 +7,13 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import uk.gov.hmcts.reform.civil.domain.Judgment;
+import uk.gov.hmcts.reform.civil.model.JudgmentContentHash;
 
 import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
-public interface JudgmentRepository extends JpaRepository<Judgment, Long> {
+public interface JudgmentRepository extends JpaRepository<Judgment, Long>, JudgmentRepositoryCustom {
 
     String PARAM_AS_OF = "asOf";
     String PARAM_SERVICE_ID = "serviceId";
@@ -44,6 +45,19 @@ public interface JudgmentRepository extends JpaRepository<Judgment, Long> {
         return findByEventDetails(serviceId, judgmentId, judgmentEventTimestamp, caseNumber, sortByJudgmentIdAsc);
     }
 
+    @Query("SELECT new uk.gov.hmcts.reform.civil.model.JudgmentContentHash("
+        + "j.judgmentId, j.contentHash, j.reportedToRtl, j.courtCode, j.courtEpimsId) "
+        + "FROM Judgment j "
+        + "WHERE j.serviceId = :serviceId "
+        + "AND j.judgmentEventTimestamp = :timestamp "
+        + "AND j.caseNumber = :caseNumber "
+        + "AND (j.judgmentId = :#{#judgmentId + '-1'} OR j.judgmentId = :#{#judgmentId + '-2'}) "
+        + "ORDER BY j.judgmentId")
+    List<JudgmentContentHash> findContentHashesByEventDetails(@Param("serviceId") String serviceId,
+                                                              @Param("judgmentId") String judgmentId,
+                                                              @Param("timestamp") LocalDateTime judgmentEventTimestamp,
+                                                              @Param("caseNumber") String caseNumber);
+
     @Query("SELECT j FROM Judgment j "
         + "WHERE j.serviceId = :serviceId "
         + "AND j.judgmentEventTimestamp = :timestamp "
@@ -0,0 +1,43 @@
+package uk.gov.hmcts.reform.civil.repository;
+
+import org.springframework.transaction.annotation.Transactional;
+import uk.gov.hmcts.reform.civil.domain.Judgment;
+import uk.gov.hmcts.reform.civil.model.JudgmentEventKey;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+public interface JudgmentRepositoryCustom {
+
+    /**
+     * Save the judgments of each judgment event, unless judgments already exist for that judgment event.  New
+     * judgments are inserted with a single statement, with conflicts on the judgment event unique constraint
+     * being skipped.  The id of each saved judgment is set.
+     *
+     * @param judgmentEvents - the judgments of each judgment event
+     * @return for each judgment event, true if its judgments were saved or false if they already exist
+     */
+    @Transactional
+    List<Boolean> saveAllIfAbsent(List<List<Judgment>> judgmentEvents);
+
+    /**
+     * Bulk load the judgments of each judgment event, unless judgments already exist for that judgment event.  The
+     * judgments are streamed into a temporary table with COPY and then merged into judgments with a single
+     * statement, with conflicts on the judgment event unique constraint being skipped.  As with saveAllIfAbsent, a
+     * judgment event is only loaded if all of its judgments are, and the id of each loaded judgment is set.
+     *
+     * @param judgmentEvents - the judgments of each judgment event
+     * @return for each judgment event, true if its judgments were loaded or false if they already exist
+     */
+    @Transactional
+    List<Boolean> copyAllIfAbsent(List<List<Judgment>> judgmentEvents);
+
+    /**
+     * Stream the key of every judgment event that has saved judgments, without loading them all into memory.  Keys
+     * are found from the judgment of the first defendant, which every judgment event has.
+     *
+     * @param consumer - called with the key of each judgment event
+     */
+    @Transactional(readOnly = true)
+    void forEachJudgmentEventKey(Consumer<JudgmentEventKey> consumer);
+}
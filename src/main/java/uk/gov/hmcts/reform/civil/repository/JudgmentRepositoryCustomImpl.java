@@ -0,0 +1,325 @@
+package uk.gov.hmcts.reform.civil.repository;
+
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import uk.gov.hmcts.reform.civil.domain.Judgment;
+import uk.gov.hmcts.reform.civil.model.JudgmentEventKey;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+@Slf4j
+public class JudgmentRepositoryCustomImpl implements JudgmentRepositoryCustom {
+
+    // Each row uses 22 parameters, so keep well within the limit on parameters for a single statement
+    private static final int MAX_ROWS_PER_STATEMENT = 1000;
+
+    private static final String SQL_INSERT_IF_ABSENT_START =
+        "WITH input (ordinal, service_id, judgment_id, judgment_event_timestamp, court_code, ccd_case_ref, "
+            + "case_number, judgment_admin_order_total, judgment_admin_order_date, registration_type, "
+            + "cancellation_date, defendant_name, defendant_address_line_1, defendant_address_line_2, "
+            + "defendant_address_line_3, defendant_address_line_4, defendant_address_line_5, "
+            + "defendant_address_postcode, defendant_dob, reported_to_rtl, content_hash, court_epims_id) "
+            + "AS (VALUES ";
+
+    private static final String SQL_INSERT_IF_ABSENT_ROW =
+        "(CAST(:ordinal%1$d AS INTEGER), CAST(:serviceId%1$d AS VARCHAR), CAST(:judgmentId%1$d AS VARCHAR), "
+            + "CAST(:judgmentEventTimestamp%1$d AS TIMESTAMP(2)), CAST(:courtCode%1$d AS VARCHAR), "
+            + "CAST(:ccdCaseRef%1$d AS VARCHAR), CAST(:caseNumber%1$d AS VARCHAR), "
+            + "CAST(:judgmentAdminOrderTotal%1$d AS NUMERIC(10,2)), CAST(:judgmentAdminOrderDate%1$d AS DATE), "
+            + "CAST(:registrationType%1$d AS VARCHAR), CAST(:cancellationDate%1$d AS DATE), "
+            + "CAST(:defendantName%1$d AS VARCHAR), CAST(:defendantAddressLine1%1$d AS VARCHAR), "
+            + "CAST(:defendantAddressLine2%1$d AS VARCHAR), CAST(:defendantAddressLine3%1$d AS VARCHAR), "
+            + "CAST(:defendantAddressLine4%1$d AS VARCHAR), CAST(:defendantAddressLine5%1$d AS VARCHAR), "
+            + "CAST(:defendantAddressPostcode%1$d AS VARCHAR), CAST(:defendantDob%1$d AS DATE), "
+            + "CAST(:reportedToRtl%1$d AS TIMESTAMP(2)), CAST(:contentHash%1$d AS VARCHAR), "
+            + "CAST(:courtEpimsId%1$d AS VARCHAR))";
+
+    private static final String SQL_INSERT_IF_ABSENT_END =
+        "), inserted AS ("
+            + "INSERT INTO judgments (id, version_number, service_id, judgment_id, judgment_event_timestamp, "
+            + "court_code, ccd_case_ref, case_number, judgment_admin_order_total, judgment_admin_order_date, "
+            + "registration_type, cancellation_date, defendant_name, defendant_address_line_1, "
+            + "defendant_address_line_2, defendant_address_line_3, defendant_address_line_4, "
+            + "defendant_address_line_5, defendant_address_postcode, defendant_dob, reported_to_rtl, content_hash, "
+            + "court_epims_id) "
+            + "SELECT nextval('jud_seq'), 0, service_id, judgment_id, judgment_event_timestamp, "
+            + "court_code, ccd_case_ref, case_number, judgment_admin_order_total, judgment_admin_order_date, "
+            + "registration_type, cancellation_date, defendant_name, defendant_address_line_1, "
+            + "defendant_address_line_2, defendant_address_line_3, defendant_address_line_4, "
+            + "defendant_address_line_5, defendant_address_postcode, defendant_dob, reported_to_rtl, content_hash, "
+            + "court_epims_id "
+            + "FROM input ORDER BY ordinal "
+            + "ON CONFLICT (service_id, judgment_id, judgment_event_timestamp, case_number) DO NOTHING "
+            + "RETURNING id, service_id, judgment_id, judgment_event_timestamp, case_number) "
+            + "SELECT input.ordinal, inserted.id FROM input JOIN inserted "
+            + "ON inserted.service_id = input.service_id "
+            + "AND inserted.judgment_id = input.judgment_id "
+            + "AND inserted.judgment_event_timestamp = input.judgment_event_timestamp "
+            + "AND inserted.case_number = input.case_number";
+
+    private static final String SQL_DELETE_BY_IDS = "DELETE FROM judgments WHERE id IN (:ids)";
+
+    private static final String COPY_COLUMNS =
+        "service_id, judgment_id, judgment_event_timestamp, court_code, ccd_case_ref, case_number, "
+            + "judgment_admin_order_total, judgment_admin_order_date, registration_type, cancellation_date, "
+            + "defendant_name, defendant_address_line_1, defendant_address_line_2, defendant_address_line_3, "
+            + "defendant_address_line_4, defendant_address_line_5, defendant_address_postcode, defendant_dob, "
+            + "reported_to_rtl, content_hash, court_epims_id";
+
+    private static final String SQL_CREATE_COPY_TABLE =
+        "CREATE TEMPORARY TABLE judgments_copy ON COMMIT DROP AS SELECT CAST(0 AS INTEGER) AS ordinal, "
+            + COPY_COLUMNS + " FROM judgments WITH NO DATA";
+
+    private static final String SQL_DROP_COPY_TABLE = "DROP TABLE judgments_copy";
+
+    private static final String SQL_COPY =
+        "COPY judgments_copy (ordinal, " + COPY_COLUMNS + ") FROM STDIN (FORMAT csv)";
+
+    private static final String SQL_MERGE_COPY_TABLE =
+        "WITH inserted AS ("
+            + "INSERT INTO judgments (id, version_number, " + COPY_COLUMNS + ") "
+            + "SELECT nextval('jud_seq'), 0, " + COPY_COLUMNS + " FROM judgments_copy ORDER BY ordinal "
+            + "ON CONFLICT (service_id, judgment_id, judgment_event_timestamp, case_number) DO NOTHING "
+            + "RETURNING id, service_id, judgment_id, judgment_event_timestamp, case_number) "
+            + "SELECT judgments_copy.ordinal, inserted.id FROM judgments_copy JOIN inserted "
+            + "ON inserted.service_id = judgments_copy.service_id "
+            + "AND inserted.judgment_id = judgments_copy.judgment_id "
+            + "AND inserted.judgment_event_timestamp = judgments_copy.judgment_event_timestamp "
+            + "AND inserted.case_number = judgments_copy.case_number";
+
+    private static final String JUDGMENT_ID_SUFFIX_1 = "-1";
+
+    private static final String SQL_SELECT_JUDGMENT_EVENT_KEYS =
+        "SELECT service_id, judgment_id, judgment_event_timestamp, case_number FROM judgments "
+            + "WHERE judgment_id LIKE '%" + JUDGMENT_ID_SUFFIX_1 + "'";
+
+    // Rows are fetched in chunks rather than all at once, which needs the query to run in a transaction
+    private static final int JUDGMENT_EVENT_KEYS_FETCH_SIZE = 10000;
+
+    private static final char CSV_SEPARATOR = ',';
+    private static final char CSV_QUOTE = '"';
+    private static final String CSV_ESCAPED_QUOTE = "\"\"";
+    private static final char CSV_NEW_LINE = '\n';
+
+    private static final String PARAM_IDS = "ids";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public JudgmentRepositoryCustomImpl(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<Boolean> saveAllIfAbsent(List<List<Judgment>> judgmentEvents) {
+        List<Judgment> judgments = judgmentEvents.stream().flatMap(List::stream).toList();
+
+        Map<Integer, Long> insertedIds = new HashMap<>();
+        for (int start = 0; start < judgments.size(); start += MAX_ROWS_PER_STATEMENT) {
+            int end = Math.min(start + MAX_ROWS_PER_STATEMENT, judgments.size());
+            insertIfAbsent(judgments, start, end, insertedIds);
+        }
+
+        return keepJudgmentEventsWhole(judgmentEvents, insertedIds);
+    }
+
+    @Override
+    public List<Boolean> copyAllIfAbsent(List<List<Judgment>> judgmentEvents) {
+        List<Judgment> judgments = judgmentEvents.stream().flatMap(List::stream).toList();
+        if (judgments.isEmpty()) {
+            return keepJudgmentEventsWhole(judgmentEvents, Map.of());
+        }
+
+        JdbcOperations jdbcOperations = jdbcTemplate.getJdbcOperations();
+        jdbcOperations.execute(SQL_CREATE_COPY_TABLE);
+
+        Long copied = jdbcOperations.execute((ConnectionCallback<Long>) connection -> {
+            CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+            CopyIn copyIn = copyManager.copyIn(SQL_COPY);
+            try {
+                StringBuilder row = new StringBuilder();
+                for (int ordinal = 0; ordinal < judgments.size(); ordinal++) {
+                    row.setLength(0);
+                    appendCsvValue(row, ordinal);
+                    appendCsvRow(row, judgments.get(ordinal));
+                    byte[] bytes = row.toString().getBytes(StandardCharsets.UTF_8);
+                    copyIn.writeToCopy(bytes, 0, bytes.length);
+                }
+                return copyIn.endCopy();
+            } finally {
+                if (copyIn.isActive()) {
+                    copyIn.cancelCopy();
+                }
+            }
+        });
+        log.debug("Copied [{}] judgment(s) into temporary table", copied);
+
+        Map<Integer, Long> insertedIds = new HashMap<>();
+        jdbcOperations.query(SQL_MERGE_COPY_TABLE, rs -> {
+            insertedIds.put(rs.getInt("ordinal"), rs.getLong("id"));
+        });
+        jdbcOperations.execute(SQL_DROP_COPY_TABLE);
+
+        return keepJudgmentEventsWhole(judgmentEvents, insertedIds);
+    }
+
+    /**
+     * Set the id of each inserted judgment, and delete the inserted judgments of any judgment event that was only
+     * partially inserted because some of its judgments conflicted.
+     *
+     * @param judgmentEvents - the judgments of each judgment event
+     * @param insertedIds - the id of each inserted judgment, by its ordinal in the flattened judgment events
+     * @return for each judgment event, true if its judgments were saved or false if they already exist
+     */
+    private List<Boolean> keepJudgmentEventsWhole(List<List<Judgment>> judgmentEvents, Map<Integer, Long> insertedIds) {
+        List<Boolean> saved = new ArrayList<>(judgmentEvents.size());
+        List<Long> partiallyInsertedIds = new ArrayList<>();
+        Set<Long> assignedIds = new HashSet<>();
+
+        int ordinal = 0;
+        for (List<Judgment> eventJudgments : judgmentEvents) {
+            List<Long> eventIds = new ArrayList<>(eventJudgments.size());
+            for (Judgment judgment : eventJudgments) {
+                Long id = insertedIds.get(ordinal);
+                // Judgments with the same key in one statement match the same row, which belongs to the first
+                if (id != null && assignedIds.add(id)) {
+                    judgment.setId(id);
+                    eventIds.add(id);
+                }
+                ordinal++;
+            }
+
+            boolean allInserted = eventIds.size() == eventJudgments.size();
+            if (!allInserted) {
+                // Only some of the judgments conflicted, so remove the others to keep the judgment event whole
+                partiallyInsertedIds.addAll(eventIds);
+                eventJudgments.forEach(judgment -> judgment.setId(0));
+            }
+            saved.add(allInserted);
+        }
+
+        if (!partiallyInsertedIds.isEmpty()) {
+            log.debug("Delete [{}] judgment(s) of partially inserted judgment events", partiallyInsertedIds.size());
+            jdbcTemplate.update(SQL_DELETE_BY_IDS, new MapSqlParameterSource(PARAM_IDS, partiallyInsertedIds));
+        }
+
+        return saved;
+    }
+
+    @Override
+    public void forEachJudgmentEventKey(Consumer<JudgmentEventKey> consumer) {
+        jdbcTemplate.getJdbcOperations().query(
+            connection -> {
+                PreparedStatement statement = connection.prepareStatement(SQL_SELECT_JUDGMENT_EVENT_KEYS);
+                statement.setFetchSize(JUDGMENT_EVENT_KEYS_FETCH_SIZE);
+                return statement;
+            },
+            rs -> {
+                String judgmentId = rs.getString("judgment_id");
+                consumer.accept(new JudgmentEventKey(
+                    rs.getString("service_id"),
+                    judgmentId.substring(0, judgmentId.length() - JUDGMENT_ID_SUFFIX_1.length()),
+                    rs.getTimestamp("judgment_event_timestamp").toLocalDateTime(),
+                    rs.getString("case_number")
+                ));
+            }
+        );
+    }
+
+    private void appendCsvRow(StringBuilder row, Judgment judgment) {
+        appendCsvValue(row, judgment.getServiceId());
+        appendCsvValue(row, judgment.getJudgmentId());
+        appendCsvValue(row, judgment.getJudgmentEventTimestamp());
+        appendCsvValue(row, judgment.getCourtCode());
+        appendCsvValue(row, judgment.getCcdCaseRef());
+        appendCsvValue(row, judgment.getCaseNumber());
+        appendCsvValue(row, judgment.getJudgmentAdminOrderTotal() == null
+            ? null
+            : judgment.getJudgmentAdminOrderTotal().toPlainString());
+        appendCsvValue(row, judgment.getJudgmentAdminOrderDate());
+        appendCsvValue(row, judgment.getRegistrationType());
+        appendCsvValue(row, judgment.getCancellationDate());
+        appendCsvValue(row, judgment.getDefendantName());
+        appendCsvValue(row, judgment.getDefendantAddressLine1());
+        appendCsvValue(row, judgment.getDefendantAddressLine2());
+        appendCsvValue(row, judgment.getDefendantAddressLine3());
+        appendCsvValue(row, judgment.getDefendantAddressLine4());
+        appendCsvValue(row, judgment.getDefendantAddressLine5());
+        appendCsvValue(row, judgment.getDefendantAddressPostcode());
+        appendCsvValue(row, judgment.getDefendantDob());
+        appendCsvValue(row, judgment.getReportedToRtl());
+        appendCsvValue(row, judgment.getContentHash());
+        appendCsvValue(row, judgment.getCourtEpimsId());
+        // Replace the trailing separator
+        row.setCharAt(row.length() - 1, CSV_NEW_LINE);
+    }
+
+    private void appendCsvValue(StringBuilder row, Object value) {
+        // An unquoted empty value is null, anything else is quoted so that an empty string stays empty
+        if (value != null) {
+            row.append(CSV_QUOTE)
+                .append(value.toString().replace(String.valueOf(CSV_QUOTE), CSV_ESCAPED_QUOTE))
+                .append(CSV_QUOTE);
+        }
+        row.append(CSV_SEPARATOR);
+    }
+
+    private void insertIfAbsent(List<Judgment> judgments, int start, int end, Map<Integer, Long> insertedIds) {
+        StringBuilder sql = new StringBuilder(SQL_INSERT_IF_ABSENT_START);
+        MapSqlParameterSource params = new MapSqlParameterSource();
+
+        for (int ordinal = start; ordinal < end; ordinal++) {
+            if (ordinal > start) {
+                sql.append(", ");
+            }
+            sql.append(String.format(SQL_INSERT_IF_ABSENT_ROW, ordinal));
+            addParams(params, ordinal, judgments.get(ordinal));
+        }
+        sql.append(SQL_INSERT_IF_ABSENT_END);
+
+        jdbcTemplate.query(sql.toString(), params, rs -> {
+            insertedIds.put(rs.getInt("ordinal"), rs.getLong("id"));
+        });
+    }
+
+    private void addParams(MapSqlParameterSource params, int ordinal, Judgment judgment) {
+        params.addValue("ordinal" + ordinal, ordinal, Types.INTEGER);
+        params.addValue("serviceId" + ordinal, judgment.getServiceId(), Types.VARCHAR);
+        params.addValue("judgmentId" + ordinal, judgment.getJudgmentId(), Types.VARCHAR);
+        params.addValue("judgmentEventTimestamp" + ordinal, judgment.getJudgmentEventTimestamp(), Types.TIMESTAMP);
+        params.addValue("courtCode" + ordinal, judgment.getCourtCode(), Types.VARCHAR);
+        params.addValue("ccdCaseRef" + ordinal, judgment.getCcdCaseRef(), Types.VARCHAR);
+        params.addValue("caseNumber" + ordinal, judgment.getCaseNumber(), Types.VARCHAR);
+        params.addValue("judgmentAdminOrderTotal" + ordinal, judgment.getJudgmentAdminOrderTotal(), Types.NUMERIC);
+        params.addValue("judgmentAdminOrderDate" + ordinal, judgment.getJudgmentAdminOrderDate(), Types.DATE);
+        params.addValue("registrationType" + ordinal, judgment.getRegistrationType(), Types.VARCHAR);
+        params.addValue("cancellationDate" + ordinal, judgment.getCancellationDate(), Types.DATE);
+        params.addValue("defendantName" + ordinal, judgment.getDefendantName(), Types.VARCHAR);
+        params.addValue("defendantAddressLine1" + ordinal, judgment.getDefendantAddressLine1(), Types.VARCHAR);
+        params.addValue("defendantAddressLine2" + ordinal, judgment.getDefendantAddressLine2(), Types.VARCHAR);
+        params.addValue("defendantAddressLine3" + ordinal, judgment.getDefendantAddressLine3(), Types.VARCHAR);
+        params.addValue("defendantAddressLine4" + ordinal, judgment.getDefendantAddressLine4(), Types.VARCHAR);
+        params.addValue("defendantAddressLine5" + ordinal, judgment.getDefendantAddressLine5(), Types.VARCHAR);
+        params.addValue("defendantAddressPostcode" + ordinal, judgment.getDefendantAddressPostcode(), Types.VARCHAR);
+        params.addValue("defendantDob" + ordinal, judgment.getDefendantDob(), Types.DATE);
+        params.addValue("reportedToRtl" + ordinal, judgment.getReportedToRtl(), Types.TIMESTAMP);
+        params.addValue("contentHash" + ordinal, judgment.getContentHash(), Types.VARCHAR);
+        params.addValue("courtEpimsId" + ordinal, judgment.getCourtEpimsId(), Types.VARCHAR);
+    }
+}
@@ -0,0 +1,221 @@
+package uk.gov.hmcts.reform.civil.service;
+
+import com.fasterxml.jackson.databind.DatabindException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import uk.gov.hmcts.reform.civil.domain.Judgment;
+import uk.gov.hmcts.reform.civil.exception.JudgmentEventErrorType;
+import uk.gov.hmcts.reform.civil.model.JudgmentEvent;
+import uk.gov.hmcts.reform.civil.model.JudgmentEventKey;
+import uk.gov.hmcts.reform.civil.repository.JudgmentRepository;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Bulk loads a file of historic judgment events, for migrations and backlog catch up.  Judgment events are
+ * validated and transformed as they are read, and their judgments are loaded in batches with COPY.  Judgment
+ * events that already exist are skipped and reported as conflicts, and a judgment event is only loaded if all of
+ * its judgments are.
+ */
+@Service
+@Slf4j
+public class BackfillService {
+
+    private final JudgmentEventService judgmentEventService;
+    private final RefDataService refDataService;
+    private final JudgmentEventTransformerService judgmentEventTransformerService;
+    private final JudgmentRepository judgmentRepository;
+    private final ObjectReader judgmentEventReader;
+    private final int batchSize;
+
+    @Autowired
+    public BackfillService(JudgmentEventService judgmentEventService,
+                           RefDataService refDataService,
+                           JudgmentEventTransformerService judgmentEventTransformerService,
+                           JudgmentRepository judgmentRepository,
+                           ObjectMapper objectMapper,
+                           @Value("${rtl-export.task.backfill.batchSize}") int batchSize) {
+        this.judgmentEventService = judgmentEventService;
+        this.refDataService = refDataService;
+        this.judgmentEventTransformerService = judgmentEventTransformerService;
+        this.judgmentRepository = judgmentRepository;
+        judgmentEventReader = objectMapper.readerFor(JudgmentEvent.class);
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Load the judgment events in a file of newline delimited JSON, or a JSON array.
+     *
+     * @param file - the file of judgment events
+     * @return counts of the judgment events read, rejected and conflicting, and the judgments inserted
+     */
+    public BackfillSummary backfill(Path file) {
+        log.info("Backfill judgment events from file [{}]", file);
+
+        int read = 0;
+        int rejected = 0;
+        BatchCounts counts = new BatchCounts();
+
+        Map<String, String> courtLocationCodes = new HashMap<>();
+        Set<String> unrecognisedEpimsIds = new HashSet<>();
+        Batch batch = new Batch();
+
+        try (InputStream inputStream = Files.newInputStream(file);
+             MappingIterator<JudgmentEvent> judgmentEvents = judgmentEventReader.readValues(inputStream)) {
+            while (judgmentEvents.hasNextValue()) {
+                read++;
+                JudgmentEvent judgmentEvent;
+                try {
+                    judgmentEvent = judgmentEvents.nextValue();
+                } catch (DatabindException e) {
+                    log.warn("Unable to read judgment event: {}", e.getOriginalMessage());
+                    rejected++;
+                    continue;
+                }
+
+                List<Judgment> judgments =
+                    transformJudgmentEvent(judgmentEvent, courtLocationCodes, unrecognisedEpimsIds);
+                if (judgments == null) {
+                    rejected++;
+                } else {
+                    batch.add(judgmentEvent, judgments);
+                }
+
+                if (batch.judgmentCount >= batchSize) {
+                    copyBatch(batch, counts);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to read backfill file " + file, e);
+        }
+
+        copyBatch(batch, counts);
+
+        BackfillSummary summary = new BackfillSummary(read, rejected, counts.conflicts, counts.inserted);
+        log.info("Backfill complete: [{}] judgment events read, [{}] rejected, [{}] conflicted, "
+                     + "[{}] judgments inserted",
+                 summary.read(),
+                 summary.rejected(),
+                 summary.conflicts(),
+                 summary.inserted());
+        return summary;
+    }
+
+    /**
+     * Validate and transform a judgment event.  Court codes are looked up once for each EPIMS id.
+     *
+     * @return the judgments, or null if the judgment event was rejected
+     */
+    private List<Judgment> transformJudgmentEvent(JudgmentEvent judgmentEvent,
+                                                  Map<String, String> courtLocationCodes,
+                                                  Set<String> unrecognisedEpimsIds) {
+        String courtEpimsId = judgmentEvent.getCourtEpimsId();
+        try {
+            judgmentEventService.validateJudgmentEvent(judgmentEvent);
+
+            if (unrecognisedEpimsIds.contains(courtEpimsId)) {
+                logRejected(judgmentEvent, JudgmentEventErrorType.UNRECOGNISED_EPIMS_ID);
+                return null;
+            }
+
+            String courtLocationCode =
+                courtLocationCodes.computeIfAbsent(courtEpimsId, refDataService::getCourtLocationCode);
+
+            return judgmentEventTransformerService.transformJudgmentEvent(judgmentEvent, courtLocationCode);
+        } catch (RuntimeException e) {
+            // Anything other than a judgment event error, such as RefData being unavailable, stops the backfill
+            JudgmentEventErrorType errorType = JudgmentEventErrorType.fromException(e);
+            if (errorType == null) {
+                throw e;
+            }
+            if (errorType == JudgmentEventErrorType.UNRECOGNISED_EPIMS_ID) {
+                unrecognisedEpimsIds.add(courtEpimsId);
+            }
+            logRejected(judgmentEvent, errorType);
+            return null;
+        }
+    }
+
+    private void copyBatch(Batch batch, BatchCounts counts) {
+        if (batch.judgmentEvents.isEmpty()) {
+            return;
+        }
+
+        List<Boolean> copied = judgmentRepository.copyAllIfAbsent(batch.judgments);
+
+        int inserted = 0;
+        for (int i = 0; i < copied.size(); i++) {
+            if (Boolean.TRUE.equals(copied.get(i))) {
+                inserted += batch.judgments.get(i).size();
+            } else {
+                JudgmentEventKey key = JudgmentEventKey.of(batch.judgmentEvents.get(i));
+                log.warn("Judgment event conflicts with existing judgments: serviceId [{}], judgmentId [{}], "
+                             + "timestamp [{}], caseNumber [{}]",
+                         key.serviceId(),
+                         key.judgmentId(),
+                         key.judgmentEventTimeStamp(),
+                         key.caseNumber());
+                counts.conflicts++;
+            }
+        }
+        log.debug("Backfill batch of [{}] judgments, [{}] inserted", batch.judgmentCount, inserted);
+        counts.inserted += inserted;
+        batch.clear();
+    }
+
+    private void logRejected(JudgmentEvent judgmentEvent, JudgmentEventErrorType errorType) {
+        log.warn("Judgment event rejected: serviceId [{}], judgmentId [{}], timestamp [{}], caseNumber [{}], "
+                     + "error [{}]",
+                 judgmentEvent.getServiceId(),
+                 judgmentEvent.getJudgmentId(),
+                 judgmentEvent.getJudgmentEventTimeStamp(),
+                 judgmentEvent.getCaseNumber(),
+                 errorType.getErrorMessage());
+    }
+
+    public record BackfillSummary(int read, int rejected, int conflicts, int inserted) {
+    }
+
+    /**
+     * The judgment events waiting to be loaded, with the judgments of each.
+     */
+    private static final class Batch {
+
+        private final List<JudgmentEvent> judgmentEvents = new ArrayList<>();
+        private final List<List<Judgment>> judgments = new ArrayList<>();
+        private int judgmentCount;
+
+        private void add(JudgmentEvent judgmentEvent, List<Judgment> eventJudgments) {
+            judgmentEvents.add(judgmentEvent);
+            judgments.add(eventJudgments);
+            judgmentCount += eventJudgments.size();
+        }
+
+        private void clear() {
+            judgmentEvents.clear();
+            judgments.clear();
+            judgmentCount = 0;
+        }
+    }
+
+    private static final class BatchCounts {
+
+        private int conflicts;
+        private int inserted;
+    }
+}
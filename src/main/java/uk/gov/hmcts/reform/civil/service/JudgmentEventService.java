@@ -1,55 +1,227 @@
 package uk.gov.hmcts.reform.civil.service;
 
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import uk.gov.hmcts.reform.civil.domain.Judgment;
 import uk.gov.hmcts.reform.civil.exception.DifferentNumberOfDefendantsException;
+import uk.gov.hmcts.reform.civil.exception.JudgmentEventErrorType;
+import uk.gov.hmcts.reform.civil.exception.UnrecognisedEpimsIdException;
 import uk.gov.hmcts.reform.civil.exception.UpdateExistingJudgmentException;
+import uk.gov.hmcts.reform.civil.model.JudgmentContentHash;
 import uk.gov.hmcts.reform.civil.model.JudgmentEvent;
+import uk.gov.hmcts.reform.civil.model.JudgmentEventKey;
+import uk.gov.hmcts.reform.civil.model.JudgmentEventResult;
 import uk.gov.hmcts.reform.civil.model.RegistrationType;
 import uk.gov.hmcts.reform.civil.repository.JudgmentRepository;
+import uk.gov.hmcts.reform.civil.service.audit.JudgmentEventAuditService;
+import uk.gov.hmcts.reform.civil.service.ingest.GroupCommitCoordinator;
+import uk.gov.hmcts.reform.civil.service.ingest.IngestConfigProperties;
+import uk.gov.hmcts.reform.civil.service.ingest.JudgmentEventCache;
+import uk.gov.hmcts.reform.civil.service.ingest.JudgmentEventFingerprinter;
+import uk.gov.hmcts.reform.civil.service.ingest.JudgmentEventKeyFilter;
+import uk.gov.hmcts.reform.civil.service.ingest.JudgmentEventStageMetrics;
+import uk.gov.hmcts.reform.civil.service.ingest.JudgmentEventStageMetrics.Stage;
+import uk.gov.hmcts.reform.civil.service.ingest.JudgmentEventStageMetrics.StageTimings;
 import uk.gov.hmcts.reform.civil.service.validate.JudgmentEventValidatorService;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 @Service
 @Slf4j
 public class JudgmentEventService {
 
+    private static final String ERROR_MESSAGE_MISSING_JUDGMENT_EVENT = "missing judgment event";
+
     private final JudgmentEventValidatorService judgmentEventValidatorService;
     private final RefDataService refDataService;
     private final JudgmentEventTransformerService judgmentEventTransformerService;
     private final JudgmentRepository judgmentRepository;
+    private final JudgmentEventCache judgmentEventCache;
+    private final JudgmentEventFingerprinter judgmentEventFingerprinter;
+    private final GroupCommitCoordinator groupCommitCoordinator;
+    private final JudgmentEventStageMetrics judgmentEventStageMetrics;
+    private final JudgmentEventAuditService judgmentEventAuditService;
+    private final JudgmentEventKeyFilter judgmentEventKeyFilter;
+    private final boolean replayCheck;
+
+    /**
+     * Judgment events currently being processed by this node, by judgment event key.  Concurrent submissions of
+     * the same judgment event wait for the first rather than all being processed.
+     */
+    private final ConcurrentMap<JudgmentEventKey, InFlightJudgmentEvent> inFlightJudgmentEvents =
+        new ConcurrentHashMap<>();
+
+    /** Runs RefData lookups alongside the replay check, each lookup on its own virtual thread. */
+    private final ExecutorService lookupExecutor = Executors.newVirtualThreadPerTaskExecutor();
 
     @Autowired
     public JudgmentEventService(JudgmentEventValidatorService judgmentEventValidatorService,
                                 RefDataService refDataService,
                                 JudgmentEventTransformerService judgmentEventTransformerService,
-                                JudgmentRepository judgmentRepository) {
+                                JudgmentRepository judgmentRepository,
+                                JudgmentEventCache judgmentEventCache,
+                                JudgmentEventFingerprinter judgmentEventFingerprinter,
+                                GroupCommitCoordinator groupCommitCoordinator,
+                                JudgmentEventStageMetrics judgmentEventStageMetrics,
+                                JudgmentEventAuditService judgmentEventAuditService,
+                                JudgmentEventKeyFilter judgmentEventKeyFilter,
+                                IngestConfigProperties ingestConfigProperties) {
         this.judgmentEventValidatorService = judgmentEventValidatorService;
         this.refDataService = refDataService;
         this.judgmentEventTransformerService = judgmentEventTransformerService;
         this.judgmentRepository = judgmentRepository;
+        this.judgmentEventCache = judgmentEventCache;
+        this.judgmentEventFingerprinter = judgmentEventFingerprinter;
+        this.groupCommitCoordinator = groupCommitCoordinator;
+        this.judgmentEventStageMetrics = judgmentEventStageMetrics;
+        this.judgmentEventAuditService = judgmentEventAuditService;
+        this.judgmentEventKeyFilter = judgmentEventKeyFilter;
+        replayCheck = ingestConfigProperties.isReplayCheck();
     }
 
     public void processJudgmentEvent(JudgmentEvent judgmentEvent) {
+        LocalDateTime receivedAt = LocalDateTime.now();
         log.debug("Process judgmentEvent: serviceId [{}], judgmentId [{}], timestamp [{}], caseNumber [{}]",
                   judgmentEvent.getServiceId(),
                   judgmentEvent.getJudgmentId(),
                   judgmentEvent.getJudgmentEventTimeStamp(),
                   judgmentEvent.getCaseNumber());
 
-        validateJudgmentEvent(judgmentEvent);
+        JudgmentEventKey key = JudgmentEventKey.of(judgmentEvent);
+        String fingerprint =
+            judgmentEventCache.isEnabled() ? judgmentEventFingerprinter.fingerprint(judgmentEvent) : null;
+        if (judgmentEventCache.isAccepted(key, fingerprint)) {
+            log.debug("JudgmentEvent is a replay of a recently accepted judgmentEvent");
+            judgmentEventAuditService.audit(judgmentEvent, receivedAt, JudgmentEventStageMetrics.OUTCOME_DUPLICATE);
+            return;
+        }
+
+        InFlightJudgmentEvent inFlight = new InFlightJudgmentEvent(judgmentEvent, new CompletableFuture<>());
+        InFlightJudgmentEvent concurrent;
+        while ((concurrent = inFlightJudgmentEvents.putIfAbsent(key, inFlight)) != null) {
+            // Wait for the concurrent judgment event, then answer from its result if it is the same judgment event
+            if (concurrent.accepted().join() && isSameJudgmentEvent(concurrent.judgmentEvent(), judgmentEvent)) {
+                log.debug("JudgmentEvent is the same as a concurrently accepted judgmentEvent");
+                judgmentEventAuditService.audit(judgmentEvent,
+                                                receivedAt,
+                                                JudgmentEventStageMetrics.OUTCOME_DUPLICATE);
+                return;
+            }
+        }
+
+        StageTimings stageTimings = judgmentEventStageMetrics.start();
+        String outcome = null;
+        boolean accepted = false;
+        try {
+            stageTimings.time(Stage.VALIDATE, () -> validateJudgmentEvent(judgmentEvent));
+
+            String courtLocationCode = replayCheck
+                ? getCourtLocationCodeUnlessReplay(judgmentEvent, key, stageTimings)
+                : stageTimings.time(Stage.REF_DATA, () -> getCourtLocationCode(judgmentEvent.getCourtEpimsId()));
+
+            if (courtLocationCode == null) {
+                outcome = JudgmentEventStageMetrics.OUTCOME_DUPLICATE;
+            } else {
+                boolean saved = persistJudgmentEvent(judgmentEvent, courtLocationCode, stageTimings);
+                outcome = saved
+                    ? JudgmentEventStageMetrics.OUTCOME_CREATED
+                    : JudgmentEventStageMetrics.OUTCOME_DUPLICATE;
+            }
+
+            judgmentEventCache.accepted(key, fingerprint);
+            accepted = true;
+        } catch (RuntimeException e) {
+            outcome = JudgmentEventStageMetrics.outcome(e);
+            throw e;
+        } finally {
+            inFlightJudgmentEvents.remove(key, inFlight);
+            inFlight.accepted().complete(accepted);
+            if (outcome != null) {
+                stageTimings.record(judgmentEvent.getServiceId(), outcome);
+                judgmentEventAuditService.audit(judgmentEvent, receivedAt, outcome);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        lookupExecutor.shutdownNow();
+    }
+
+    /**
+     * Process a batch of judgment events, saving the judgments of all new events together.
+     *
+     * @param judgmentEvents - the judgment events to process
+     * @return the outcome of each judgment event, in the same order as the judgment events
+     */
+    public List<JudgmentEventResult> processJudgmentEvents(List<JudgmentEvent> judgmentEvents) {
+        LocalDateTime receivedAt = LocalDateTime.now();
+        log.debug("Process batch of [{}] judgmentEvents", judgmentEvents.size());
+
+        List<JudgmentEventResult> results = new ArrayList<>(judgmentEvents.size());
+        Map<String, String> courtLocationCodes = new HashMap<>();
+        Set<String> unrecognisedEpimsIds = new HashSet<>();
+        Map<JudgmentEventKey, List<Judgment>> newJudgments = new LinkedHashMap<>();
+        Map<JudgmentEventKey, List<Integer>> newJudgmentResults = new HashMap<>();
+
+        for (JudgmentEvent judgmentEvent : judgmentEvents) {
+            if (judgmentEvent == null) {
+                results.add(JudgmentEventResult.unreadable(ERROR_MESSAGE_MISSING_JUDGMENT_EVENT));
+                continue;
+            }
+
+            try {
+                validateJudgmentEvent(judgmentEvent);
+
+                String courtLocationCode =
+                    getCourtLocationCode(judgmentEvent.getCourtEpimsId(), courtLocationCodes, unrecognisedEpimsIds);
+
+                List<Judgment> judgments = transformJudgmentEvent(judgmentEvent, courtLocationCode);
+
+                // The same judgment event may appear more than once in a batch
+                JudgmentEventKey key = JudgmentEventKey.of(judgmentEvent);
+                List<Judgment> batchJudgments = newJudgments.putIfAbsent(key, judgments);
+                if (batchJudgments != null) {
+                    checkExistingJudgments(batchJudgments, judgments);
+                }
+                newJudgmentResults.computeIfAbsent(key, k -> new ArrayList<>()).add(results.size());
+
+                results.add(JudgmentEventResult.created(judgmentEvent));
+            } catch (RuntimeException e) {
+                results.add(createErrorResult(judgmentEvent, e));
+            }
+        }
 
-        String courtLocationCode = getCourtLocationCode(judgmentEvent.getCourtEpimsId());
+        Set<Integer> duplicateResults = saveNewJudgments(judgmentEvents, newJudgments, newJudgmentResults, results);
+        auditJudgmentEvents(judgmentEvents, receivedAt, results, duplicateResults);
 
-        persistJudgmentEvent(judgmentEvent, courtLocationCode);
+        return results;
     }
 
-    private void validateJudgmentEvent(JudgmentEvent judgmentEvent) {
+    /**
+     * Check the parts of a judgment event that can be validated without calling other services or the database.
+     *
+     * @param judgmentEvent - the judgment event to validate
+     */
+    public void validateJudgmentEvent(JudgmentEvent judgmentEvent) {
         String serviceId = judgmentEvent.getServiceId();
         log.debug("Validate serviceId [{}]", serviceId);
         judgmentEventValidatorService.validateServiceId(serviceId);
@@ -60,6 +232,78 @@ public class JudgmentEventService {
         judgmentEventValidatorService.validateCancellationDate(regType, cancellationDate);
     }
 
+    /**
+     * Get the court location code of a judgment event, unless the judgment event is a replay.
+     * <p>
+     * Once the key filter has been loaded, the replay check is made first.  A judgment event the filter shows to be
+     * new is checked without reading the database, and one the filter may contain is most likely a replay, so
+     * RefData is only called once the check has found that the judgment event is not one.  Until then there is no
+     * telling whether the judgment event is a replay, so the RefData lookup, which does not depend on the replay
+     * check, is run alongside the database read and cancelled if the judgment event is a replay or the check fails.
+     *
+     * @return the court location code, or null if the judgment event is a replay
+     */
+    private String getCourtLocationCodeUnlessReplay(JudgmentEvent judgmentEvent,
+                                                    JudgmentEventKey key,
+                                                    StageTimings stageTimings) {
+        if (judgmentEventKeyFilter.isLoaded()) {
+            if (stageTimings.time(Stage.REPLAY_CHECK, () -> isReplay(judgmentEvent, key))) {
+                return null;
+            }
+            return stageTimings.time(Stage.REF_DATA, () -> getCourtLocationCode(judgmentEvent.getCourtEpimsId()));
+        }
+
+        Future<String> lookup = lookupExecutor.submit(
+            () -> stageTimings.time(Stage.REF_DATA, () -> getCourtLocationCode(judgmentEvent.getCourtEpimsId()))
+        );
+        try {
+            if (stageTimings.time(Stage.REPLAY_CHECK, () -> isReplay(judgmentEvent, key))) {
+                return null;
+            }
+            return awaitCourtLocationCode(lookup);
+        } finally {
+            // Does nothing if the lookup has already completed
+            lookup.cancel(true);
+        }
+    }
+
+    private String awaitCourtLocationCode(Future<String> lookup) {
+        try {
+            return lookup.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted waiting for court location code", e);
+        } catch (ExecutionException e) {
+            // Fail in the same way as a lookup made on the calling thread
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Get the court location code of an EPIMS id, remembering both recognised and unrecognised ids for the rest of the
+     * batch so that RefData is called at most once for each EPIMS id in a batch.
+     */
+    private String getCourtLocationCode(String courtEpimsId,
+                                        Map<String, String> courtLocationCodes,
+                                        Set<String> unrecognisedEpimsIds) {
+        if (unrecognisedEpimsIds.contains(courtEpimsId)) {
+            throw new UnrecognisedEpimsIdException();
+        }
+
+        try {
+            return courtLocationCodes.computeIfAbsent(courtEpimsId, this::getCourtLocationCode);
+        } catch (UnrecognisedEpimsIdException e) {
+            unrecognisedEpimsIds.add(courtEpimsId);
+            throw e;
+        }
+    }
+
     private String getCourtLocationCode(String courtEpimsId) {
         log.debug("Get courtLocationCode for epimsId [{}]", courtEpimsId);
         return refDataService.getCourtLocationCode(courtEpimsId);
@@ -75,43 +319,263 @@ public class JudgmentEventService {
         return judgmentEventTransformerService.transformJudgmentEvent(judgmentEvent, courtLocationCode);
     }
 
-    private void persistJudgmentEvent(JudgmentEvent judgmentEvent, String courtLocationCode) {
-        String serviceId = judgmentEvent.getServiceId();
-        String judgmentId = judgmentEvent.getJudgmentId();
-        LocalDateTime judgmentEventTimestamp = judgmentEvent.getJudgmentEventTimeStamp();
-        String caseNumber = judgmentEvent.getCaseNumber();
+    /**
+     * Save the judgments of the new judgment events of a batch, replacing the result of any judgment event that
+     * conflicts with judgments already saved.
+     *
+     * @return the indexes of the results of judgment events whose judgments had already been saved, by an earlier
+     *     request or earlier in the batch
+     */
+    private Set<Integer> saveNewJudgments(List<JudgmentEvent> judgmentEvents,
+                                          Map<JudgmentEventKey, List<Judgment>> newJudgments,
+                                          Map<JudgmentEventKey, List<Integer>> newJudgmentResults,
+                                          List<JudgmentEventResult> results) {
+        Set<Integer> duplicateResults = new HashSet<>();
+        if (newJudgments.isEmpty()) {
+            return duplicateResults;
+        }
+
+        log.debug("Save judgment(s) for [{}] judgmentEvents", newJudgments.size());
+        List<JudgmentEventKey> keys = new ArrayList<>(newJudgments.keySet());
+        List<Boolean> saved = judgmentRepository.saveAllIfAbsent(new ArrayList<>(newJudgments.values()));
+
+        for (int i = 0; i < keys.size(); i++) {
+            JudgmentEventKey key = keys.get(i);
+            List<Integer> resultIndexes = newJudgmentResults.get(key);
+            judgmentEventKeyFilter.put(key);
+            if (saved.get(i)) {
+                // Repeats of the judgment event later in the batch are duplicates of the first
+                duplicateResults.addAll(resultIndexes.subList(1, resultIndexes.size()));
+            } else {
+                try {
+                    checkSavedJudgments(key, newJudgments.get(key));
+                    duplicateResults.addAll(resultIndexes);
+                } catch (RuntimeException e) {
+                    for (int resultIndex : resultIndexes) {
+                        results.set(resultIndex, createErrorResult(judgmentEvents.get(resultIndex), e));
+                    }
+                }
+            }
+        }
+
+        return duplicateResults;
+    }
+
+    private void auditJudgmentEvents(List<JudgmentEvent> judgmentEvents,
+                                     LocalDateTime receivedAt,
+                                     List<JudgmentEventResult> results,
+                                     Set<Integer> duplicateResults) {
+        for (int i = 0; i < judgmentEvents.size(); i++) {
+            JudgmentEventResult result = results.get(i);
+            String outcome;
+            if (duplicateResults.contains(i)) {
+                outcome = JudgmentEventStageMetrics.OUTCOME_DUPLICATE;
+            } else if (result.getStatus() == HttpStatus.CREATED.value()) {
+                outcome = JudgmentEventStageMetrics.OUTCOME_CREATED;
+            } else {
+                outcome = result.getErrorCode() == null
+                    ? JudgmentEventStageMetrics.OUTCOME_ERROR
+                    : result.getErrorCode();
+            }
+            judgmentEventAuditService.audit(judgmentEvents.get(i), receivedAt, outcome);
+        }
+    }
+
+    private void checkSavedJudgments(JudgmentEventKey key, List<Judgment> judgments) {
+        log.debug("Existing judgment(s), check content hashes against judgment event");
+        checkSavedJudgments(key, findSavedContentHashes(key), judgments);
+    }
+
+    private List<JudgmentContentHash> findSavedContentHashes(JudgmentEventKey key) {
+        return judgmentRepository.findContentHashesByEventDetails(key.serviceId(),
+                                                                  key.judgmentId(),
+                                                                  key.judgmentEventTimeStamp(),
+                                                                  key.caseNumber());
+    }
+
+    private void checkSavedJudgments(JudgmentEventKey key,
+                                     List<JudgmentContentHash> existingContentHashes,
+                                     List<Judgment> judgments) {
+        if (existingContentHashes.stream().anyMatch(existing -> existing.contentHash() == null)) {
+            // Judgments saved before content hashes were introduced have to be compared field by field
+            List<Judgment> existingJudgments = judgmentRepository.findByEventDetails(key.serviceId(),
+                                                                                     key.judgmentId(),
+                                                                                     key.judgmentEventTimeStamp(),
+                                                                                     key.caseNumber());
+            checkExistingJudgments(existingJudgments, judgments);
+            return;
+        }
+
+        if (existingContentHashes.size() != judgments.size()) {
+            throw new DifferentNumberOfDefendantsException();
+        }
+
+        int index = 0;
+        for (JudgmentContentHash existingContentHash : existingContentHashes) {
+            // As with equalsJudgment, a judgment that has been reported to RTL is never matched
+            if (!existingContentHash.contentHash().equals(judgments.get(index).getContentHash())
+                || existingContentHash.reportedToRtl() != null) {
+                throw new UpdateExistingJudgmentException();
+            }
+            index++;
+        }
+        log.debug("Existing judgment(s) match judgment event");
+    }
+
+    private boolean isSameJudgmentEvent(JudgmentEvent judgmentEvent, JudgmentEvent otherJudgmentEvent) {
+        return judgmentEventFingerprinter.fingerprint(judgmentEvent)
+            .equals(judgmentEventFingerprinter.fingerprint(otherJudgmentEvent));
+    }
 
+    /**
+     * Transform a judgment event and save its judgments, unless the same judgments have already been saved.
+     *
+     * @return true if the judgments were saved or false if the judgment event had already been saved
+     */
+    private boolean persistJudgmentEvent(JudgmentEvent judgmentEvent,
+                                         String courtLocationCode,
+                                         StageTimings stageTimings) {
         log.debug("Persist judgmentEvent: serviceId [{}], judgmentId [{}], timestamp [{}], caseNumber [{}]",
-                  serviceId,
-                  judgmentId,
-                  judgmentEventTimestamp,
-                  caseNumber);
+                  judgmentEvent.getServiceId(),
+                  judgmentEvent.getJudgmentId(),
+                  judgmentEvent.getJudgmentEventTimeStamp(),
+                  judgmentEvent.getCaseNumber());
 
-        List<Judgment> judgments = transformJudgmentEvent(judgmentEvent, courtLocationCode);
+        List<Judgment> judgments =
+            stageTimings.time(Stage.TRANSFORM, () -> transformJudgmentEvent(judgmentEvent, courtLocationCode));
 
-        List<Judgment> existingJudgments =
-            judgmentRepository.findByEventDetails(serviceId, judgmentId, judgmentEventTimestamp, caseNumber);
+        return stageTimings.time(Stage.PERSIST, () -> saveJudgments(judgmentEvent, judgments));
+    }
 
-        if (existingJudgments.isEmpty()) {
-            log.debug("No existing judgment(s), save judgment event");
-            judgmentRepository.saveAll(judgments);
+    private boolean saveJudgments(JudgmentEvent judgmentEvent, List<Judgment> judgments) {
+        JudgmentEventKey key = JudgmentEventKey.of(judgmentEvent);
+        // The replay check has already looked for saved judgments
+        if (!replayCheck && isAlreadySaved(key, judgments)) {
+            return false;
+        }
+
+        boolean saved = groupCommitCoordinator.isEnabled()
+            ? groupCommitCoordinator.saveIfAbsent(judgments)
+            : judgmentRepository.saveAllIfAbsent(List.of(judgments)).getFirst();
+        judgmentEventKeyFilter.put(key);
+
+        if (saved) {
+            log.debug("No existing judgment(s), judgment event saved");
         } else {
-            log.debug("Existing judgment(s), check against judgment event");
-            if (existingJudgments.size() == judgments.size()) {
-                int index = 0;
-                Judgment judgment;
-
-                for (Judgment existingJudgment : existingJudgments) {
-                    judgment = judgments.get(index);
-                    if (!existingJudgment.equalsJudgment(judgment)) {
-                        throw new UpdateExistingJudgmentException();
-                    }
-                    index++;
+            checkSavedJudgments(key, judgments);
+        }
+        return saved;
+    }
+
+    /**
+     * Check if a judgment event is a replay of a saved judgment event, without calling RefData.  The judgment event is
+     * a replay if it has the same court EPIMS id as the saved judgments and, transformed using their court code, has
+     * the same content hashes.  Saved judgments without a court EPIMS id or content hash are never matched, nor are
+     * judgments that have been reported to RTL.  Any difference is left to be found by processing the judgment event
+     * as normal.
+     *
+     * @return true if the judgment event is a replay or false if it has to be processed
+     */
+    private boolean isReplay(JudgmentEvent judgmentEvent, JudgmentEventKey key) {
+        boolean keyFilterLoaded = judgmentEventKeyFilter.isLoaded();
+        if (keyFilterLoaded && !judgmentEventKeyFilter.mayContain(key)) {
+            return false;
+        }
+
+        List<JudgmentContentHash> savedContentHashes = findSavedContentHashes(key);
+        if (keyFilterLoaded) {
+            judgmentEventKeyFilter.recordLookup(!savedContentHashes.isEmpty());
+        }
+        if (savedContentHashes.isEmpty()) {
+            return false;
+        }
+
+        String courtEpimsId = judgmentEvent.getCourtEpimsId();
+        boolean replayable = savedContentHashes.stream().allMatch(
+            saved -> saved.contentHash() != null
+                && saved.reportedToRtl() == null
+                && saved.courtEpimsId() != null
+                && saved.courtEpimsId().equals(courtEpimsId)
+        );
+        if (!replayable) {
+            log.debug("Saved judgment(s) found that cannot be matched without RefData");
+            return false;
+        }
+
+        List<Judgment> judgments = transformJudgmentEvent(judgmentEvent, savedContentHashes.getFirst().courtCode());
+        boolean replay = isSameContentHashes(savedContentHashes, judgments);
+        log.debug("Saved judgment(s) found, judgment event is a replay [{}]", replay);
+        return replay;
+    }
+
+    private boolean isSameContentHashes(List<JudgmentContentHash> savedContentHashes, List<Judgment> judgments) {
+        if (savedContentHashes.size() != judgments.size()) {
+            return false;
+        }
+
+        for (int index = 0; index < savedContentHashes.size(); index++) {
+            if (!savedContentHashes.get(index).contentHash().equals(judgments.get(index).getContentHash())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Check for saved judgments before trying to save a judgment event that the key filter says may be a duplicate.
+     *
+     * @return true if the judgment event has already been saved or false if it has to be saved
+     */
+    private boolean isAlreadySaved(JudgmentEventKey key, List<Judgment> judgments) {
+        if (!judgmentEventKeyFilter.mayContain(key)) {
+            return false;
+        }
+
+        List<JudgmentContentHash> existingContentHashes = findSavedContentHashes(key);
+        judgmentEventKeyFilter.recordLookup(!existingContentHashes.isEmpty());
+        if (existingContentHashes.isEmpty()) {
+            return false;
+        }
+
+        log.debug("Key filter match, check content hashes against judgment event");
+        checkSavedJudgments(key, existingContentHashes, judgments);
+        return true;
+    }
+
+    private void checkExistingJudgments(List<Judgment> existingJudgments, List<Judgment> judgments) {
+        log.debug("Existing judgment(s), check against judgment event");
+        if (existingJudgments.size() == judgments.size()) {
+            int index = 0;
+            Judgment judgment;
+
+            for (Judgment existingJudgment : existingJudgments) {
+                judgment = judgments.get(index);
+                if (!existingJudgment.equalsJudgment(judgment)) {
+                    throw new UpdateExistingJudgmentException();
                 }
-                log.debug("Existing judgment(s) match judgment event");
-            } else {
-                throw new DifferentNumberOfDefendantsException();
+                index++;
             }
+            log.debug("Existing judgment(s) match judgment event");
+        } else {
+            throw new DifferentNumberOfDefendantsException();
         }
     }
+
+    private JudgmentEventResult createErrorResult(JudgmentEvent judgmentEvent, RuntimeException e) {
+        JudgmentEventErrorType errorType = JudgmentEventErrorType.fromException(e);
+        if (errorType == null) {
+            log.error("Failed to process judgmentEvent: "
+                          + "serviceId [{}], judgmentId [{}], timestamp [{}], caseNumber [{}]",
+                      judgmentEvent.getServiceId(),
+                      judgmentEvent.getJudgmentId(),
+                      judgmentEvent.getJudgmentEventTimeStamp(),
+                      judgmentEvent.getCaseNumber(),
+                      e);
+            return JudgmentEventResult.internalError(judgmentEvent);
+        }
+        return JudgmentEventResult.error(judgmentEvent, errorType.toJudgmentEventError());
+    }
+
+    private record InFlightJudgmentEvent(JudgmentEvent judgmentEvent, CompletableFuture<Boolean> accepted) {
+    }
 }
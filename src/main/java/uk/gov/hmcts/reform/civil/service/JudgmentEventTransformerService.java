@@ -84,6 +84,9 @@ public class JudgmentEventTransformerService {
 
         judgment.setDefendantDob(defendant.getDefendantDateOfBirth());
 
+        judgment.setContentHash(judgment.calculateContentHash());
+        judgment.setCourtEpimsId(judgmentEvent.getCourtEpimsId());
+
         return judgment;
     }
 
@@ -0,0 +1,21 @@
+package uk.gov.hmcts.reform.civil.service.audit;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "rtl-export.ingest.audit")
+@Getter
+@Setter
+public class AuditConfigProperties {
+
+    private boolean enabled;
+
+    private int queueCapacity;
+
+    private int batchSize;
+
+    private long flushInterval;
+}
@@ -0,0 +1,176 @@
+package uk.gov.hmcts.reform.civil.service.audit;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import uk.gov.hmcts.reform.civil.domain.JudgmentEventAudit;
+import uk.gov.hmcts.reform.civil.model.JudgmentEvent;
+import uk.gov.hmcts.reform.civil.repository.JudgmentEventAuditRepository;
+
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps an append-only audit of every judgment event processed, with the time it was received and its outcome.
+ * Audit records are queued and written in batches by a background thread, so auditing never blocks or fails the
+ * processing of a judgment event.  When the queue is full, or a batch cannot be written, the audit records are
+ * dropped and counted by the {@code rtl.export.ingest.audit.dropped} counter.
+ */
+@Service
+@Slf4j
+public class JudgmentEventAuditService {
+
+    static final String METRIC_QUEUE_DEPTH = "rtl.export.ingest.audit.queue.depth";
+    static final String METRIC_DROPPED = "rtl.export.ingest.audit.dropped";
+    static final String TAG_REASON = "reason";
+    static final String REASON_QUEUE_FULL = "queueFull";
+    static final String REASON_WRITE_FAILED = "writeFailed";
+
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 30;
+
+    private final JudgmentEventAuditRepository judgmentEventAuditRepository;
+    private final ObjectWriter judgmentEventWriter;
+    private final AuditConfigProperties auditConfigProperties;
+
+    private final BlockingQueue<AuditRecord> auditRecords;
+    private final Counter queueFullCounter;
+    private final Counter writeFailedCounter;
+
+    private ScheduledExecutorService executorService;
+
+    @Autowired
+    public JudgmentEventAuditService(JudgmentEventAuditRepository judgmentEventAuditRepository,
+                                     ObjectMapper objectMapper,
+                                     AuditConfigProperties auditConfigProperties,
+                                     MeterRegistry meterRegistry) {
+        this.judgmentEventAuditRepository = judgmentEventAuditRepository;
+        this.auditConfigProperties = auditConfigProperties;
+        judgmentEventWriter = objectMapper.writerFor(JudgmentEvent.class);
+
+        auditRecords = new ArrayBlockingQueue<>(Math.max(auditConfigProperties.getQueueCapacity(), 1));
+        Gauge.builder(METRIC_QUEUE_DEPTH, auditRecords, Collection::size)
+            .description("Number of judgment event audit records waiting to be written")
+            .register(meterRegistry);
+        queueFullCounter = Counter.builder(METRIC_DROPPED)
+            .description("Number of judgment event audit records dropped")
+            .tag(TAG_REASON, REASON_QUEUE_FULL)
+            .register(meterRegistry);
+        writeFailedCounter = Counter.builder(METRIC_DROPPED)
+            .description("Number of judgment event audit records dropped")
+            .tag(TAG_REASON, REASON_WRITE_FAILED)
+            .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!auditConfigProperties.isEnabled()) {
+            log.debug("Judgment event audit writer not started");
+            return;
+        }
+
+        log.info("Starting judgment event audit writer: queueCapacity [{}], batchSize [{}]",
+                 auditConfigProperties.getQueueCapacity(),
+                 auditConfigProperties.getBatchSize());
+        executorService = Executors.newSingleThreadScheduledExecutor();
+        long flushInterval = auditConfigProperties.getFlushInterval();
+        executorService.scheduleWithFixedDelay(this::writeAuditRecords,
+                                               flushInterval,
+                                               flushInterval,
+                                               TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (executorService != null) {
+            log.info("Stopping judgment event audit writer");
+            executorService.shutdown();
+            if (!executorService.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                executorService.shutdownNow();
+            }
+            // Write anything queued since the last flush
+            writeAuditRecords();
+        }
+    }
+
+    /**
+     * Queue a judgment event to be audited.  Returns immediately, dropping the audit record if the queue is full.
+     *
+     * @param judgmentEvent - the judgment event received
+     * @param receivedAt - when the judgment event was received
+     * @param outcome - the outcome of processing the judgment event
+     */
+    public void audit(JudgmentEvent judgmentEvent, LocalDateTime receivedAt, String outcome) {
+        if (!auditConfigProperties.isEnabled() || judgmentEvent == null) {
+            return;
+        }
+
+        if (!auditRecords.offer(new AuditRecord(judgmentEvent, receivedAt, outcome))) {
+            queueFullCounter.increment();
+            log.debug("Audit queue full, audit record dropped: serviceId [{}], judgmentId [{}]",
+                      judgmentEvent.getServiceId(),
+                      judgmentEvent.getJudgmentId());
+        }
+    }
+
+    /**
+     * Write all queued audit records, in batches.
+     */
+    void writeAuditRecords() {
+        int batchSize = Math.max(auditConfigProperties.getBatchSize(), 1);
+        List<AuditRecord> batch = new ArrayList<>(batchSize);
+
+        while (auditRecords.drainTo(batch, batchSize) > 0) {
+            writeBatch(batch);
+            batch.clear();
+        }
+    }
+
+    private void writeBatch(List<AuditRecord> batch) {
+        try {
+            judgmentEventAuditRepository.saveAll(batch.stream().map(this::toJudgmentEventAudit).toList());
+            log.debug("Wrote [{}] judgment event audit records", batch.size());
+        } catch (RuntimeException e) {
+            writeFailedCounter.increment(batch.size());
+            log.error("Failed to write [{}] judgment event audit records", batch.size(), e);
+        }
+    }
+
+    private JudgmentEventAudit toJudgmentEventAudit(AuditRecord auditRecord) {
+        JudgmentEvent judgmentEvent = auditRecord.judgmentEvent();
+
+        JudgmentEventAudit judgmentEventAudit = new JudgmentEventAudit();
+        judgmentEventAudit.setServiceId(judgmentEvent.getServiceId());
+        judgmentEventAudit.setJudgmentId(judgmentEvent.getJudgmentId());
+        judgmentEventAudit.setJudgmentEventTimestamp(judgmentEvent.getJudgmentEventTimeStamp());
+        judgmentEventAudit.setCaseNumber(judgmentEvent.getCaseNumber());
+        judgmentEventAudit.setReceivedAt(auditRecord.receivedAt());
+        judgmentEventAudit.setOutcome(auditRecord.outcome());
+
+        try {
+            judgmentEventAudit.setPayload(judgmentEventWriter.writeValueAsString(judgmentEvent));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return judgmentEventAudit;
+    }
+
+    private record AuditRecord(JudgmentEvent judgmentEvent, LocalDateTime receivedAt, String outcome) {
+    }
+}
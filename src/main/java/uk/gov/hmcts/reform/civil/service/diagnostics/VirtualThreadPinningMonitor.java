@@ -0,0 +1,89 @@
+package uk.gov.hmcts.reform.civil.service.diagnostics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Streams JFR virtual thread pinned events while virtual threads are enabled.  Each pinned event is recorded by the
+ * {@code rtl.export.virtual.thread.pinned} timer and logged with the top of the stack that held the carrier thread,
+ * so that the code responsible can be found.  The events are also available to any JFR recording of the process.
+ */
+@Component
+@Slf4j
+public class VirtualThreadPinningMonitor {
+
+    private static final String EVENT_VIRTUAL_THREAD_PINNED = "jdk.VirtualThreadPinned";
+
+    private static final String METRIC_PINNED = "rtl.export.virtual.thread.pinned";
+    private static final int LOGGED_STACK_DEPTH = 5;
+
+    private final boolean enabled;
+    private final long pinnedThreshold;
+    private final Timer pinnedTimer;
+
+    private RecordingStream recordingStream;
+
+    @Autowired
+    public VirtualThreadPinningMonitor(@Value("${spring.threads.virtual.enabled}") boolean enabled,
+                                       @Value("${rtl-export.virtualThreads.pinnedThreshold}") long pinnedThreshold,
+                                       MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.pinnedThreshold = pinnedThreshold;
+        pinnedTimer = Timer.builder(METRIC_PINNED)
+            .description("Time virtual threads spent pinned to their carrier thread")
+            .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (enabled) {
+            log.info("Starting virtual thread pinning monitor: pinnedThreshold [{}ms]", pinnedThreshold);
+            recordingStream = new RecordingStream();
+            recordingStream.enable(EVENT_VIRTUAL_THREAD_PINNED)
+                .withThreshold(Duration.ofMillis(pinnedThreshold))
+                .withStackTrace();
+            recordingStream.onEvent(EVENT_VIRTUAL_THREAD_PINNED, this::pinned);
+            recordingStream.startAsync();
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (recordingStream != null) {
+            recordingStream.close();
+        }
+    }
+
+    void pinned(RecordedEvent event) {
+        Duration duration = event.getDuration();
+        pinnedTimer.record(duration);
+        log.warn("Virtual thread pinned for [{}ms] at [{}]", duration.toMillis(), topOfStack(event.getStackTrace()));
+    }
+
+    private String topOfStack(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "unknown";
+        }
+
+        List<RecordedFrame> frames = stackTrace.getFrames();
+        return frames.stream()
+            .limit(LOGGED_STACK_DEPTH)
+            .map(frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                + ":" + frame.getLineNumber())
+            .collect(Collectors.joining(" <- "));
+    }
+}
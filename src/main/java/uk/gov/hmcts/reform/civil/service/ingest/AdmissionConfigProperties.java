@@ -0,0 +1,33 @@
+package uk.gov.hmcts.reform.civil.service.ingest;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Component
+@ConfigurationProperties(prefix = "rtl-export.ingest.admission")
+@Getter
+@Setter
+public class AdmissionConfigProperties {
+
+    private boolean enabled;
+
+    private int defaultLimit;
+
+    /** In-flight limits for individual serviceIds, overriding the default limit. */
+    private Map<String, Integer> limits = new HashMap<>();
+
+    /** Number of requests that may wait for a serviceId that already has its limit of requests in flight. */
+    private int queueLimit;
+
+    /** Milliseconds a request may wait for a serviceId before it is rejected. */
+    private long queueTimeout;
+
+    private int maxThreadsAwaitingConnection;
+
+    private long retryAfter;
+}
@@ -0,0 +1,212 @@
+package uk.gov.hmcts.reform.civil.service.ingest;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+
+/**
+ * Ingests files of judgment events dropped into an inbox directory.  Files may contain newline delimited JSON
+ * judgment events (.ndjson) or a JSON array of judgment events (.json).  Files should be written under another
+ * name and then renamed into the inbox, so that a file is never read before it is complete.
+ * <p>
+ * Once a file has been processed it is moved to the done directory, alongside a results file containing the
+ * result of each judgment event as newline delimited JSON.  A file that could not be processed is moved to the
+ * failed directory, with the results of any judgment events that were processed before the failure.
+ * </p>
+ */
+@Component
+@Slf4j
+public class DirectoryJudgmentEventSource implements JudgmentEventSource {
+
+    private static final String INBOX_DIRECTORY = "inbox";
+    private static final String DONE_DIRECTORY = "done";
+    private static final String FAILED_DIRECTORY = "failed";
+
+    private static final String NDJSON_EXTENSION = ".ndjson";
+    private static final String JSON_EXTENSION = ".json";
+    private static final String RESULTS_SUFFIX = ".results.ndjson";
+    private static final String PART_SUFFIX = ".part";
+
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 30;
+
+    private final JudgmentEventStreamService judgmentEventStreamService;
+    private final DirectorySourceConfigProperties directorySourceConfigProperties;
+
+    private ExecutorService executorService;
+
+    @Autowired
+    public DirectoryJudgmentEventSource(JudgmentEventStreamService judgmentEventStreamService,
+                                        DirectorySourceConfigProperties directorySourceConfigProperties) {
+        this.judgmentEventStreamService = judgmentEventStreamService;
+        this.directorySourceConfigProperties = directorySourceConfigProperties;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return directorySourceConfigProperties.isEnabled();
+    }
+
+    @Override
+    @PostConstruct
+    public void start() {
+        if (!isEnabled()) {
+            log.debug("Directory source not started");
+            return;
+        }
+
+        createDirectories();
+
+        log.info("Starting directory source [{}]", directorySourceConfigProperties.getPath());
+        executorService = Executors.newSingleThreadExecutor();
+        executorService.execute(this::runWatcher);
+    }
+
+    @Override
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (executorService != null) {
+            log.info("Stopping directory source");
+            // Interrupts the wait for new files, a file being processed is left in the inbox if not finished
+            executorService.shutdownNow();
+            executorService.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * Process every complete file currently in the inbox, oldest name first.  A file that cannot be moved out of the
+     * inbox once processed is left there and processed again the next time the inbox is processed.
+     *
+     * @return the number of files processed
+     */
+    public int processInbox() {
+        List<Path> files;
+        try (Stream<Path> inbox = Files.list(getDirectory(INBOX_DIRECTORY))) {
+            files = inbox.filter(this::isJudgmentEventFile).sorted().toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to list directory source inbox", e);
+        }
+
+        int processed = 0;
+        for (Path file : files) {
+            if (Thread.currentThread().isInterrupted()) {
+                break;
+            }
+            try {
+                processFile(file);
+                processed++;
+            } catch (RuntimeException e) {
+                log.error("Judgment event file [{}] left in inbox", file.getFileName(), e);
+            }
+        }
+        return processed;
+    }
+
+    /**
+     * Watch the inbox until the source is stopped, watching it again after a delay if the watch fails.
+     */
+    private void runWatcher() {
+        while (!Thread.currentThread().isInterrupted()) {
+            watchInbox();
+            if (Thread.currentThread().isInterrupted()) {
+                break;
+            }
+
+            log.warn("Directory source will restart in [{}ms]", directorySourceConfigProperties.getRestartDelay());
+            try {
+                Thread.sleep(directorySourceConfigProperties.getRestartDelay());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void watchInbox() {
+        try (WatchService watchService = FileSystems.getDefault().newWatchService()) {
+            getDirectory(INBOX_DIRECTORY).register(watchService, ENTRY_CREATE, ENTRY_MODIFY);
+
+            // Files dropped while the source was not running
+            processInbox();
+
+            while (!Thread.currentThread().isInterrupted()) {
+                WatchKey watchKey = watchService.take();
+                // The inbox is listed again rather than relying on individual events, which may overflow
+                watchKey.pollEvents();
+                watchKey.reset();
+                processInbox();
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException | RuntimeException e) {
+            log.error("Directory source failed", e);
+        }
+    }
+
+    private void processFile(Path file) {
+        String fileName = file.getFileName().toString();
+        log.info("Processing judgment event file [{}]", fileName);
+
+        Path resultsPart = getDirectory(DONE_DIRECTORY).resolve(fileName + RESULTS_SUFFIX + PART_SUFFIX);
+        int chunkSize = directorySourceConfigProperties.getChunkSize();
+        String targetDirectory;
+        try (InputStream inputStream = Files.newInputStream(file);
+             OutputStream outputStream = Files.newOutputStream(resultsPart)) {
+            int count = judgmentEventStreamService.processJudgmentEvents(inputStream, outputStream, chunkSize);
+            log.info("Processed [{}] judgment events from file [{}]", count, fileName);
+            targetDirectory = DONE_DIRECTORY;
+        } catch (IOException | RuntimeException e) {
+            log.error("Failed to process judgment event file [{}]", fileName, e);
+            targetDirectory = FAILED_DIRECTORY;
+        }
+
+        try {
+            Path target = getDirectory(targetDirectory);
+            if (Files.exists(resultsPart)) {
+                Files.move(resultsPart, target.resolve(fileName + RESULTS_SUFFIX), StandardCopyOption.REPLACE_EXISTING);
+            }
+            Files.move(file, target.resolve(fileName), StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to move processed judgment event file " + fileName, e);
+        }
+    }
+
+    private boolean isJudgmentEventFile(Path file) {
+        String fileName = file.getFileName().toString();
+        return Files.isRegularFile(file) && (fileName.endsWith(NDJSON_EXTENSION) || fileName.endsWith(JSON_EXTENSION));
+    }
+
+    private void createDirectories() {
+        try {
+            for (String directory : List.of(INBOX_DIRECTORY, DONE_DIRECTORY, FAILED_DIRECTORY)) {
+                Files.createDirectories(getDirectory(directory));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to create directory source directories", e);
+        }
+    }
+
+    private Path getDirectory(String directory) {
+        return Path.of(directorySourceConfigProperties.getPath(), directory);
+    }
+}
@@ -0,0 +1,22 @@
+package uk.gov.hmcts.reform.civil.service.ingest;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "rtl-export.ingest.directory")
+@Getter
+@Setter
+public class DirectorySourceConfigProperties {
+
+    private boolean enabled;
+
+    private String path;
+
+    private int chunkSize;
+
+    /** Milliseconds to wait before watching the inbox again after the watch fails. */
+    private long restartDelay;
+}
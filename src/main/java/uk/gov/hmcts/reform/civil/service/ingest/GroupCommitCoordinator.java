@@ -0,0 +1,176 @@
+package uk.gov.hmcts.reform.civil.service.ingest;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.civil.domain.Judgment;
+import uk.gov.hmcts.reform.civil.repository.JudgmentRepository;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Groups the saves of concurrent single judgment events into one statement and transaction.  A save waits for up
+ * to the configured window, or until the configured number of judgment events are waiting, before all waiting
+ * judgment events are saved together.  Each caller then receives the outcome for its own judgment event.  If the
+ * group is rejected by the database because of its data then its judgment events are saved one at a time, so that a
+ * judgment event that cannot be saved does not fail the other callers in its group.  Any other failure, such as the
+ * database being unavailable, fails the whole group at once rather than holding up later groups while each
+ * judgment event fails in turn.
+ */
+@Component
+@Slf4j
+public class GroupCommitCoordinator {
+
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 30;
+
+    private final JudgmentRepository judgmentRepository;
+    private final GroupCommitConfigProperties groupCommitConfigProperties;
+
+    private final Deque<PendingSave> pendingSaves = new ArrayDeque<>();
+    private final ReentrantLock pendingSavesLock = new ReentrantLock();
+
+    private ScheduledExecutorService executorService;
+
+    @Autowired
+    public GroupCommitCoordinator(JudgmentRepository judgmentRepository,
+                                  GroupCommitConfigProperties groupCommitConfigProperties) {
+        this.judgmentRepository = judgmentRepository;
+        this.groupCommitConfigProperties = groupCommitConfigProperties;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (isEnabled()) {
+            log.info("Starting group commit: window [{}ms], maxBatchSize [{}]",
+                     groupCommitConfigProperties.getWindow(),
+                     groupCommitConfigProperties.getMaxBatchSize());
+            executorService = Executors.newSingleThreadScheduledExecutor();
+        }
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (executorService != null) {
+            log.info("Stopping group commit");
+            // Flushes that have already been scheduled still run, so no waiting save is abandoned
+            executorService.shutdown();
+            if (!executorService.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                executorService.shutdownNow();
+            }
+        }
+    }
+
+    public boolean isEnabled() {
+        return groupCommitConfigProperties.isEnabled() && groupCommitConfigProperties.getMaxBatchSize() > 0;
+    }
+
+    /**
+     * Save the judgments of a judgment event together with those of any other judgment events saved concurrently.
+     * Blocks until the group containing the judgment event has been committed.
+     *
+     * @param judgments - the judgments of the judgment event
+     * @return true if the judgments were saved or false if judgments already exist for the judgment event
+     */
+    public boolean saveIfAbsent(List<Judgment> judgments) {
+        PendingSave pendingSave = new PendingSave(judgments, new CompletableFuture<>());
+
+        pendingSavesLock.lock();
+        try {
+            pendingSaves.add(pendingSave);
+            if (pendingSaves.size() >= groupCommitConfigProperties.getMaxBatchSize()) {
+                executorService.execute(this::flush);
+            } else if (pendingSaves.size() == 1) {
+                executorService.schedule(this::flush, groupCommitConfigProperties.getWindow(), TimeUnit.MILLISECONDS);
+            }
+        } finally {
+            pendingSavesLock.unlock();
+        }
+
+        try {
+            return pendingSave.saved().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Save a group of waiting judgment events and complete the save of each.
+     */
+    void flush() {
+        List<PendingSave> group = new ArrayList<>();
+
+        pendingSavesLock.lock();
+        try {
+            int maxBatchSize = groupCommitConfigProperties.getMaxBatchSize();
+            while (!pendingSaves.isEmpty() && group.size() < maxBatchSize) {
+                group.add(pendingSaves.poll());
+            }
+
+            // Judgment events that arrived while the group was full did not schedule a flush of their own
+            if (pendingSaves.size() >= maxBatchSize) {
+                executorService.execute(this::flush);
+            } else if (!pendingSaves.isEmpty()) {
+                executorService.schedule(this::flush, groupCommitConfigProperties.getWindow(), TimeUnit.MILLISECONDS);
+            }
+        } finally {
+            pendingSavesLock.unlock();
+        }
+
+        if (group.isEmpty()) {
+            return;
+        }
+
+        log.debug("Group commit of [{}] judgment events", group.size());
+
+        try {
+            List<Boolean> saved =
+                judgmentRepository.saveAllIfAbsent(group.stream().map(PendingSave::judgments).toList());
+            int index = 0;
+            for (PendingSave pendingSave : group) {
+                pendingSave.saved().complete(saved.get(index));
+                index++;
+            }
+        } catch (DataIntegrityViolationException e) {
+            if (group.size() == 1) {
+                log.error("Group commit of [{}] judgment events failed", group.size(), e);
+                group.getFirst().saved().completeExceptionally(e);
+            } else {
+                // Nothing was saved, so save each judgment event on its own so that one bad judgment event only
+                // fails its own caller
+                log.warn("Group commit of [{}] judgment events failed, saving them separately", group.size(), e);
+                group.forEach(this::saveSeparately);
+            }
+        } catch (RuntimeException e) {
+            log.error("Group commit of [{}] judgment events failed", group.size(), e);
+            group.forEach(pendingSave -> pendingSave.saved().completeExceptionally(e));
+        }
+    }
+
+    private void saveSeparately(PendingSave pendingSave) {
+        try {
+            List<Boolean> saved = judgmentRepository.saveAllIfAbsent(List.of(pendingSave.judgments()));
+            pendingSave.saved().complete(saved.getFirst());
+        } catch (RuntimeException e) {
+            log.error("Save of judgment event failed", e);
+            pendingSave.saved().completeExceptionally(e);
+        }
+    }
+
+    private record PendingSave(List<Judgment> judgments, CompletableFuture<Boolean> saved) {
+    }
+}
@@ -0,0 +1,265 @@
+package uk.gov.hmcts.reform.civil.service.ingest;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import uk.gov.hmcts.reform.civil.exception.TooManyRequestsException;
+import uk.gov.hmcts.reform.civil.service.validate.ServiceIdConfigProperties;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+
+/**
+ * Decides whether to accept ingest requests, so that excess requests are rejected straight away rather than
+ * queueing for a database connection.  A request is rejected if too many threads are already waiting for a
+ * connection, or if the compartment of its serviceId is full.
+ * <p>
+ * Each configured serviceId has its own compartment, a bulkhead with a limit of requests in flight and a bounded
+ * queue of requests waiting for one of them to finish, so one busy service cannot use up the capacity of the others.
+ * Unrecognised serviceIds share a single compartment.
+ */
+@Service
+@Slf4j
+public class IngestAdmissionService {
+
+    static final String METRIC_IN_FLIGHT = "rtl.export.ingest.bulkhead.in.flight";
+    static final String METRIC_QUEUED = "rtl.export.ingest.bulkhead.queued";
+    static final String METRIC_QUEUE_WAIT = "rtl.export.ingest.bulkhead.queue.wait";
+    static final String METRIC_REJECTED = "rtl.export.ingest.bulkhead.rejected";
+    static final String TAG_COMPARTMENT = "compartment";
+    static final String TAG_REASON = "reason";
+    static final String REASON_QUEUE_FULL = "queueFull";
+    static final String REASON_QUEUE_TIMEOUT = "queueTimeout";
+
+    /** Compartment shared by serviceIds that are not configured, including missing serviceIds. */
+    static final String COMPARTMENT_OTHER = "other";
+
+    private static final Admission NOT_COUNTED = () -> { };
+
+    private final DataSource dataSource;
+    private final AdmissionConfigProperties admissionConfigProperties;
+    private final MeterRegistry meterRegistry;
+
+    private final Set<String> compartmentNames = new HashSet<>();
+
+    private final ConcurrentMap<String, Compartment> compartments = new ConcurrentHashMap<>();
+
+    @Autowired
+    public IngestAdmissionService(DataSource dataSource,
+                                  AdmissionConfigProperties admissionConfigProperties,
+                                  ServiceIdConfigProperties serviceIdConfigProperties,
+                                  MeterRegistry meterRegistry) {
+        this.dataSource = dataSource;
+        this.admissionConfigProperties = admissionConfigProperties;
+        this.meterRegistry = meterRegistry;
+
+        if (serviceIdConfigProperties.getServiceIds() != null) {
+            compartmentNames.addAll(serviceIdConfigProperties.getServiceIds());
+        }
+        compartmentNames.addAll(admissionConfigProperties.getLimits().keySet());
+    }
+
+    /**
+     * Admit a request for a serviceId, or reject it if the compartment of the service or the connection pool is
+     * saturated.  If the compartment already has its limit of requests in flight then the request waits for one of
+     * them to finish, unless the queue of the compartment is full.
+     *
+     * @param serviceId - the serviceId the request is for
+     * @return the admission, which must be closed once the request has finished
+     * @throws TooManyRequestsException if the request is rejected
+     */
+    public Admission admit(String serviceId) {
+        if (!admissionConfigProperties.isEnabled()) {
+            return NOT_COUNTED;
+        }
+
+        checkConnectionPool();
+        return admitToCompartment(getCompartmentName(serviceId));
+    }
+
+    /**
+     * Admit a request for several serviceIds, counting it once against each of their compartments.  Compartments
+     * are always entered in the same order, so that requests waiting for each other's compartments cannot deadlock.
+     *
+     * @param serviceIds - the serviceIds the request is for
+     * @return the admission, which must be closed once the request has finished
+     * @throws TooManyRequestsException if the request is rejected
+     */
+    public Admission admit(Collection<String> serviceIds) {
+        if (!admissionConfigProperties.isEnabled()) {
+            return NOT_COUNTED;
+        }
+
+        checkConnectionPool();
+
+        SortedSet<String> requestCompartmentNames = new TreeSet<>();
+        serviceIds.forEach(serviceId -> requestCompartmentNames.add(getCompartmentName(serviceId)));
+
+        List<Admission> admissions = new ArrayList<>();
+        try {
+            for (String compartmentName : requestCompartmentNames) {
+                admissions.add(admitToCompartment(compartmentName));
+            }
+        } catch (TooManyRequestsException e) {
+            admissions.forEach(Admission::close);
+            throw e;
+        }
+        return () -> admissions.forEach(Admission::close);
+    }
+
+    private void checkConnectionPool() {
+        int threadsAwaitingConnection = getThreadsAwaitingConnection();
+        if (threadsAwaitingConnection >= admissionConfigProperties.getMaxThreadsAwaitingConnection()) {
+            log.debug("Request rejected, [{}] threads awaiting connection", threadsAwaitingConnection);
+            throw new TooManyRequestsException("connection pool saturated", admissionConfigProperties.getRetryAfter());
+        }
+    }
+
+    private Admission admitToCompartment(String compartmentName) {
+        Compartment compartment = compartments.computeIfAbsent(compartmentName, this::createCompartment);
+        // Unlike tryAcquire(), a timed tryAcquire does not take a permit ahead of requests already queued for one
+        boolean admitted;
+        try {
+            admitted = compartment.permits.tryAcquire(0, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TooManyRequestsException("too many requests in flight for serviceId",
+                                               admissionConfigProperties.getRetryAfter());
+        }
+        if (admitted) {
+            return compartment.permits::release;
+        }
+
+        if (compartment.queued.incrementAndGet() > admissionConfigProperties.getQueueLimit()) {
+            compartment.queued.decrementAndGet();
+            log.debug("Request rejected, compartment [{}] has its limit of [{}] requests in flight and queued",
+                      compartmentName,
+                      compartment.limit);
+            compartment.queueFullCounter.increment();
+            throw new TooManyRequestsException("too many requests in flight for serviceId",
+                                               admissionConfigProperties.getRetryAfter());
+        }
+
+        long start = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = compartment.permits.tryAcquire(admissionConfigProperties.getQueueTimeout(),
+                                                      TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        } finally {
+            compartment.queued.decrementAndGet();
+            compartment.queueWaitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+
+        if (!acquired) {
+            log.debug("Request rejected, timed out in queue of compartment [{}]", compartmentName);
+            compartment.queueTimeoutCounter.increment();
+            throw new TooManyRequestsException("too many requests in flight for serviceId",
+                                               admissionConfigProperties.getRetryAfter());
+        }
+        return compartment.permits::release;
+    }
+
+    private String getCompartmentName(String serviceId) {
+        return serviceId != null && compartmentNames.contains(serviceId) ? serviceId : COMPARTMENT_OTHER;
+    }
+
+    private Compartment createCompartment(String compartmentName) {
+        int limit = admissionConfigProperties.getLimits()
+            .getOrDefault(compartmentName, admissionConfigProperties.getDefaultLimit());
+        Compartment compartment = new Compartment(limit, compartmentName, meterRegistry);
+
+        Gauge.builder(METRIC_IN_FLIGHT, compartment, Compartment::getInFlight)
+            .description("Number of ingest requests in flight in the bulkhead compartment")
+            .tag(TAG_COMPARTMENT, compartmentName)
+            .register(meterRegistry);
+        Gauge.builder(METRIC_QUEUED, compartment.queued, AtomicInteger::get)
+            .description("Number of ingest requests queued for the bulkhead compartment")
+            .tag(TAG_COMPARTMENT, compartmentName)
+            .register(meterRegistry);
+
+        return compartment;
+    }
+
+    private int getThreadsAwaitingConnection() {
+        if (dataSource instanceof HikariDataSource hikariDataSource) {
+            HikariPoolMXBean pool = hikariDataSource.getHikariPoolMXBean();
+            if (pool != null) {
+                return pool.getThreadsAwaitingConnection();
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * An admitted request, closed once the request has finished.
+     */
+    @FunctionalInterface
+    public interface Admission extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+
+    /**
+     * The bulkhead of a serviceId, or of all unrecognised serviceIds.
+     */
+    private static final class Compartment {
+
+        private final int limit;
+
+        /** Fair, so that queued requests are admitted in the order they arrived. */
+        private final Semaphore permits;
+
+        private final AtomicInteger queued = new AtomicInteger();
+
+        private final Timer queueWaitTimer;
+        private final Counter queueFullCounter;
+        private final Counter queueTimeoutCounter;
+
+        private Compartment(int limit, String compartmentName, MeterRegistry meterRegistry) {
+            this.limit = limit;
+            permits = new Semaphore(limit, true);
+
+            queueWaitTimer = Timer.builder(METRIC_QUEUE_WAIT)
+                .description("Time ingest requests spent queued for the bulkhead compartment")
+                .tag(TAG_COMPARTMENT, compartmentName)
+                .register(meterRegistry);
+            queueFullCounter = createRejectedCounter(meterRegistry, compartmentName, REASON_QUEUE_FULL);
+            queueTimeoutCounter = createRejectedCounter(meterRegistry, compartmentName, REASON_QUEUE_TIMEOUT);
+        }
+
+        private double getInFlight() {
+            return (double) limit - permits.availablePermits();
+        }
+
+        private static Counter createRejectedCounter(MeterRegistry meterRegistry,
+                                                     String compartmentName,
+                                                     String reason) {
+            return Counter.builder(METRIC_REJECTED)
+                .description("Number of ingest requests rejected by the bulkhead compartment")
+                .tag(TAG_COMPARTMENT, compartmentName)
+                .tag(TAG_REASON, reason)
+                .register(meterRegistry);
+        }
+    }
+}
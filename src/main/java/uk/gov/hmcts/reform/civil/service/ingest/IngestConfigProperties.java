@@ -0,0 +1,20 @@
+package uk.gov.hmcts.reform.civil.service.ingest;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "rtl-export.ingest")
+@Getter
+@Setter
+public class IngestConfigProperties {
+
+    private int chunkSize;
+
+    /** Maximum number of judgment events accepted in a single batch posted to /judgments. */
+    private int maxBatchSize;
+
+    private boolean replayCheck;
+}
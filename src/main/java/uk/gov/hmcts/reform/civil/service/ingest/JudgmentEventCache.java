@@ -0,0 +1,80 @@
+package uk.gov.hmcts.reform.civil.service.ingest;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.civil.model.JudgmentEventKey;
+
+import java.time.Duration;
+
+/**
+ * Bounded cache of recently accepted judgment events, used to answer exact replays without calling RefData or the
+ * database.  Each entry holds the fingerprint of the accepted judgment event, so that a judgment event with the same
+ * key but different content is not treated as a replay.
+ * <p>
+ * A replay answered from the cache skips validation and the database, so it is not rejected even if its judgments
+ * have since been reported to RTL.  The report runs in its own process and cannot reach the cache of each instance,
+ * so entries are only bounded by expireAfterWrite: a judgment event is answered from the cache for at most
+ * expireAfterWrite after it was accepted, so a replay received more than expireAfterWrite after a report is always
+ * checked against the database.  expireAfterWrite must be kept well below the interval between reports.  The cache
+ * is disabled by default and should only be enabled where replays accepted within expireAfterWrite of a report are
+ * acceptable.
+ */
+@Component
+@Slf4j
+public class JudgmentEventCache {
+
+    private static final String CACHE_NAME = "judgmentEventCache";
+
+    private final boolean enabled;
+    private final Cache<JudgmentEventKey, String> acceptedFingerprints;
+
+    @Autowired
+    public JudgmentEventCache(JudgmentEventCacheConfigProperties cacheConfigProperties, MeterRegistry meterRegistry) {
+        enabled = cacheConfigProperties.isEnabled();
+        acceptedFingerprints = Caffeine.newBuilder()
+            .maximumSize(cacheConfigProperties.getMaximumSize())
+            .expireAfterWrite(Duration.ofSeconds(cacheConfigProperties.getExpireAfterWrite()))
+            .recordStats()
+            .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, acceptedFingerprints, CACHE_NAME);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Check if a judgment event with the given key and fingerprint has recently been accepted.
+     *
+     * @param key - key of the judgment event
+     * @param fingerprint - fingerprint of the judgment event
+     * @return true if the judgment event is a replay of a recently accepted judgment event
+     */
+    public boolean isAccepted(JudgmentEventKey key, String fingerprint) {
+        if (!enabled) {
+            return false;
+        }
+
+        String acceptedFingerprint = acceptedFingerprints.getIfPresent(key);
+        return acceptedFingerprint != null && acceptedFingerprint.equals(fingerprint);
+    }
+
+    /**
+     * Record that a judgment event has been accepted.
+     *
+     * @param key - key of the judgment event
+     * @param fingerprint - fingerprint of the judgment event
+     */
+    public void accepted(JudgmentEventKey key, String fingerprint) {
+        if (enabled) {
+            log.debug("Cache accepted judgmentEvent [{}]", key);
+            acceptedFingerprints.put(key, fingerprint);
+        }
+    }
+}
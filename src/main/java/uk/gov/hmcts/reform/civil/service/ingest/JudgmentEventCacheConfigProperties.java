@@ -0,0 +1,19 @@
+package uk.gov.hmcts.reform.civil.service.ingest;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "rtl-export.ingest.cache")
+@Getter
+@Setter
+public class JudgmentEventCacheConfigProperties {
+
+    private boolean enabled;
+
+    private long maximumSize;
+
+    private long expireAfterWrite;
+}
@@ -0,0 +1,45 @@
+package uk.gov.hmcts.reform.civil.service.ingest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.civil.model.JudgmentEvent;
+
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+@Component
+public class JudgmentEventFingerprinter {
+
+    private static final String FINGERPRINT_ALGORITHM = "SHA-256";
+
+    private final ObjectWriter judgmentEventWriter;
+
+    @Autowired
+    public JudgmentEventFingerprinter(ObjectMapper objectMapper) {
+        judgmentEventWriter = objectMapper.writerFor(JudgmentEvent.class);
+    }
+
+    /**
+     * Calculate a SHA-256 digest, as a hex string, of the full content of a judgment event as received.  Two
+     * judgment events with the same fingerprint are exact replays of each other.
+     *
+     * @param judgmentEvent - the judgment event to fingerprint
+     * @return the fingerprint of the judgment event
+     */
+    public String fingerprint(JudgmentEvent judgmentEvent) {
+        try {
+            byte[] content = judgmentEventWriter.writeValueAsBytes(judgmentEvent);
+            return HexFormat.of().formatHex(MessageDigest.getInstance(FINGERPRINT_ALGORITHM).digest(content));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+}
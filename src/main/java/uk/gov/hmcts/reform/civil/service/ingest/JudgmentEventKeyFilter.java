@@ -0,0 +1,225 @@
+package uk.gov.hmcts.reform.civil.service.ingest;
+
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnel;
+import com.google.common.hash.PrimitiveSink;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.civil.model.JudgmentEventKey;
+import uk.gov.hmcts.reform.civil.repository.JudgmentRepository;
+
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bloom filter of the keys of judgment events that have saved judgments.  A judgment event whose key is not in the
+ * filter is definitely new, so its judgments are saved straight away.  A judgment event whose key may be in the
+ * filter is most likely a duplicate, so the saved judgments are checked first rather than after an insert that would
+ * conflict.
+ * <p>
+ * The filter is loaded from the database in the background at startup and rebuilt every rebuild interval, which
+ * drops the keys of judgments deleted by housekeeping.  Judgments saved by other nodes are only added on rebuild, so
+ * the filter can miss an existing key.  That is safe, as saving judgments never overwrites existing judgments.
+ */
+@Component
+@Slf4j
+public class JudgmentEventKeyFilter {
+
+    static final String METRIC_LOOKUPS = "rtl.export.ingest.key.filter.lookups";
+    static final String METRIC_EXPECTED_FALSE_POSITIVE_RATE = "rtl.export.ingest.key.filter.expected.fpp";
+    static final String METRIC_KEYS = "rtl.export.ingest.key.filter.keys";
+    static final String TAG_RESULT = "result";
+    static final String RESULT_NEW = "new";
+    static final String RESULT_DUPLICATE = "duplicate";
+    static final String RESULT_FALSE_POSITIVE = "falsePositive";
+
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 30;
+
+    private final JudgmentRepository judgmentRepository;
+    private final KeyFilterConfigProperties keyFilterConfigProperties;
+
+    private final Counter newCounter;
+    private final Counter duplicateCounter;
+    private final Counter falsePositiveCounter;
+
+    /** The loaded filter, null until the filter has first been loaded. */
+    private volatile BloomFilter<JudgmentEventKey> keys;
+
+    /** The filter being rebuilt, which also has to be given keys saved while it is being loaded. */
+    private volatile BloomFilter<JudgmentEventKey> rebuildingKeys;
+
+    private ScheduledExecutorService executorService;
+
+    @Autowired
+    public JudgmentEventKeyFilter(JudgmentRepository judgmentRepository,
+                                  KeyFilterConfigProperties keyFilterConfigProperties,
+                                  MeterRegistry meterRegistry) {
+        this.judgmentRepository = judgmentRepository;
+        this.keyFilterConfigProperties = keyFilterConfigProperties;
+
+        newCounter = createLookupCounter(meterRegistry, RESULT_NEW);
+        duplicateCounter = createLookupCounter(meterRegistry, RESULT_DUPLICATE);
+        falsePositiveCounter = createLookupCounter(meterRegistry, RESULT_FALSE_POSITIVE);
+
+        Gauge.builder(METRIC_EXPECTED_FALSE_POSITIVE_RATE, this, JudgmentEventKeyFilter::getExpectedFalsePositiveRate)
+            .description("Expected false positive rate of the judgment event key filter")
+            .register(meterRegistry);
+        Gauge.builder(METRIC_KEYS, this, JudgmentEventKeyFilter::getApproximateKeyCount)
+            .description("Approximate number of keys in the judgment event key filter")
+            .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!keyFilterConfigProperties.isEnabled()) {
+            log.debug("Judgment event key filter not started");
+            return;
+        }
+
+        log.info("Starting judgment event key filter");
+        executorService = Executors.newSingleThreadScheduledExecutor();
+        long rebuildInterval = keyFilterConfigProperties.getRebuildInterval();
+        executorService.scheduleWithFixedDelay(this::rebuild, 0, rebuildInterval, TimeUnit.SECONDS);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (executorService != null) {
+            log.info("Stopping judgment event key filter");
+            executorService.shutdown();
+            if (!executorService.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                executorService.shutdownNow();
+            }
+        }
+    }
+
+    /**
+     * Check if the filter has been loaded and can be used.
+     *
+     * @return true if the filter has been loaded
+     */
+    public boolean isLoaded() {
+        return keys != null;
+    }
+
+    /**
+     * Check if a judgment event may already have saved judgments.
+     *
+     * @param key - key of the judgment event
+     * @return false if the judgment event is definitely new or the filter has not been loaded, otherwise true
+     */
+    public boolean mayContain(JudgmentEventKey key) {
+        BloomFilter<JudgmentEventKey> currentKeys = keys;
+        if (currentKeys == null) {
+            return false;
+        }
+
+        boolean mayContain = currentKeys.mightContain(key);
+        if (!mayContain) {
+            newCounter.increment();
+        }
+        return mayContain;
+    }
+
+    /**
+     * Record whether saved judgments were found for a judgment event that the filter said may have them.
+     *
+     * @param found - true if saved judgments were found or false if the filter gave a false positive
+     */
+    public void recordLookup(boolean found) {
+        (found ? duplicateCounter : falsePositiveCounter).increment();
+    }
+
+    /**
+     * Add the key of a judgment event whose judgments have been saved.
+     *
+     * @param key - key of the judgment event
+     */
+    public void put(JudgmentEventKey key) {
+        if (!keyFilterConfigProperties.isEnabled()) {
+            return;
+        }
+
+        // Read the filter being rebuilt first: if it has already been cleared then keys is the rebuilt filter
+        BloomFilter<JudgmentEventKey> currentRebuildingKeys = rebuildingKeys;
+        BloomFilter<JudgmentEventKey> currentKeys = keys;
+        if (currentRebuildingKeys != null) {
+            currentRebuildingKeys.put(key);
+        }
+        if (currentKeys != null) {
+            currentKeys.put(key);
+        }
+    }
+
+    /**
+     * Load a new filter from the keys of the saved judgments and replace the current filter with it.  The current
+     * filter is kept if the new filter cannot be loaded.
+     */
+    void rebuild() {
+        log.info("Loading judgment event key filter");
+        BloomFilter<JudgmentEventKey> newKeys = BloomFilter.create(JudgmentEventKeyFunnel.INSTANCE,
+                                                                   keyFilterConfigProperties.getExpectedInsertions(),
+                                                                   keyFilterConfigProperties.getFalsePositiveRate());
+        rebuildingKeys = newKeys;
+        try {
+            judgmentRepository.forEachJudgmentEventKey(newKeys::put);
+            keys = newKeys;
+
+            long approximateKeyCount = newKeys.approximateElementCount();
+            log.info("Loaded judgment event key filter: approximately [{}] keys, expected false positive rate [{}]",
+                     approximateKeyCount,
+                     newKeys.expectedFpp());
+            if (approximateKeyCount > keyFilterConfigProperties.getExpectedInsertions()) {
+                log.warn("Judgment event key filter holds more keys than expected insertions [{}], "
+                             + "false positive rate will be higher than configured",
+                         keyFilterConfigProperties.getExpectedInsertions());
+            }
+        } catch (RuntimeException e) {
+            log.error("Failed to load judgment event key filter", e);
+        } finally {
+            rebuildingKeys = null;
+        }
+    }
+
+    private double getExpectedFalsePositiveRate() {
+        BloomFilter<JudgmentEventKey> currentKeys = keys;
+        return currentKeys == null ? Double.NaN : currentKeys.expectedFpp();
+    }
+
+    private double getApproximateKeyCount() {
+        BloomFilter<JudgmentEventKey> currentKeys = keys;
+        return currentKeys == null ? Double.NaN : currentKeys.approximateElementCount();
+    }
+
+    private static Counter createLookupCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder(METRIC_LOOKUPS)
+            .description("Number of judgment events checked against the judgment event key filter")
+            .tag(TAG_RESULT, result)
+            .register(meterRegistry);
+    }
+
+    private enum JudgmentEventKeyFunnel implements Funnel<JudgmentEventKey> {
+        INSTANCE;
+
+        private static final char SEPARATOR = '\u0000';
+
+        @Override
+        public void funnel(JudgmentEventKey key, PrimitiveSink into) {
+            into.putUnencodedChars(Objects.toString(key.serviceId(), ""))
+                .putChar(SEPARATOR)
+                .putUnencodedChars(Objects.toString(key.judgmentId(), ""))
+                .putChar(SEPARATOR)
+                .putUnencodedChars(Objects.toString(key.judgmentEventTimeStamp(), ""))
+                .putChar(SEPARATOR)
+                .putUnencodedChars(Objects.toString(key.caseNumber(), ""));
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package uk.gov.hmcts.reform.civil.service.ingest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.civil.model.JudgmentEvent;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+
+@Component
+@Slf4j
+public class JudgmentEventReader {
+
+    private static final byte[] WARM_UP_JUDGMENT_EVENT = """
+        {
+          "serviceId": "WARM",
+          "judgmentId": "0",
+          "judgmentEventTimeStamp": "2024-01-01T01:00:00Z",
+          "courtEpimsId": "0",
+          "ccdCaseRef": "0",
+          "caseNumber": "0",
+          "judgmentAdminOrderTotal": 0.00,
+          "judgmentAdminOrderDate": "2024-01-01",
+          "registrationType": "R",
+          "cancellationDate": "2024-01-01",
+          "defendant1": {
+            "defendantName": "Warm Up",
+            "defendantAddress": {
+              "defendantAddressLine1": "Warm Up",
+              "defendantPostcode": "WU1 1WU"
+            },
+            "defendantDateOfBirth": "2000-01-01"
+          }
+        }
+        """.getBytes(StandardCharsets.UTF_8);
+
+    private final ObjectReader judgmentEventReader;
+
+    @Autowired
+    public JudgmentEventReader(ObjectMapper objectMapper) {
+        judgmentEventReader = objectMapper.readerFor(JudgmentEvent.class);
+    }
+
+    /**
+     * Read a representative judgment event so that the deserializers for the judgment event graph, and any
+     * accessors generated for them, are built at startup rather than on the first request.
+     */
+    @PostConstruct
+    public void warmUp() throws IOException {
+        judgmentEventReader.readValue(WARM_UP_JUDGMENT_EVENT);
+        log.debug("Judgment event reader warmed up");
+    }
+
+    public JudgmentEvent read(InputStream inputStream) throws IOException {
+        return judgmentEventReader.readValue(inputStream);
+    }
+
+    public JudgmentEvent read(Reader reader) throws IOException {
+        return judgmentEventReader.readValue(reader);
+    }
+}
@@ -0,0 +1,21 @@
+package uk.gov.hmcts.reform.civil.service.ingest;
+
+/**
+ * A source of judgment events other than the REST API.  A source reads judgment events from somewhere, passes
+ * them to {@link uk.gov.hmcts.reform.civil.service.JudgmentEventService} in batches and reports the result of
+ * each judgment event back to wherever they came from.
+ */
+public interface JudgmentEventSource {
+
+    /**
+     * Start reading judgment events, if the source is enabled.
+     */
+    void start();
+
+    /**
+     * Stop reading judgment events, finishing any batch already in progress.
+     */
+    void stop() throws InterruptedException;
+
+    boolean isEnabled();
+}
@@ -0,0 +1,132 @@
+package uk.gov.hmcts.reform.civil.service.ingest;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.civil.exception.JudgmentEventErrorType;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+/**
+ * Records how long each stage of processing a judgment event takes, as the {@code rtl.export.ingest.stage} timer.
+ * Each timing is tagged with the stage, the service id and the outcome of the judgment event as a whole (created,
+ * duplicate or the error code), so a slow stage can be tied to the judgment events it affected.
+ */
+@Component
+public class JudgmentEventStageMetrics {
+
+    public static final String OUTCOME_CREATED = "created";
+    public static final String OUTCOME_DUPLICATE = "duplicate";
+    public static final String OUTCOME_ERROR = "error";
+
+    static final String METRIC_STAGE = "rtl.export.ingest.stage";
+    static final String TAG_STAGE = "stage";
+    static final String TAG_SERVICE_ID = "serviceId";
+    static final String TAG_OUTCOME = "outcome";
+
+    // Unrecognised service ids are not used as tag values, so that callers cannot create unbounded time series
+    private static final String SERVICE_ID_UNRECOGNISED = "unrecognised";
+
+    private static final long NOT_TIMED = -1L;
+
+    public enum Stage {
+        VALIDATE("validate"),
+        REPLAY_CHECK("replayCheck"),
+        REF_DATA("refData"),
+        TRANSFORM("transform"),
+        PERSIST("persist");
+
+        private final String tagValue;
+
+        Stage(String tagValue) {
+            this.tagValue = tagValue;
+        }
+    }
+
+    private final MeterRegistry meterRegistry;
+
+    @Autowired
+    public JudgmentEventStageMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Start timing the stages of a judgment event.
+     *
+     * @return the stage timings for the judgment event, to be recorded once its outcome is known
+     */
+    public StageTimings start() {
+        return new StageTimings();
+    }
+
+    /**
+     * Find the outcome tag for an exception thrown while processing a judgment event.
+     *
+     * @param e - the exception thrown
+     * @return the error code of the exception, or "error" if it is not a judgment event error
+     */
+    public static String outcome(RuntimeException e) {
+        JudgmentEventErrorType errorType = JudgmentEventErrorType.fromException(e);
+        return errorType == null ? OUTCOME_ERROR : errorType.getErrorCode();
+    }
+
+    /**
+     * Timings of the stages of one judgment event.  Stages may be timed on different threads.
+     */
+    public final class StageTimings {
+
+        private final AtomicLongArray durations = new AtomicLongArray(Stage.values().length);
+
+        private StageTimings() {
+            for (int i = 0; i < durations.length(); i++) {
+                durations.set(i, NOT_TIMED);
+            }
+        }
+
+        public <T> T time(Stage stage, Supplier<T> supplier) {
+            long start = System.nanoTime();
+            try {
+                return supplier.get();
+            } finally {
+                durations.set(stage.ordinal(), System.nanoTime() - start);
+            }
+        }
+
+        public void time(Stage stage, Runnable runnable) {
+            time(stage, () -> {
+                runnable.run();
+                return null;
+            });
+        }
+
+        /**
+         * Record the stages that were timed, stages that were not reached are not recorded.
+         *
+         * @param serviceId - service id of the judgment event
+         * @param outcome - outcome of the judgment event
+         */
+        public void record(String serviceId, String outcome) {
+            String serviceIdTag = serviceId == null
+                || JudgmentEventErrorType.UNRECOGNISED_SERVICE_ID.getErrorCode().equals(outcome)
+                ? SERVICE_ID_UNRECOGNISED
+                : serviceId;
+
+            for (Stage stage : Stage.values()) {
+                long duration = durations.get(stage.ordinal());
+                if (duration != NOT_TIMED) {
+                    Timer.builder(METRIC_STAGE)
+                        .description("Time taken by each stage of processing a judgment event")
+                        .tag(TAG_STAGE, stage.tagValue)
+                        .tag(TAG_SERVICE_ID, serviceIdTag)
+                        .tag(TAG_OUTCOME, outcome)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry)
+                        .record(duration, TimeUnit.NANOSECONDS);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package uk.gov.hmcts.reform.civil.service.ingest;
+
+import com.fasterxml.jackson.core.JsonLocation;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DatabindException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import uk.gov.hmcts.reform.civil.exception.TooManyRequestsException;
+import uk.gov.hmcts.reform.civil.model.JudgmentEvent;
+import uk.gov.hmcts.reform.civil.model.JudgmentEventResult;
+import uk.gov.hmcts.reform.civil.service.JudgmentEventService;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+@Service
+@Slf4j
+public class JudgmentEventStreamService {
+
+    private static final byte NEW_LINE = '\n';
+
+    private static final String ERROR_MESSAGE_UNREADABLE = "unable to read judgment event";
+
+    private final JudgmentEventService judgmentEventService;
+    private final IngestAdmissionService ingestAdmissionService;
+    private final ObjectMapper objectMapper;
+    private final ObjectReader judgmentEventReader;
+    private final int chunkSize;
+
+    @Autowired
+    public JudgmentEventStreamService(JudgmentEventService judgmentEventService,
+                                      IngestAdmissionService ingestAdmissionService,
+                                      ObjectMapper objectMapper,
+                                      IngestConfigProperties ingestConfigProperties) {
+        this.judgmentEventService = judgmentEventService;
+        this.ingestAdmissionService = ingestAdmissionService;
+        this.objectMapper = objectMapper;
+        judgmentEventReader = objectMapper.readerFor(JudgmentEvent.class);
+        chunkSize = ingestConfigProperties.getChunkSize();
+    }
+
+    /**
+     * Read judgment events from a stream of newline delimited JSON, processing them in chunks and writing the
+     * result of each judgment event to the output as newline delimited JSON.  Only one chunk of judgment events
+     * is held in memory at a time.
+     * <p>
+     * Each chunk is admitted by the same per serviceId bulkheads as the other ingest endpoints.  If the first chunk
+     * is rejected then nothing has been written and the rejection is thrown.  If a later chunk is rejected then
+     * each of its judgment events has a result with status 429 and the rest of the stream is not read, so judgment
+     * events without a result were not processed.
+     *
+     * @param inputStream - newline delimited JSON judgment events
+     * @param outputStream - stream that results are written to, in the same order as the judgment events
+     * @return the number of judgment events read
+     * @throws TooManyRequestsException if the first chunk is rejected
+     */
+    public int processJudgmentEvents(InputStream inputStream, OutputStream outputStream) throws IOException {
+        return processJudgmentEvents(inputStream, outputStream, chunkSize, true);
+    }
+
+    /**
+     * Read judgment events from a stream of newline delimited JSON, or a JSON array, processing them in chunks of
+     * the given size and writing the result of each judgment event to the output as newline delimited JSON.
+     * <p>
+     * Chunks are not admitted by the bulkheads.  This is for the directory source, which processes one chunk at a
+     * time on a single thread and so never holds more than one database connection.
+     *
+     * @param inputStream - newline delimited JSON judgment events, or a JSON array of judgment events
+     * @param outputStream - stream that results are written to, in the same order as the judgment events
+     * @param chunkSize - the number of judgment events to process together
+     * @return the number of judgment events read
+     */
+    public int processJudgmentEvents(InputStream inputStream,
+                                     OutputStream outputStream,
+                                     int chunkSize) throws IOException {
+        return processJudgmentEvents(inputStream, outputStream, chunkSize, false);
+    }
+
+    private int processJudgmentEvents(InputStream inputStream,
+                                      OutputStream outputStream,
+                                      int chunkSize,
+                                      boolean admitted) throws IOException {
+        JudgmentEventStream stream = new JudgmentEventStream(outputStream, chunkSize, admitted);
+
+        try (MappingIterator<JudgmentEvent> judgmentEvents = judgmentEventReader.readValues(inputStream)) {
+            boolean readable = true;
+            while (readable && !stream.rejected) {
+                try {
+                    readable = judgmentEvents.hasNextValue();
+                    if (readable) {
+                        stream.chunk.add(judgmentEvents.nextValue());
+                        stream.count++;
+                    }
+                } catch (JsonProcessingException e) {
+                    // Records that cannot be bound are reported and skipped, invalid JSON ends the stream
+                    readable = e instanceof DatabindException;
+                    processChunk(stream);
+                    if (!stream.rejected) {
+                        writeResult(JudgmentEventResult.unreadable(describeReadError(e)), stream);
+                    }
+                }
+
+                if (stream.chunk.size() >= chunkSize) {
+                    processChunk(stream);
+                }
+            }
+        }
+
+        processChunk(stream);
+
+        log.debug("Processed stream of [{}] judgmentEvents", stream.count);
+        return stream.count;
+    }
+
+    private void processChunk(JudgmentEventStream stream) throws IOException {
+        List<JudgmentEvent> chunk = stream.chunk;
+        if (stream.rejected || chunk.isEmpty()) {
+            return;
+        }
+
+        log.debug("Process chunk of [{}] judgmentEvents", chunk.size());
+        try (IngestAdmissionService.Admission admission = admit(stream)) {
+            for (JudgmentEventResult result : judgmentEventService.processJudgmentEvents(chunk)) {
+                writeResult(result, stream);
+            }
+        } catch (TooManyRequestsException e) {
+            if (!stream.written) {
+                throw e;
+            }
+            log.debug("Chunk of [{}] judgmentEvents rejected: {}", chunk.size(), e.getMessage());
+            stream.rejected = true;
+            String errorMessage = "too many requests, retry after " + e.getRetryAfter() + " seconds";
+            for (JudgmentEvent judgmentEvent : chunk) {
+                writeResult(JudgmentEventResult.rejected(judgmentEvent, errorMessage), stream);
+            }
+        } finally {
+            chunk.clear();
+        }
+        stream.outputStream.flush();
+    }
+
+    private IngestAdmissionService.Admission admit(JudgmentEventStream stream) {
+        if (!stream.admitted) {
+            return null;
+        }
+        List<String> serviceIds =
+            stream.chunk.stream().map(JudgmentEvent::getServiceId).filter(Objects::nonNull).toList();
+        return ingestAdmissionService.admit(serviceIds);
+    }
+
+    private void writeResult(JudgmentEventResult result, JudgmentEventStream stream) throws IOException {
+        stream.outputStream.write(objectMapper.writeValueAsBytes(result));
+        stream.outputStream.write(NEW_LINE);
+        stream.written = true;
+    }
+
+    private String describeReadError(JsonProcessingException e) {
+        log.debug("Unable to read judgmentEvent", e);
+
+        JsonLocation location = e.getLocation();
+        return location == null
+            ? ERROR_MESSAGE_UNREADABLE
+            : ERROR_MESSAGE_UNREADABLE + " at line " + location.getLineNr();
+    }
+
+    /**
+     * The state of a single stream of judgment events.
+     */
+    private static final class JudgmentEventStream {
+
+        private final OutputStream outputStream;
+        private final List<JudgmentEvent> chunk;
+        private final boolean admitted;
+
+        private int count;
+
+        /** Whether any results have been written, after which a rejection can no longer be thrown. */
+        private boolean written;
+
+        private boolean rejected;
+
+        private JudgmentEventStream(OutputStream outputStream, int chunkSize, boolean admitted) {
+            this.outputStream = outputStream;
+            chunk = new ArrayList<>(chunkSize);
+            this.admitted = admitted;
+        }
+    }
+}
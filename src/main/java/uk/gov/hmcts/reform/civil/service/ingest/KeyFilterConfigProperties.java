@@ -0,0 +1,21 @@
+package uk.gov.hmcts.reform.civil.service.ingest;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "rtl-export.ingest.key-filter")
+@Getter
+@Setter
+public class KeyFilterConfigProperties {
+
+    private boolean enabled;
+
+    private long expectedInsertions;
+
+    private double falsePositiveRate;
+
+    private long rebuildInterval;
+}
@@ -0,0 +1,23 @@
+package uk.gov.hmcts.reform.civil.service.journal;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "rtl-export.ingest.journal")
+@Getter
+@Setter
+public class JournalConfigProperties {
+
+    private boolean enabled;
+
+    private String directory;
+
+    private long replayInterval;
+
+    private int batchSize;
+
+    private int maxAttempts;
+}
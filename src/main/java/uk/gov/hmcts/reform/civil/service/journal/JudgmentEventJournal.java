@@ -0,0 +1,333 @@
+package uk.gov.hmcts.reform.civil.service.journal;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.civil.model.JudgmentEvent;
+
+import java.io.IOException;
+import java.io.Serial;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only file of judgment events accepted while the database is unavailable.  Each record is the length and
+ * CRC32 checksum of a judgment event, followed by the judgment event as JSON.  Appends are made durable with a
+ * force of the file, with appends that arrive while a force is in progress sharing the next force.  The journal
+ * is truncated once every record in it has been replayed.
+ * <p>
+ * Judgment events that still cannot be saved after every replay attempt are moved to a dead letter file of newline
+ * delimited JSON, which can be posted back to /judgments once the cause has been fixed.
+ */
+@Component
+@Slf4j
+public class JudgmentEventJournal {
+
+    private static final String JOURNAL_FILE_NAME = "judgment-events.journal";
+    private static final String DEAD_LETTER_FILE_NAME = "judgment-events.dead-letter.ndjson";
+    private static final int HEADER_LENGTH = Integer.BYTES * 2;
+
+    private final ObjectWriter judgmentEventWriter;
+    private final ObjectReader judgmentEventReader;
+    private final JournalConfigProperties journalConfigProperties;
+
+    // Locks rather than monitors, so that request threads blocked on them do not pin a virtual thread carrier
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private final ReentrantLock forceLock = new ReentrantLock();
+
+    private FileChannel channel;
+
+    /** End of the last record appended. */
+    private volatile long appendedPosition;
+
+    /** End of the last record known to be on disk, records are only replayed up to here. */
+    private volatile long forcedPosition;
+
+    /** End of the last record replayed. */
+    private long replayedPosition;
+
+    @Autowired
+    public JudgmentEventJournal(ObjectMapper objectMapper, JournalConfigProperties journalConfigProperties) {
+        judgmentEventWriter = objectMapper.writerFor(JudgmentEvent.class);
+        judgmentEventReader = objectMapper.readerFor(JudgmentEvent.class);
+        this.journalConfigProperties = journalConfigProperties;
+    }
+
+    @PostConstruct
+    public void open() {
+        if (!journalConfigProperties.isEnabled()) {
+            return;
+        }
+
+        Path journalFile = Path.of(journalConfigProperties.getDirectory(), JOURNAL_FILE_NAME);
+        try {
+            Files.createDirectories(journalFile.getParent());
+            channel = FileChannel.open(journalFile,
+                                       StandardOpenOption.CREATE,
+                                       StandardOpenOption.READ,
+                                       StandardOpenOption.WRITE);
+            appendedPosition = recover();
+            forcedPosition = appendedPosition;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to open judgment event journal " + journalFile, e);
+        }
+
+        log.info("Opened judgment event journal [{}], [{}] bytes to replay", journalFile, appendedPosition);
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        if (channel != null) {
+            channel.close();
+        }
+    }
+
+    /**
+     * Append a judgment event to the journal, returning once it is on disk.
+     *
+     * @param judgmentEvent - the judgment event to append
+     */
+    public void append(JudgmentEvent judgmentEvent) {
+        byte[] payload;
+        try {
+            payload = judgmentEventWriter.writeValueAsBytes(judgmentEvent);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_LENGTH + payload.length);
+        buffer.putInt(payload.length);
+        buffer.putInt((int) crc.getValue());
+        buffer.put(payload);
+        buffer.flip();
+
+        long end;
+        try {
+            appendLock.lock();
+            try {
+                long position = appendedPosition;
+                while (buffer.hasRemaining()) {
+                    position += channel.write(buffer, position);
+                }
+                appendedPosition = position;
+                end = position;
+            } finally {
+                appendLock.unlock();
+            }
+            force(end);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to append to judgment event journal", e);
+        }
+    }
+
+    /**
+     * Read the next judgment events to replay.  A judgment event that cannot be read is returned as null.
+     *
+     * @param maxJudgmentEvents - the maximum number of judgment events to read
+     * @return the judgment events and the journal position to mark as replayed once they have been processed
+     */
+    public JournalBatch read(int maxJudgmentEvents) {
+        long position;
+        appendLock.lock();
+        try {
+            position = replayedPosition;
+        } finally {
+            appendLock.unlock();
+        }
+        long end = forcedPosition;
+
+        List<JudgmentEvent> judgmentEvents = new ArrayList<>();
+        try {
+            while (position < end && judgmentEvents.size() < maxJudgmentEvents) {
+                byte[] payload = readPayload(position, end);
+                position += HEADER_LENGTH + payload.length;
+                judgmentEvents.add(readJudgmentEvent(payload));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to read judgment event journal", e);
+        }
+
+        return new JournalBatch(judgmentEvents, position);
+    }
+
+    /**
+     * Mark the journal as replayed up to a position, truncating it if every record has been replayed.
+     *
+     * @param position - the position returned with the judgment events that have been replayed
+     * @return true if the journal is now empty
+     */
+    public boolean markReplayed(long position) {
+        appendLock.lock();
+        try {
+            replayedPosition = position;
+            if (replayedPosition < appendedPosition) {
+                return false;
+            }
+
+            forceLock.lock();
+            try {
+                channel.truncate(0);
+                channel.force(true);
+                appendedPosition = 0;
+                forcedPosition = 0;
+                replayedPosition = 0;
+            } catch (IOException e) {
+                throw new UncheckedIOException("Unable to truncate judgment event journal", e);
+            } finally {
+                forceLock.unlock();
+            }
+            log.debug("Judgment event journal replayed and truncated");
+            return true;
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    /**
+     * Append judgment events that cannot be replayed to the dead letter file, returning once they are on disk.
+     *
+     * @param judgmentEvents - the judgment events to append
+     */
+    public void deadLetter(List<JudgmentEvent> judgmentEvents) {
+        Path deadLetterFile = Path.of(journalConfigProperties.getDirectory(), DEAD_LETTER_FILE_NAME);
+        try (FileChannel deadLetterChannel = FileChannel.open(deadLetterFile,
+                                                              StandardOpenOption.CREATE,
+                                                              StandardOpenOption.WRITE,
+                                                              StandardOpenOption.APPEND)) {
+            for (JudgmentEvent judgmentEvent : judgmentEvents) {
+                ByteBuffer buffer = ByteBuffer.wrap(judgmentEventWriter.writeValueAsString(judgmentEvent)
+                                                        .concat("\n")
+                                                        .getBytes(StandardCharsets.UTF_8));
+                while (buffer.hasRemaining()) {
+                    deadLetterChannel.write(buffer);
+                }
+            }
+            deadLetterChannel.force(false);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to append to judgment event dead letter file " + deadLetterFile, e);
+        }
+        log.warn("Moved [{}] judgment events to dead letter file [{}]", judgmentEvents.size(), deadLetterFile);
+    }
+
+    private void force(long end) throws IOException {
+        forceLock.lock();
+        try {
+            if (forcedPosition >= end) {
+                // Forced along with another append
+                return;
+            }
+
+            long position = appendedPosition;
+            channel.force(false);
+            forcedPosition = position;
+        } finally {
+            forceLock.unlock();
+        }
+    }
+
+    /**
+     * Find the end of the last complete record, discarding anything after it left by a failed append.
+     */
+    private long recover() throws IOException {
+        long size = channel.size();
+        long position = 0;
+        while (position < size) {
+            try {
+                position += HEADER_LENGTH + readPayload(position, size).length;
+            } catch (CorruptRecordException e) {
+                log.warn("Discarding [{}] bytes at the end of judgment event journal: {}",
+                         size - position,
+                         e.getMessage());
+                channel.truncate(position);
+                channel.force(true);
+                break;
+            }
+        }
+        return position;
+    }
+
+    private byte[] readPayload(long position, long end) throws IOException {
+        if (end - position < HEADER_LENGTH) {
+            throw new CorruptRecordException("incomplete record header");
+        }
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_LENGTH);
+        readFully(header, position);
+        int length = header.getInt();
+        int checksum = header.getInt();
+
+        if (length < 0 || end - position - HEADER_LENGTH < length) {
+            throw new CorruptRecordException("incomplete record");
+        }
+
+        ByteBuffer payload = ByteBuffer.allocate(length);
+        readFully(payload, position + HEADER_LENGTH);
+
+        CRC32 crc = new CRC32();
+        crc.update(payload.array());
+        if ((int) crc.getValue() != checksum) {
+            throw new CorruptRecordException("record checksum mismatch");
+        }
+
+        return payload.array();
+    }
+
+    private void readFully(ByteBuffer buffer, long position) throws IOException {
+        long readPosition = position;
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, readPosition);
+            if (read < 0) {
+                throw new CorruptRecordException("unexpected end of journal");
+            }
+            readPosition += read;
+        }
+        buffer.flip();
+    }
+
+    private JudgmentEvent readJudgmentEvent(byte[] payload) {
+        try {
+            return judgmentEventReader.readValue(payload);
+        } catch (IOException e) {
+            log.error("Unable to read judgment event from journal", e);
+            return null;
+        }
+    }
+
+    /**
+     * Judgment events read from the journal, with the position to mark as replayed once they have been processed.
+     */
+    public record JournalBatch(List<JudgmentEvent> judgmentEvents, long endPosition) {
+
+        public boolean isEmpty() {
+            return judgmentEvents.isEmpty();
+        }
+    }
+
+    private static class CorruptRecordException extends IOException {
+
+        @Serial
+        private static final long serialVersionUID = 3418204958216720385L;
+
+        CorruptRecordException(String message) {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package uk.gov.hmcts.reform.civil.service.journal;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.civil.model.JudgmentEvent;
+import uk.gov.hmcts.reform.civil.model.JudgmentEventResult;
+import uk.gov.hmcts.reform.civil.service.JudgmentEventService;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Replays journalled judgment events into the database.  A batch is only marked as replayed once it has been
+ * processed, so a batch that fails because the database is still unavailable is tried again on the next poll.
+ * <p>
+ * Every journalled judgment event has already been acknowledged, so none is dropped because of an internal error.
+ * Judgment events that still fail with an internal error after the maximum number of attempts are moved to the dead
+ * letter file before the batch is marked as replayed.  Only judgment events rejected as invalid are logged and
+ * discarded, as they would have been rejected had the database been available.
+ */
+@Component
+@Slf4j
+public class JudgmentEventJournalReplayer {
+
+    private static final int HTTP_STATUS_CREATED = 201;
+    private static final int HTTP_STATUS_INTERNAL_SERVER_ERROR = 500;
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 30;
+
+    private final JudgmentEventJournal judgmentEventJournal;
+    private final JudgmentEventJournalService judgmentEventJournalService;
+    private final JudgmentEventService judgmentEventService;
+    private final JournalConfigProperties journalConfigProperties;
+
+    private ScheduledExecutorService executorService;
+
+    /** Number of times the batch at the start of the journal has failed with an internal error. */
+    private int attempts;
+
+    @Autowired
+    public JudgmentEventJournalReplayer(JudgmentEventJournal judgmentEventJournal,
+                                        JudgmentEventJournalService judgmentEventJournalService,
+                                        JudgmentEventService judgmentEventService,
+                                        JournalConfigProperties journalConfigProperties) {
+        this.judgmentEventJournal = judgmentEventJournal;
+        this.judgmentEventJournalService = judgmentEventJournalService;
+        this.judgmentEventService = judgmentEventService;
+        this.journalConfigProperties = journalConfigProperties;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!journalConfigProperties.isEnabled()) {
+            log.debug("Journal replayer not started");
+            return;
+        }
+
+        log.info("Starting journal replayer");
+        executorService = Executors.newSingleThreadScheduledExecutor();
+        long replayInterval = journalConfigProperties.getReplayInterval();
+        executorService.scheduleWithFixedDelay(this::replayJournal,
+                                               replayInterval,
+                                               replayInterval,
+                                               TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (executorService != null) {
+            log.info("Stopping journal replayer");
+            executorService.shutdown();
+            if (!executorService.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                // Judgment events not marked as replayed are replayed again on restart
+                executorService.shutdownNow();
+            }
+        }
+    }
+
+    /**
+     * Replay journalled judgment events until the journal is empty or a batch cannot be replayed.
+     */
+    public void replayJournal() {
+        try {
+            boolean replayed;
+            do {
+                replayed = replayJudgmentEvents();
+            } while (replayed && !Thread.currentThread().isInterrupted());
+        } catch (RuntimeException e) {
+            // A scheduled task that throws is not run again, so log and try again on the next poll
+            log.warn("Unable to replay judgment event journal: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Replay a single batch of journalled judgment events.
+     *
+     * @return true if a batch was replayed and there may be more to replay
+     */
+    public boolean replayJudgmentEvents() {
+        JudgmentEventJournal.JournalBatch batch =
+            judgmentEventJournal.read(journalConfigProperties.getBatchSize());
+        if (batch.isEmpty()) {
+            judgmentEventJournalService.journalReplayed();
+            return false;
+        }
+
+        List<JudgmentEvent> judgmentEvents = batch.judgmentEvents();
+        log.debug("Replay batch of [{}] journalled judgmentEvents", judgmentEvents.size());
+        List<JudgmentEventResult> results = judgmentEventService.processJudgmentEvents(judgmentEvents);
+
+        List<JudgmentEvent> failed = new ArrayList<>();
+        int index = 0;
+        for (JudgmentEventResult result : results) {
+            if (result.getStatus() == HTTP_STATUS_INTERNAL_SERVER_ERROR) {
+                failed.add(judgmentEvents.get(index));
+            }
+            index++;
+        }
+
+        if (!failed.isEmpty()) {
+            if (++attempts < journalConfigProperties.getMaxAttempts()) {
+                log.warn("Journalled judgment events failed, batch will be replayed again");
+                return false;
+            }
+            // Not marked as replayed if the dead letter file cannot be written, so the batch is tried again
+            judgmentEventJournal.deadLetter(failed);
+        }
+
+        for (JudgmentEventResult result : results) {
+            if (result.getStatus() != HTTP_STATUS_CREATED && result.getStatus() != HTTP_STATUS_INTERNAL_SERVER_ERROR) {
+                // The caller has already been told the judgment event was accepted, so it can only be logged
+                log.error("Journalled judgmentEvent rejected: serviceId [{}], judgmentId [{}], timestamp [{}], "
+                              + "caseNumber [{}], status [{}], errorCode [{}], errorMessage [{}]",
+                          result.getServiceId(),
+                          result.getJudgmentId(),
+                          result.getJudgmentEventTimeStamp(),
+                          result.getCaseNumber(),
+                          result.getStatus(),
+                          result.getErrorCode(),
+                          result.getErrorMessage());
+            }
+        }
+
+        attempts = 0;
+        if (judgmentEventJournal.markReplayed(batch.endPosition())) {
+            judgmentEventJournalService.journalReplayed();
+            return false;
+        }
+        return true;
+    }
+}
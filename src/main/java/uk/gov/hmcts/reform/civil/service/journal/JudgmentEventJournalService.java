@@ -0,0 +1,93 @@
+package uk.gov.hmcts.reform.civil.service.journal;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.CannotCreateTransactionException;
+import uk.gov.hmcts.reform.civil.model.JudgmentEvent;
+import uk.gov.hmcts.reform.civil.service.JudgmentEventService;
+
+/**
+ * Accepts judgment events into the journal while the database is unavailable.  Once a judgment event has been
+ * journalled, later judgment events are also journalled until the journal has been replayed, so that callers are
+ * not held up waiting for the database to time out.
+ */
+@Service
+@Slf4j
+public class JudgmentEventJournalService {
+
+    private final JudgmentEventService judgmentEventService;
+    private final JudgmentEventJournal judgmentEventJournal;
+    private final JournalConfigProperties journalConfigProperties;
+
+    private volatile boolean journalling;
+
+    @Autowired
+    public JudgmentEventJournalService(JudgmentEventService judgmentEventService,
+                                       JudgmentEventJournal judgmentEventJournal,
+                                       JournalConfigProperties journalConfigProperties) {
+        this.judgmentEventService = judgmentEventService;
+        this.judgmentEventJournal = judgmentEventJournal;
+        this.journalConfigProperties = journalConfigProperties;
+    }
+
+    public boolean isEnabled() {
+        return journalConfigProperties.isEnabled();
+    }
+
+    /**
+     * Check if judgment events should go straight to the journal, because the database was recently unavailable
+     * and the journal has not yet been replayed.
+     *
+     * @return true if judgment events should be journalled
+     */
+    public boolean isJournalling() {
+        return journalling;
+    }
+
+    /**
+     * Check if a failure to process a judgment event was caused by the database being unavailable.
+     *
+     * @param e - the failure
+     * @return true if the judgment event can be journalled instead
+     */
+    public boolean isDatabaseUnavailable(RuntimeException e) {
+        return isEnabled()
+            && (e instanceof CannotCreateTransactionException
+                || e instanceof DataAccessResourceFailureException
+                || e instanceof TransientDataAccessException);
+    }
+
+    /**
+     * Validate a judgment event and append it to the journal, to be processed once the database is available.
+     *
+     * @param judgmentEvent - the judgment event to journal
+     */
+    public void journalJudgmentEvent(JudgmentEvent judgmentEvent) {
+        log.debug("Journal judgmentEvent: serviceId [{}], judgmentId [{}], timestamp [{}], caseNumber [{}]",
+                  judgmentEvent.getServiceId(),
+                  judgmentEvent.getJudgmentId(),
+                  judgmentEvent.getJudgmentEventTimeStamp(),
+                  judgmentEvent.getCaseNumber());
+
+        judgmentEventService.validateJudgmentEvent(judgmentEvent);
+
+        if (!journalling) {
+            log.warn("Database unavailable, journalling judgment events");
+            journalling = true;
+        }
+        judgmentEventJournal.append(judgmentEvent);
+    }
+
+    /**
+     * Record that the journal has been replayed, so judgment events are processed directly again.
+     */
+    public void journalReplayed() {
+        if (journalling) {
+            log.info("Judgment event journal replayed, no longer journalling judgment events");
+            journalling = false;
+        }
+    }
+}
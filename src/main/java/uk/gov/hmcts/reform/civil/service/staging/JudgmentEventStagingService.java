@@ -0,0 +1,128 @@
+package uk.gov.hmcts.reform.civil.service.staging;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import uk.gov.hmcts.reform.civil.domain.JudgmentEventStaging;
+import uk.gov.hmcts.reform.civil.model.JudgmentEvent;
+import uk.gov.hmcts.reform.civil.repository.JudgmentEventStagingRepository;
+import uk.gov.hmcts.reform.civil.service.JudgmentEventService;
+
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Service
+@Transactional
+@Slf4j
+public class JudgmentEventStagingService {
+
+    private static final int MAX_ERROR_MESSAGE_LENGTH = 255;
+
+    private final JudgmentEventService judgmentEventService;
+    private final JudgmentEventStagingRepository judgmentEventStagingRepository;
+    private final ObjectMapper objectMapper;
+    private final StagingConfigProperties stagingConfigProperties;
+
+    @Autowired
+    public JudgmentEventStagingService(JudgmentEventService judgmentEventService,
+                                       JudgmentEventStagingRepository judgmentEventStagingRepository,
+                                       ObjectMapper objectMapper,
+                                       StagingConfigProperties stagingConfigProperties) {
+        this.judgmentEventService = judgmentEventService;
+        this.judgmentEventStagingRepository = judgmentEventStagingRepository;
+        this.objectMapper = objectMapper;
+        this.stagingConfigProperties = stagingConfigProperties;
+    }
+
+    public boolean isEnabled() {
+        return stagingConfigProperties.isEnabled();
+    }
+
+    /**
+     * Validate a judgment event and stage it for processing by a staging worker.
+     *
+     * @param judgmentEvent - the judgment event to stage
+     */
+    public void stageJudgmentEvent(JudgmentEvent judgmentEvent) {
+        log.debug("Stage judgmentEvent: serviceId [{}], judgmentId [{}], timestamp [{}], caseNumber [{}]",
+                  judgmentEvent.getServiceId(),
+                  judgmentEvent.getJudgmentId(),
+                  judgmentEvent.getJudgmentEventTimeStamp(),
+                  judgmentEvent.getCaseNumber());
+
+        judgmentEventService.validateJudgmentEvent(judgmentEvent);
+
+        JudgmentEventStaging staging = new JudgmentEventStaging();
+        staging.setServiceId(judgmentEvent.getServiceId());
+        staging.setJudgmentId(judgmentEvent.getJudgmentId());
+        staging.setJudgmentEventTimestamp(judgmentEvent.getJudgmentEventTimeStamp());
+        staging.setCaseNumber(judgmentEvent.getCaseNumber());
+        staging.setPayload(writePayload(judgmentEvent));
+        staging.setStatus(JudgmentEventStaging.STATUS_PENDING);
+        staging.setReceivedAt(LocalDateTime.now());
+
+        judgmentEventStagingRepository.save(staging);
+    }
+
+    /**
+     * Claim a batch of staged judgment events for processing.  The claim is committed when this method returns,
+     * so that the claimed judgment events can be processed outside of a transaction.
+     *
+     * @return the claimed judgment events, oldest first
+     */
+    public List<JudgmentEventStaging> claimJudgmentEvents() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime claimedBefore = now.minusSeconds(stagingConfigProperties.getClaimTimeout());
+
+        List<JudgmentEventStaging> claimed =
+            judgmentEventStagingRepository.findForProcessing(claimedBefore, stagingConfigProperties.getBatchSize());
+
+        for (JudgmentEventStaging staging : claimed) {
+            staging.setStatus(JudgmentEventStaging.STATUS_PROCESSING);
+            staging.setClaimedAt(now);
+            staging.setAttempts(staging.getAttempts() + 1);
+        }
+        judgmentEventStagingRepository.saveAll(claimed);
+
+        log.debug("Claimed [{}] staged judgmentEvents", claimed.size());
+        return claimed;
+    }
+
+    /**
+     * Record the outcome of processing claimed judgment events.  Judgment events that were processed successfully
+     * are removed.  Failed judgment events are kept, with their error, and are not retried.
+     *
+     * @param completed - judgment events that were processed successfully
+     * @param failed - judgment events that failed, with their error code and error message set
+     */
+    public void finishJudgmentEvents(List<JudgmentEventStaging> completed, List<JudgmentEventStaging> failed) {
+        log.debug("Finish staged judgmentEvents: completed [{}], failed [{}]", completed.size(), failed.size());
+
+        if (!completed.isEmpty()) {
+            judgmentEventStagingRepository.deleteAllByIdInBatch(
+                completed.stream().map(JudgmentEventStaging::getId).toList()
+            );
+        }
+
+        for (JudgmentEventStaging staging : failed) {
+            String errorMessage = staging.getErrorMessage();
+            if (errorMessage != null && errorMessage.length() > MAX_ERROR_MESSAGE_LENGTH) {
+                staging.setErrorMessage(errorMessage.substring(0, MAX_ERROR_MESSAGE_LENGTH));
+            }
+            staging.setStatus(JudgmentEventStaging.STATUS_FAILED);
+        }
+        judgmentEventStagingRepository.saveAll(failed);
+    }
+
+    private String writePayload(JudgmentEvent judgmentEvent) {
+        try {
+            return objectMapper.writeValueAsString(judgmentEvent);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package uk.gov.hmcts.reform.civil.service.staging;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.civil.domain.JudgmentEventStaging;
+import uk.gov.hmcts.reform.civil.model.JudgmentEvent;
+import uk.gov.hmcts.reform.civil.model.JudgmentEventResult;
+import uk.gov.hmcts.reform.civil.service.JudgmentEventService;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pool of workers that drain staged judgment events.  Each worker claims a batch of staged judgment events,
+ * processes them outside of a transaction and then records the outcome.  Workers only run when staging is enabled.
+ */
+@Component
+@Slf4j
+public class JudgmentEventStagingWorker {
+
+    private static final int HTTP_STATUS_CREATED = 201;
+    private static final int HTTP_STATUS_INTERNAL_SERVER_ERROR = 500;
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 30;
+
+    private static final String ERROR_MESSAGE_UNREADABLE = "unable to read staged judgment event";
+
+    private final JudgmentEventStagingService judgmentEventStagingService;
+    private final JudgmentEventService judgmentEventService;
+    private final ObjectReader judgmentEventReader;
+    private final StagingConfigProperties stagingConfigProperties;
+
+    private ScheduledExecutorService executorService;
+
+    @Autowired
+    public JudgmentEventStagingWorker(JudgmentEventStagingService judgmentEventStagingService,
+                                      JudgmentEventService judgmentEventService,
+                                      ObjectMapper objectMapper,
+                                      StagingConfigProperties stagingConfigProperties) {
+        this.judgmentEventStagingService = judgmentEventStagingService;
+        this.judgmentEventService = judgmentEventService;
+        judgmentEventReader = objectMapper.readerFor(JudgmentEvent.class);
+        this.stagingConfigProperties = stagingConfigProperties;
+    }
+
+    @PostConstruct
+    public void start() {
+        int workers = stagingConfigProperties.getWorkers();
+        if (!stagingConfigProperties.isEnabled() || workers <= 0) {
+            log.debug("Staging workers not started");
+            return;
+        }
+
+        log.info("Starting [{}] staging workers", workers);
+        executorService = Executors.newScheduledThreadPool(workers);
+        long pollInterval = stagingConfigProperties.getPollInterval();
+        for (int i = 0; i < workers; i++) {
+            executorService.scheduleWithFixedDelay(this::drainJudgmentEvents,
+                                                   pollInterval,
+                                                   pollInterval,
+                                                   TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (executorService != null) {
+            log.info("Stopping staging workers");
+            executorService.shutdown();
+            if (!executorService.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                // Unfinished claims will be reclaimed once they expire
+                executorService.shutdownNow();
+            }
+        }
+    }
+
+    /**
+     * Process staged judgment events until there are none left to claim.
+     */
+    public void drainJudgmentEvents() {
+        try {
+            int processed;
+            do {
+                processed = processJudgmentEvents();
+            } while (processed >= stagingConfigProperties.getBatchSize() && !Thread.currentThread().isInterrupted());
+        } catch (RuntimeException e) {
+            // A scheduled task that throws is not run again, so log and try again on the next poll
+            log.error("Failed to process staged judgment events", e);
+        }
+    }
+
+    /**
+     * Claim and process a single batch of staged judgment events.
+     *
+     * @return the number of judgment events claimed
+     */
+    public int processJudgmentEvents() {
+        List<JudgmentEventStaging> claimed = judgmentEventStagingService.claimJudgmentEvents();
+        if (claimed.isEmpty()) {
+            return 0;
+        }
+
+        List<JudgmentEventStaging> readable = new ArrayList<>(claimed.size());
+        List<JudgmentEvent> judgmentEvents = new ArrayList<>(claimed.size());
+        List<JudgmentEventStaging> completed = new ArrayList<>(claimed.size());
+        List<JudgmentEventStaging> failed = new ArrayList<>();
+
+        for (JudgmentEventStaging staging : claimed) {
+            try {
+                judgmentEvents.add(judgmentEventReader.readValue(staging.getPayload()));
+                readable.add(staging);
+            } catch (JsonProcessingException e) {
+                log.debug("Unable to read staged judgmentEvent [{}]", staging.getId(), e);
+                staging.setErrorMessage(ERROR_MESSAGE_UNREADABLE);
+                failed.add(staging);
+            }
+        }
+
+        List<JudgmentEventResult> results;
+        try {
+            results = judgmentEventService.processJudgmentEvents(judgmentEvents);
+        } catch (RuntimeException e) {
+            // Nothing was saved, so process the batch one judgment event at a time to hold back only those that fail
+            log.warn("Failed to process batch of [{}] staged judgmentEvents, processing them separately",
+                     judgmentEvents.size(),
+                     e);
+            results = processJudgmentEventsSeparately(judgmentEvents);
+        }
+
+        int index = 0;
+        for (JudgmentEventResult result : results) {
+            JudgmentEventStaging staging = readable.get(index);
+            if (result.getStatus() == HTTP_STATUS_CREATED) {
+                completed.add(staging);
+            } else if (result.getStatus() == HTTP_STATUS_INTERNAL_SERVER_ERROR
+                && staging.getAttempts() < stagingConfigProperties.getMaxAttempts()) {
+                // Left claimed, so that it is retried once the claim expires
+                log.debug("Staged judgmentEvent [{}] will be retried", staging.getId());
+            } else {
+                staging.setErrorCode(result.getErrorCode());
+                staging.setErrorMessage(result.getErrorMessage());
+                failed.add(staging);
+            }
+            index++;
+        }
+
+        judgmentEventStagingService.finishJudgmentEvents(completed, failed);
+
+        return claimed.size();
+    }
+
+    /**
+     * Process judgment events one at a time.  A judgment event that cannot be processed is given an internal error
+     * result, so that it is retried until it runs out of attempts without holding back the rest of its batch.
+     */
+    private List<JudgmentEventResult> processJudgmentEventsSeparately(List<JudgmentEvent> judgmentEvents) {
+        List<JudgmentEventResult> results = new ArrayList<>(judgmentEvents.size());
+        for (JudgmentEvent judgmentEvent : judgmentEvents) {
+            try {
+                results.addAll(judgmentEventService.processJudgmentEvents(Collections.singletonList(judgmentEvent)));
+            } catch (RuntimeException e) {
+                log.error("Failed to process staged judgmentEvent: "
+                              + "serviceId [{}], judgmentId [{}], timestamp [{}], caseNumber [{}]",
+                          judgmentEvent.getServiceId(),
+                          judgmentEvent.getJudgmentId(),
+                          judgmentEvent.getJudgmentEventTimeStamp(),
+                          judgmentEvent.getCaseNumber(),
+                          e);
+                results.add(JudgmentEventResult.internalError(judgmentEvent));
+            }
+        }
+        return results;
+    }
+}
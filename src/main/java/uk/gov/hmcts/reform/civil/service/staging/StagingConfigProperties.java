@@ -0,0 +1,25 @@
+package uk.gov.hmcts.reform.civil.service.staging;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "rtl-export.ingest.staging")
+@Getter
+@Setter
+public class StagingConfigProperties {
+
+    private boolean enabled;
+
+    private int workers;
+
+    private int batchSize;
+
+    private long pollInterval;
+
+    private long claimTimeout;
+
+    private int maxAttempts;
+}
@@ -0,0 +1,48 @@
+package uk.gov.hmcts.reform.civil.service.task;
+
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.civil.service.BackfillService;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+@Component
+@Slf4j
+public class BackfillTask implements Runnable {
+
+    @Setter
+    private String file;
+
+    private final BackfillService backfillService;
+
+    @Autowired
+    public BackfillTask(BackfillService backfillService,
+                        @Value("${rtl-export.task.backfill.file}") String file) {
+        this.backfillService = backfillService;
+        this.file = file;
+    }
+
+    @Override
+    public void run() {
+        log.info("Backfill - started");
+
+        if (file == null || file.isBlank()) {
+            log.error("Backfill file not specified");
+            return;
+        }
+
+        Path backfillFile = Path.of(file);
+        if (!Files.isReadable(backfillFile)) {
+            log.error("Backfill file not found [{}]", file);
+            return;
+        }
+
+        backfillService.backfill(backfillFile);
+
+        log.info("Backfill - completed");
+    }
+}
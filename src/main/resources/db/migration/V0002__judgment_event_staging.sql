@@ -0,0 +1,46 @@
+SET search_path TO public;
+
+------------------------------------------------
+-- Create tables
+------------------------------------------------
+CREATE TABLE judgment_event_staging
+(id BIGINT,
+service_id VARCHAR(4),
+judgment_id VARCHAR(40),
+judgment_event_timestamp TIMESTAMP(2),
+case_number VARCHAR(8),
+payload TEXT,
+status VARCHAR(10),
+received_at TIMESTAMP(2),
+claimed_at TIMESTAMP(2),
+attempts NUMERIC DEFAULT 0,
+error_code VARCHAR(3),
+error_message VARCHAR(255)
+);
+
+
+------------------------------------------------
+-- Create indices
+------------------------------------------------
+CREATE UNIQUE INDEX jes_ind_pk ON judgment_event_staging (id);
+CREATE INDEX jes_sta_ind ON judgment_event_staging (status, id);
+
+
+------------------------------------------------
+-- Create Primary Keys
+------------------------------------------------
+ALTER TABLE judgment_event_staging ADD CONSTRAINT jes_pk PRIMARY KEY USING INDEX jes_ind_pk;
+
+
+------------------------------------------------
+-- Create Check Constraints
+------------------------------------------------
+ALTER TABLE judgment_event_staging ADD CONSTRAINT jes_pay_nn CHECK (payload IS NOT NULL);
+ALTER TABLE judgment_event_staging ADD CONSTRAINT jes_sta_nn CHECK (status IS NOT NULL);
+ALTER TABLE judgment_event_staging ADD CONSTRAINT jes_rec_at_nn CHECK (received_at IS NOT NULL);
+
+
+------------------------------------------------
+-- Create Sequences for PUBLIC
+------------------------------------------------
+CREATE SEQUENCE jes_seq MINVALUE 1 MAXVALUE 999999999999999999 INCREMENT BY 1 START WITH 1 NO CYCLE;
@@ -0,0 +1,6 @@
+SET search_path TO public;
+
+------------------------------------------------
+-- Add columns
+------------------------------------------------
+ALTER TABLE judgments ADD COLUMN content_hash VARCHAR(64);
@@ -0,0 +1,44 @@
+SET search_path TO public;
+
+------------------------------------------------
+-- Create tables
+------------------------------------------------
+-- Key columns are not limited to the lengths allowed for judgments, every judgment event received is audited
+CREATE TABLE judgment_event_audit
+(id BIGINT,
+service_id VARCHAR,
+judgment_id VARCHAR,
+judgment_event_timestamp TIMESTAMP(2),
+case_number VARCHAR,
+payload JSONB,
+received_at TIMESTAMP(2),
+outcome VARCHAR(10)
+);
+
+
+------------------------------------------------
+-- Create indices
+------------------------------------------------
+CREATE UNIQUE INDEX jea_ind_pk ON judgment_event_audit (id);
+CREATE INDEX jea_eve_ind ON judgment_event_audit (service_id, judgment_id, received_at);
+
+
+------------------------------------------------
+-- Create Primary Keys
+------------------------------------------------
+ALTER TABLE judgment_event_audit ADD CONSTRAINT jea_pk PRIMARY KEY USING INDEX jea_ind_pk;
+
+
+------------------------------------------------
+-- Create Check Constraints
+------------------------------------------------
+ALTER TABLE judgment_event_audit ADD CONSTRAINT jea_pay_nn CHECK (payload IS NOT NULL);
+ALTER TABLE judgment_event_audit ADD CONSTRAINT jea_rec_at_nn CHECK (received_at IS NOT NULL);
+ALTER TABLE judgment_event_audit ADD CONSTRAINT jea_out_nn CHECK (outcome IS NOT NULL);
+
+
+------------------------------------------------
+-- Create Sequences for PUBLIC
+------------------------------------------------
+-- Audit ids are allocated in blocks of 50, matching the allocationSize of the JudgmentEventAudit entity
+CREATE SEQUENCE jea_seq MINVALUE 1 MAXVALUE 999999999999999999 INCREMENT BY 50 START WITH 1 NO CYCLE;
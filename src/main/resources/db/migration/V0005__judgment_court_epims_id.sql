@@ -0,0 +1,8 @@
+SET search_path TO public;
+
+------------------------------------------------
+-- Add columns
+------------------------------------------------
+-- Judgments saved before this column was added have no court EPIMS id, so are never treated as replays without
+-- looking up their court code
+ALTER TABLE judgments ADD COLUMN court_epims_id VARCHAR(255);
@@ -0,0 +1,84 @@
+package uk.gov.hmcts.reform.civil.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import uk.gov.hmcts.reform.civil.model.JudgmentEvent;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static uk.gov.hmcts.reform.civil.config.BinaryFormatConfiguration.APPLICATION_SMILE_VALUE;
+
+class BinaryFormatConfigurationTest {
+
+    private static final String SERVICE_ID = "UT01";
+    private static final String JUDGMENT_ID = "1001";
+    private static final LocalDateTime JUDGMENT_EVENT_TIMESTAMP = LocalDateTime.of(2024, 1, 1, 1, 0, 0);
+    private static final BigDecimal JUDGMENT_ADMIN_ORDER_TOTAL = new BigDecimal("11.00");
+    private static final LocalDate JUDGMENT_ADMIN_ORDER_DATE = LocalDate.of(2024, 1, 1);
+
+    private BinaryFormatConfiguration binaryFormatConfiguration;
+
+    @BeforeEach
+    void setUp() {
+        binaryFormatConfiguration = new BinaryFormatConfiguration();
+    }
+
+    @Test
+    void testCborHttpMessageConverter() throws IOException {
+        MappingJackson2CborHttpMessageConverter converter =
+            binaryFormatConfiguration.cborHttpMessageConverter(new Jackson2ObjectMapperBuilder());
+
+        assertTrue(converter.getSupportedMediaTypes().contains(MediaType.APPLICATION_CBOR),
+                   "Converter should support CBOR");
+        assertRoundTrip(converter.getObjectMapper());
+        assertInstanceOf(CBORFactory.class, converter.getObjectMapper().getFactory(), "Unexpected factory");
+    }
+
+    @Test
+    void testSmileHttpMessageConverter() throws IOException {
+        MappingJackson2SmileHttpMessageConverter converter =
+            binaryFormatConfiguration.smileHttpMessageConverter(new Jackson2ObjectMapperBuilder());
+
+        assertTrue(converter.getSupportedMediaTypes().contains(MediaType.parseMediaType(APPLICATION_SMILE_VALUE)),
+                   "Converter should support Smile");
+        assertRoundTrip(converter.getObjectMapper());
+        assertInstanceOf(SmileFactory.class, converter.getObjectMapper().getFactory(), "Unexpected factory");
+    }
+
+    private void assertRoundTrip(ObjectMapper objectMapper) throws IOException {
+        JudgmentEvent judgmentEvent = new JudgmentEvent();
+        judgmentEvent.setServiceId(SERVICE_ID);
+        judgmentEvent.setJudgmentId(JUDGMENT_ID);
+        judgmentEvent.setJudgmentEventTimeStamp(JUDGMENT_EVENT_TIMESTAMP);
+        judgmentEvent.setJudgmentAdminOrderTotal(JUDGMENT_ADMIN_ORDER_TOTAL);
+        judgmentEvent.setJudgmentAdminOrderDate(JUDGMENT_ADMIN_ORDER_DATE);
+
+        JudgmentEvent result =
+            objectMapper.readValue(objectMapper.writeValueAsBytes(judgmentEvent), JudgmentEvent.class);
+
+        assertEquals(SERVICE_ID, result.getServiceId(), "Judgment event has unexpected service id");
+        assertEquals(JUDGMENT_ID, result.getJudgmentId(), "Judgment event has unexpected judgment id");
+        assertEquals(JUDGMENT_EVENT_TIMESTAMP,
+                     result.getJudgmentEventTimeStamp(),
+                     "Judgment event has unexpected timestamp");
+        assertEquals(JUDGMENT_ADMIN_ORDER_TOTAL,
+                     result.getJudgmentAdminOrderTotal(),
+                     "Judgment event has unexpected admin order total");
+        assertEquals(JUDGMENT_ADMIN_ORDER_DATE,
+                     result.getJudgmentAdminOrderDate(),
+                     "Judgment event has unexpected admin order date");
+    }
+}
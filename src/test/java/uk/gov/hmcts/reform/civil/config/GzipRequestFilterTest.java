@@ -0,0 +1,130 @@
+package uk.gov.hmcts.reform.civil.config;
+
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.springframework.http.HttpHeaders.CONTENT_ENCODING;
+import static org.springframework.http.HttpHeaders.CONTENT_TYPE;
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+
+class GzipRequestFilterTest {
+
+    private static final long MAX_INFLATED_SIZE = 1024L;
+
+    private static final String JUDGMENT_EVENT = """
+        {
+          "serviceId": "UT01",
+          "judgmentId": "1001"
+        }
+        """;
+
+    private GzipRequestFilter gzipRequestFilter;
+
+    private MockFilterChain filterChain;
+
+    @BeforeEach
+    void setUp() {
+        gzipRequestFilter = new GzipRequestFilter(MAX_INFLATED_SIZE);
+        filterChain = new MockFilterChain();
+    }
+
+    @Test
+    void testGzipRequest() throws Exception {
+        MockHttpServletRequest request = createRequest(gzip(JUDGMENT_EVENT), "gzip");
+
+        gzipRequestFilter.doFilter(request, new MockHttpServletResponse(), filterChain);
+
+        ServletRequest filteredRequest = filterChain.getRequest();
+        assertNotNull(filteredRequest, "Filter chain should have been called");
+        assertEquals(JUDGMENT_EVENT, readBody(filteredRequest.getInputStream()), "Unexpected inflated request body");
+        assertEquals(-1, filteredRequest.getContentLength(), "Content length should be unknown");
+        assertNull(getHeader(filteredRequest, CONTENT_ENCODING), "Content encoding should be hidden");
+        assertEquals(APPLICATION_JSON_VALUE, getHeader(filteredRequest, CONTENT_TYPE), "Unexpected content type");
+    }
+
+    @Test
+    void testGzipRequestReader() throws Exception {
+        MockHttpServletRequest request = createRequest(gzip(JUDGMENT_EVENT), "x-gzip");
+
+        gzipRequestFilter.doFilter(request, new MockHttpServletResponse(), filterChain);
+
+        StringBuilder body = new StringBuilder();
+        filterChain.getRequest().getReader().lines().forEach(line -> body.append(line).append('\n'));
+        assertEquals(JUDGMENT_EVENT, body.toString(), "Unexpected inflated request body");
+    }
+
+    @Test
+    void testUncompressedRequest() throws Exception {
+        MockHttpServletRequest request = createRequest(JUDGMENT_EVENT.getBytes(StandardCharsets.UTF_8), null);
+
+        gzipRequestFilter.doFilter(request, new MockHttpServletResponse(), filterChain);
+
+        assertSame(request, filterChain.getRequest(), "Uncompressed request should not be wrapped");
+    }
+
+    @Test
+    void testGzipRequestExceedsMaxInflatedSize() throws Exception {
+        MockHttpServletRequest request = createRequest(gzip("x".repeat((int) MAX_INFLATED_SIZE + 1)), "gzip");
+
+        gzipRequestFilter.doFilter(request, new MockHttpServletResponse(), filterChain);
+
+        InputStream inputStream = filterChain.getRequest().getInputStream();
+        assertThrows(IOException.class,
+                     inputStream::readAllBytes,
+                     "Reading beyond the maximum inflated size should fail");
+    }
+
+    @Test
+    void testGzipRequestNotGzipFormat() throws Exception {
+        MockHttpServletRequest request = createRequest(JUDGMENT_EVENT.getBytes(StandardCharsets.UTF_8), "gzip");
+
+        gzipRequestFilter.doFilter(request, new MockHttpServletResponse(), filterChain);
+
+        ServletRequest filteredRequest = filterChain.getRequest();
+        assertThrows(IOException.class,
+                     filteredRequest::getInputStream,
+                     "Body that is not in gzip format should fail to be read");
+    }
+
+    private MockHttpServletRequest createRequest(byte[] content, String contentEncoding) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/judgments");
+        request.setContentType(APPLICATION_JSON_VALUE);
+        request.setContent(content);
+        if (contentEncoding != null) {
+            request.addHeader(CONTENT_ENCODING, contentEncoding);
+        }
+        return request;
+    }
+
+    private String getHeader(ServletRequest request, String name) {
+        return ((HttpServletRequest) request).getHeader(name);
+    }
+
+    private byte[] gzip(String content) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream)) {
+            gzipOutputStream.write(content.getBytes(StandardCharsets.UTF_8));
+        }
+        return outputStream.toByteArray();
+    }
+
+    private String readBody(InputStream inputStream) throws IOException {
+        return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,36 @@
+package uk.gov.hmcts.reform.civil.config;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.civil.service.ingest.JudgmentEventReader;
+
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.Mockito.mock;
+
+class JacksonConfigurationTest {
+
+    private JacksonConfiguration jacksonConfiguration;
+
+    @BeforeEach
+    void setUp() {
+        jacksonConfiguration = new JacksonConfiguration();
+    }
+
+    @Test
+    void testBlackbirdModule() {
+        Module module = jacksonConfiguration.blackbirdModule();
+
+        assertInstanceOf(BlackbirdModule.class, module, "A BlackbirdModule should be returned");
+    }
+
+    @Test
+    void testJudgmentEventHttpMessageConverter() {
+        JudgmentEventHttpMessageConverter converter =
+            jacksonConfiguration.judgmentEventHttpMessageConverter(mock(JudgmentEventReader.class));
+
+        assertNotNull(converter, "JudgmentEventHttpMessageConverter should not be null");
+    }
+}
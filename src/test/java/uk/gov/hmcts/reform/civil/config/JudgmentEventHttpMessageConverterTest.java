@@ -0,0 +1,97 @@
+package uk.gov.hmcts.reform.civil.config;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.mock.http.MockHttpInputMessage;
+import uk.gov.hmcts.reform.civil.model.JudgmentEvent;
+import uk.gov.hmcts.reform.civil.model.JudgmentEventResult;
+import uk.gov.hmcts.reform.civil.service.ingest.JudgmentEventReader;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class JudgmentEventHttpMessageConverterTest {
+
+    private static final byte[] BODY = "{}".getBytes(StandardCharsets.UTF_8);
+
+    @Mock
+    private JudgmentEventReader mockJudgmentEventReader;
+
+    private JudgmentEventHttpMessageConverter judgmentEventHttpMessageConverter;
+
+    @BeforeEach
+    void setUp() {
+        judgmentEventHttpMessageConverter = new JudgmentEventHttpMessageConverter(mockJudgmentEventReader);
+    }
+
+    @Test
+    void testCanRead() {
+        assertTrue(judgmentEventHttpMessageConverter.canRead(JudgmentEvent.class, MediaType.APPLICATION_JSON),
+                   "Converter should read JSON judgment events");
+        assertFalse(judgmentEventHttpMessageConverter.canRead(JudgmentEvent.class, MediaType.APPLICATION_CBOR),
+                    "Converter should not read CBOR judgment events");
+        assertFalse(judgmentEventHttpMessageConverter.canRead(JudgmentEventResult.class, MediaType.APPLICATION_JSON),
+                    "Converter should not read other types");
+    }
+
+    @Test
+    void testCanWrite() {
+        assertFalse(judgmentEventHttpMessageConverter.canWrite(JudgmentEvent.class, MediaType.APPLICATION_JSON),
+                    "Converter should not write judgment events");
+    }
+
+    @Test
+    void testRead() throws IOException {
+        JudgmentEvent judgmentEvent = new JudgmentEvent();
+        when(mockJudgmentEventReader.read(any(InputStream.class))).thenReturn(judgmentEvent);
+
+        MockHttpInputMessage inputMessage = new MockHttpInputMessage(BODY);
+        inputMessage.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+
+        assertSame(judgmentEvent,
+                   judgmentEventHttpMessageConverter.read(JudgmentEvent.class, inputMessage),
+                   "Unexpected judgment event returned");
+    }
+
+    @Test
+    void testReadOtherCharset() throws IOException {
+        JudgmentEvent judgmentEvent = new JudgmentEvent();
+        when(mockJudgmentEventReader.read(any(Reader.class))).thenReturn(judgmentEvent);
+
+        MockHttpInputMessage inputMessage = new MockHttpInputMessage(BODY);
+        inputMessage.getHeaders().setContentType(new MediaType(MediaType.APPLICATION_JSON, StandardCharsets.UTF_16));
+
+        assertSame(judgmentEvent,
+                   judgmentEventHttpMessageConverter.read(JudgmentEvent.class, inputMessage),
+                   "Unexpected judgment event returned");
+    }
+
+    @Test
+    void testReadNotReadable() throws IOException {
+        when(mockJudgmentEventReader.read(any(InputStream.class)))
+            .thenThrow(new JsonParseException(null, "Unexpected character"));
+
+        MockHttpInputMessage inputMessage = new MockHttpInputMessage(BODY);
+        inputMessage.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+
+        assertThrows(HttpMessageNotReadableException.class,
+                     () -> judgmentEventHttpMessageConverter.read(JudgmentEvent.class, inputMessage),
+                     "Expected HttpMessageNotReadableException to be thrown");
+    }
+}
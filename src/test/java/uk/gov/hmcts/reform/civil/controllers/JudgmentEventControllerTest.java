@@ -1,31 +1,89 @@
 package uk.gov.hmcts.reform.civil.controllers;
 
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletResponse;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.CannotCreateTransactionException;
+import uk.gov.hmcts.reform.civil.exception.BatchTooLargeException;
+import uk.gov.hmcts.reform.civil.exception.TooManyRequestsException;
 import uk.gov.hmcts.reform.civil.model.JudgmentEvent;
+import uk.gov.hmcts.reform.civil.model.JudgmentEventResult;
 import uk.gov.hmcts.reform.civil.service.JudgmentEventService;
+import uk.gov.hmcts.reform.civil.service.ingest.IngestAdmissionService;
+import uk.gov.hmcts.reform.civil.service.ingest.IngestConfigProperties;
+import uk.gov.hmcts.reform.civil.service.ingest.JudgmentEventStreamService;
+import uk.gov.hmcts.reform.civil.service.journal.JudgmentEventJournalService;
+import uk.gov.hmcts.reform.civil.service.staging.JudgmentEventStagingService;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.http.MediaType.APPLICATION_NDJSON_VALUE;
 
 @ExtendWith(MockitoExtension.class)
 class JudgmentEventControllerTest {
 
+    private static final int HTTP_STATUS_OK = 200;
     private static final int HTTP_STATUS_CREATED = 201;
+    private static final int HTTP_STATUS_ACCEPTED = 202;
+
+    private static final String SERVICE_ID = "UT01";
+
+    private static final int MAX_BATCH_SIZE = 2;
 
     @Mock
     private JudgmentEventService mockJudgmentEventService;
 
+    @Mock
+    private JudgmentEventStreamService mockJudgmentEventStreamService;
+
+    @Mock
+    private JudgmentEventStagingService mockJudgmentEventStagingService;
+
+    @Mock
+    private JudgmentEventJournalService mockJudgmentEventJournalService;
+
+    @Mock
+    private IngestAdmissionService mockIngestAdmissionService;
+
+    @Mock
+    private HttpServletResponse mockHttpServletResponse;
+
+    @Mock
+    private ServletOutputStream mockServletOutputStream;
+
     private JudgmentEventController judgmentEventController;
 
     @BeforeEach
     void setUp() {
-        judgmentEventController = new JudgmentEventController(mockJudgmentEventService);
+        IngestConfigProperties ingestConfigProperties = new IngestConfigProperties();
+        ingestConfigProperties.setMaxBatchSize(MAX_BATCH_SIZE);
+
+        judgmentEventController = new JudgmentEventController(mockJudgmentEventService,
+                                                              mockJudgmentEventStreamService,
+                                                              mockJudgmentEventStagingService,
+                                                              mockJudgmentEventJournalService,
+                                                              mockIngestAdmissionService,
+                                                              ingestConfigProperties);
     }
 
     @Test
@@ -38,5 +96,136 @@ class JudgmentEventControllerTest {
         assertNull(response.getBody(), "Response body should be null");
 
         verify(mockJudgmentEventService).processJudgmentEvent(judgmentEvent);
+        verify(mockJudgmentEventStagingService, never()).stageJudgmentEvent(any(JudgmentEvent.class));
+    }
+
+    @Test
+    void testJudgmentEventAdmission() {
+        JudgmentEvent judgmentEvent = new JudgmentEvent();
+        judgmentEvent.setServiceId(SERVICE_ID);
+
+        IngestAdmissionService.Admission mockAdmission = mock(IngestAdmissionService.Admission.class);
+        when(mockIngestAdmissionService.admit(SERVICE_ID)).thenReturn(mockAdmission);
+
+        ResponseEntity<Void> response = judgmentEventController.judgmentEvent(judgmentEvent);
+
+        assertEquals(HTTP_STATUS_CREATED, response.getStatusCode().value(), "Response has unexpected status");
+        verify(mockJudgmentEventService).processJudgmentEvent(judgmentEvent);
+        verify(mockAdmission).close();
+    }
+
+    @Test
+    void testJudgmentEventRejected() {
+        JudgmentEvent judgmentEvent = new JudgmentEvent();
+        judgmentEvent.setServiceId(SERVICE_ID);
+
+        when(mockIngestAdmissionService.admit(SERVICE_ID)).thenThrow(new TooManyRequestsException("Rejected", 1));
+
+        assertThrows(TooManyRequestsException.class,
+                     () -> judgmentEventController.judgmentEvent(judgmentEvent),
+                     "TooManyRequestsException should be thrown");
+
+        verify(mockJudgmentEventService, never()).processJudgmentEvent(any(JudgmentEvent.class));
+    }
+
+    @Test
+    void testJudgmentEventStaged() {
+        JudgmentEvent judgmentEvent = new JudgmentEvent();
+
+        when(mockJudgmentEventStagingService.isEnabled()).thenReturn(true);
+
+        ResponseEntity<Void> response = judgmentEventController.judgmentEvent(judgmentEvent);
+
+        assertEquals(HTTP_STATUS_ACCEPTED, response.getStatusCode().value(), "Response has unexpected status");
+        assertNull(response.getBody(), "Response body should be null");
+
+        verify(mockJudgmentEventStagingService).stageJudgmentEvent(judgmentEvent);
+        verify(mockJudgmentEventService, never()).processJudgmentEvent(any(JudgmentEvent.class));
+    }
+
+    @Test
+    void testJudgmentEventJournalling() {
+        JudgmentEvent judgmentEvent = new JudgmentEvent();
+
+        when(mockJudgmentEventJournalService.isJournalling()).thenReturn(true);
+
+        ResponseEntity<Void> response = judgmentEventController.judgmentEvent(judgmentEvent);
+
+        assertEquals(HTTP_STATUS_ACCEPTED, response.getStatusCode().value(), "Response has unexpected status");
+        assertNull(response.getBody(), "Response body should be null");
+
+        verify(mockJudgmentEventJournalService).journalJudgmentEvent(judgmentEvent);
+        verify(mockJudgmentEventService, never()).processJudgmentEvent(any(JudgmentEvent.class));
+    }
+
+    @Test
+    void testJudgmentEventDatabaseUnavailable() {
+        JudgmentEvent judgmentEvent = new JudgmentEvent();
+
+        CannotCreateTransactionException exception = new CannotCreateTransactionException("Connection unavailable");
+        doThrow(exception).when(mockJudgmentEventService).processJudgmentEvent(judgmentEvent);
+        when(mockJudgmentEventJournalService.isDatabaseUnavailable(exception)).thenReturn(true);
+
+        ResponseEntity<Void> response = judgmentEventController.judgmentEvent(judgmentEvent);
+
+        assertEquals(HTTP_STATUS_ACCEPTED, response.getStatusCode().value(), "Response has unexpected status");
+        assertNull(response.getBody(), "Response body should be null");
+
+        verify(mockJudgmentEventJournalService).journalJudgmentEvent(judgmentEvent);
+    }
+
+    @Test
+    void testJudgmentEventDatabaseUnavailableNotJournalled() {
+        JudgmentEvent judgmentEvent = new JudgmentEvent();
+
+        CannotCreateTransactionException exception = new CannotCreateTransactionException("Connection unavailable");
+        doThrow(exception).when(mockJudgmentEventService).processJudgmentEvent(judgmentEvent);
+
+        assertThrows(CannotCreateTransactionException.class,
+                     () -> judgmentEventController.judgmentEvent(judgmentEvent),
+                     "Exception should be thrown when the journal is not enabled");
+
+        verify(mockJudgmentEventJournalService, never()).journalJudgmentEvent(any(JudgmentEvent.class));
+    }
+
+    @Test
+    void testJudgmentEvents() {
+        JudgmentEvent judgmentEvent = new JudgmentEvent();
+        List<JudgmentEvent> judgmentEvents = List.of(judgmentEvent);
+        List<JudgmentEventResult> results = List.of(JudgmentEventResult.created(judgmentEvent));
+
+        when(mockJudgmentEventService.processJudgmentEvents(judgmentEvents)).thenReturn(results);
+
+        ResponseEntity<List<JudgmentEventResult>> response = judgmentEventController.judgmentEvents(judgmentEvents);
+
+        assertEquals(HTTP_STATUS_OK, response.getStatusCode().value(), "Response has unexpected status");
+        assertEquals(results, response.getBody(), "Response has unexpected body");
+
+        verify(mockJudgmentEventService).processJudgmentEvents(judgmentEvents);
+    }
+
+    @Test
+    void testJudgmentEventsBatchTooLarge() {
+        List<JudgmentEvent> judgmentEvents = Collections.nCopies(MAX_BATCH_SIZE + 1, new JudgmentEvent());
+
+        assertThrows(BatchTooLargeException.class,
+                     () -> judgmentEventController.judgmentEvents(judgmentEvents),
+                     "BatchTooLargeException should be thrown");
+
+        verifyNoInteractions(mockIngestAdmissionService);
+        verify(mockJudgmentEventService, never()).processJudgmentEvents(anyList());
+    }
+
+    @Test
+    void testJudgmentEventStream() throws IOException {
+        InputStream requestBody = new ByteArrayInputStream(new byte[0]);
+
+        when(mockHttpServletResponse.getOutputStream()).thenReturn(mockServletOutputStream);
+
+        judgmentEventController.judgmentEventStream(requestBody, mockHttpServletResponse);
+
+        verify(mockHttpServletResponse).setStatus(HTTP_STATUS_OK);
+        verify(mockHttpServletResponse).setContentType(APPLICATION_NDJSON_VALUE);
+        verify(mockJudgmentEventStreamService).processJudgmentEvents(requestBody, mockServletOutputStream);
     }
 }
@@ -9,10 +9,12 @@ import uk.gov.hmcts.reform.civil.model.RegistrationType;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Objects;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Named.named;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
@@ -169,6 +171,67 @@ class JudgmentTest {
         assertFalse(judgment.equalsJudgment(otherJudgment), "Judgments should not be equal");
     }
 
+    @Test
+    void testEqualsJudgmentContentHash() {
+        Judgment judgment = createJudgment();
+        judgment.setContentHash("hash");
+
+        Judgment otherJudgment = createJudgmentDefendantName("DiffDef1FirstName Def1LastName");
+        otherJudgment.setContentHash("hash");
+
+        assertTrue(judgment.equalsJudgment(otherJudgment), "Judgments with the same content hash should be equal");
+
+        otherJudgment.setContentHash("otherHash");
+        assertFalse(judgment.equalsJudgment(otherJudgment),
+                    "Judgments with different content hashes should not be equal");
+    }
+
+    @Test
+    void testCalculateContentHash() {
+        String contentHash = createJudgment().calculateContentHash();
+
+        assertEquals(64, contentHash.length(), "Content hash does not have expected length");
+        assertEquals(contentHash, createJudgment().calculateContentHash(), "Content hash should be stable");
+        assertEquals(contentHash,
+                     createJudgmentReportedToRtl(null).calculateContentHash(),
+                     "Content hash should not include reportedToRtl");
+    }
+
+    @Test
+    void testCalculateContentHashNormalised() {
+        Judgment judgment = createJudgmentJudgmentAdminOrderTotal(new BigDecimal("1.0"));
+        judgment.setJudgmentEventTimestamp(LocalDateTime.of(2024, 11, 1, 1, 0, 0, 1_000));
+
+        assertEquals(createJudgment().calculateContentHash(),
+                     judgment.calculateContentHash(),
+                     "Content hash should use the stored precision of values");
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("judgmentsFieldValues")
+    void testCalculateContentHashOtherFieldValueDiff(Judgment otherJudgment) {
+        assertContentHashDiff(otherJudgment);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("judgmentsFieldValuesNull")
+    void testCalculateContentHashOtherFieldValueNull(Judgment otherJudgment) {
+        assertContentHashDiff(otherJudgment);
+    }
+
+    private void assertContentHashDiff(Judgment otherJudgment) {
+        Judgment judgment = createJudgment();
+        if (Objects.equals(judgment.getReportedToRtl(), otherJudgment.getReportedToRtl())) {
+            assertNotEquals(judgment.calculateContentHash(),
+                            otherJudgment.calculateContentHash(),
+                            "Content hashes should not be equal");
+        } else {
+            assertEquals(judgment.calculateContentHash(),
+                         otherJudgment.calculateContentHash(),
+                         "Content hashes should be equal when only reportedToRtl differs");
+        }
+    }
+
     private void assertNotEqualsJudgment(Judgment otherJudgment) {
         Judgment judgment = createJudgment();
         assertFalse(judgment.equalsJudgment(otherJudgment), "Judgments should not be equal");
@@ -2,15 +2,19 @@ package uk.gov.hmcts.reform.civil.exception;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
 class RestExceptionHandlerTest {
 
     private static final int HTTP_STATUS_BAD_REQUEST = 400;
+    private static final int HTTP_STATUS_PAYLOAD_TOO_LARGE = 413;
+    private static final int HTTP_STATUS_TOO_MANY_REQUESTS = 429;
 
     private RestExceptionHandler restExceptionHandler;
 
@@ -54,6 +58,31 @@ class RestExceptionHandlerTest {
         assertResponse(response, "009", "changing number of defendants not allowed");
     }
 
+    @Test
+    void testHandleTooManyRequestsException() {
+        TooManyRequestsException exception = new TooManyRequestsException("Too many requests", 2);
+        ResponseEntity<Object> response = restExceptionHandler.handleTooManyRequestsException(exception);
+
+        assertEquals(HTTP_STATUS_TOO_MANY_REQUESTS,
+                     response.getStatusCode().value(),
+                     "Response returned by exception handler has unexpected status code");
+        assertEquals("2",
+                     response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER),
+                     "Response has unexpected Retry-After header");
+        assertNull(response.getBody(), "Response should not have a body");
+    }
+
+    @Test
+    void testHandleBatchTooLargeException() {
+        BatchTooLargeException exception = new BatchTooLargeException(1000);
+        ResponseEntity<Object> response = restExceptionHandler.handleBatchTooLargeException(exception);
+
+        assertEquals(HTTP_STATUS_PAYLOAD_TOO_LARGE,
+                     response.getStatusCode().value(),
+                     "Response returned by exception handler has unexpected status code");
+        assertNull(response.getBody(), "Response should not have a body");
+    }
+
     private void assertResponse(ResponseEntity<Object> response,
                                 String expectedErrorCode,
                                 String expectedErrorMessage) {
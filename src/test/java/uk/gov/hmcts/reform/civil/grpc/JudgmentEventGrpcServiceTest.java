@@ -0,0 +1,233 @@
+package uk.gov.hmcts.reform.civil.grpc;
+
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.hmcts.reform.civil.exception.TooManyRequestsException;
+import uk.gov.hmcts.reform.civil.grpc.api.JudgmentEventMessage;
+import uk.gov.hmcts.reform.civil.grpc.api.JudgmentEventStatus;
+import uk.gov.hmcts.reform.civil.grpc.api.SubmitJudgmentsResponse;
+import uk.gov.hmcts.reform.civil.model.JudgmentEvent;
+import uk.gov.hmcts.reform.civil.model.JudgmentEventResult;
+import uk.gov.hmcts.reform.civil.service.JudgmentEventService;
+import uk.gov.hmcts.reform.civil.service.ingest.IngestAdmissionService;
+import uk.gov.hmcts.reform.civil.service.ingest.IngestConfigProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class JudgmentEventGrpcServiceTest {
+
+    private static final int CHUNK_SIZE = 2;
+
+    private static final int STATUS_CREATED = 201;
+    private static final int STATUS_BAD_REQUEST = 400;
+
+    @Mock
+    private JudgmentEventService mockJudgmentEventService;
+
+    @Mock
+    private IngestAdmissionService mockIngestAdmissionService;
+
+    @Mock
+    private ServerCallStreamObserver<SubmitJudgmentsResponse> mockResponseObserver;
+
+    @Captor
+    private ArgumentCaptor<SubmitJudgmentsResponse> responseCaptor;
+
+    @Captor
+    private ArgumentCaptor<Throwable> errorCaptor;
+
+    @Captor
+    private ArgumentCaptor<Runnable> onReadyHandlerCaptor;
+
+    private JudgmentEventGrpcService judgmentEventGrpcService;
+
+    @BeforeEach
+    void setUp() {
+        IngestConfigProperties ingestConfigProperties = new IngestConfigProperties();
+        ingestConfigProperties.setChunkSize(CHUNK_SIZE);
+
+        judgmentEventGrpcService = new JudgmentEventGrpcService(mockJudgmentEventService,
+                                                                new JudgmentEventMessageMapper(),
+                                                                mockIngestAdmissionService,
+                                                                ingestConfigProperties);
+    }
+
+    @Test
+    void testSubmitJudgments() {
+        when(mockResponseObserver.isReady()).thenReturn(true);
+        when(mockJudgmentEventService.processJudgmentEvents(anyList()))
+            .thenAnswer(invocation -> created(invocation.getArgument(0)));
+
+        StreamObserver<JudgmentEventMessage> requestObserver =
+            judgmentEventGrpcService.submitJudgments(mockResponseObserver);
+        requestObserver.onNext(createJudgmentEventMessage("1001"));
+        requestObserver.onNext(createJudgmentEventMessage("1002"));
+        requestObserver.onNext(createJudgmentEventMessage("1003"));
+        requestObserver.onCompleted();
+
+        verify(mockResponseObserver).disableAutoRequest();
+        verify(mockResponseObserver, times(2)).request(CHUNK_SIZE);
+        verify(mockJudgmentEventService, times(2)).processJudgmentEvents(anyList());
+        verify(mockResponseObserver, times(2)).onNext(responseCaptor.capture());
+        verify(mockResponseObserver).onCompleted();
+
+        List<SubmitJudgmentsResponse> responses = responseCaptor.getAllValues();
+        List<JudgmentEventStatus> firstResults = responses.get(0).getResultsList();
+        assertEquals(2, firstResults.size(), "Unexpected number of results of first chunk");
+        assertEquals("1001", firstResults.get(0).getJudgmentId(), "Unexpected judgment id of first result");
+
+        List<JudgmentEventStatus> lastResults = responses.get(1).getResultsList();
+        assertEquals(1, lastResults.size(), "Unexpected number of results of last chunk");
+        assertEquals("1003", lastResults.get(0).getJudgmentId(), "Unexpected judgment id of last result");
+        assertEquals(STATUS_CREATED, lastResults.get(0).getStatus(), "Unexpected status of last result");
+    }
+
+    @Test
+    void testSubmitJudgmentsNotReady() {
+        when(mockResponseObserver.isReady()).thenReturn(false, true);
+        when(mockJudgmentEventService.processJudgmentEvents(anyList()))
+            .thenAnswer(invocation -> created(invocation.getArgument(0)));
+
+        StreamObserver<JudgmentEventMessage> requestObserver =
+            judgmentEventGrpcService.submitJudgments(mockResponseObserver);
+        verify(mockResponseObserver).setOnReadyHandler(onReadyHandlerCaptor.capture());
+
+        requestObserver.onNext(createJudgmentEventMessage("1001"));
+        requestObserver.onNext(createJudgmentEventMessage("1002"));
+
+        verify(mockResponseObserver).onNext(any());
+        verify(mockResponseObserver).request(CHUNK_SIZE);
+
+        onReadyHandlerCaptor.getValue().run();
+
+        verify(mockResponseObserver, times(2)).request(CHUNK_SIZE);
+    }
+
+    @Test
+    void testSubmitJudgmentsUnreadable() {
+        when(mockResponseObserver.isReady()).thenReturn(true);
+        when(mockJudgmentEventService.processJudgmentEvents(anyList()))
+            .thenAnswer(invocation -> created(invocation.getArgument(0)));
+
+        StreamObserver<JudgmentEventMessage> requestObserver =
+            judgmentEventGrpcService.submitJudgments(mockResponseObserver);
+        requestObserver.onNext(createJudgmentEventMessage("1001"));
+        requestObserver.onNext(createJudgmentEventMessage("1002").toBuilder().setRegistrationType("X").build());
+        requestObserver.onCompleted();
+
+        verify(mockResponseObserver).onNext(responseCaptor.capture());
+
+        List<JudgmentEventStatus> results = responseCaptor.getValue().getResultsList();
+        assertEquals(2, results.size(), "Unexpected number of results");
+        assertEquals("1001", results.get(0).getJudgmentId(), "Readable result should be first");
+        assertEquals(STATUS_BAD_REQUEST, results.get(1).getStatus(), "Unexpected status of unreadable result");
+        assertEquals("unable to read judgment event at message 2",
+                     results.get(1).getErrorMessage(),
+                     "Unexpected error message of unreadable result");
+    }
+
+    @Test
+    void testSubmitJudgmentsProcessingFailed() {
+        when(mockJudgmentEventService.processJudgmentEvents(anyList())).thenThrow(new IllegalStateException());
+
+        StreamObserver<JudgmentEventMessage> requestObserver =
+            judgmentEventGrpcService.submitJudgments(mockResponseObserver);
+        requestObserver.onNext(createJudgmentEventMessage("1001"));
+        requestObserver.onNext(createJudgmentEventMessage("1002"));
+        requestObserver.onNext(createJudgmentEventMessage("1003"));
+        requestObserver.onCompleted();
+
+        verify(mockJudgmentEventService).processJudgmentEvents(anyList());
+        verify(mockResponseObserver).onError(errorCaptor.capture());
+        verify(mockResponseObserver, never()).onNext(any());
+        verify(mockResponseObserver, never()).onCompleted();
+
+        StatusRuntimeException error = (StatusRuntimeException) errorCaptor.getValue();
+        assertEquals(Status.Code.UNAVAILABLE, error.getStatus().getCode(), "Unexpected status code");
+    }
+
+    @Test
+    void testSubmitJudgmentsLaterChunkFailed() {
+        when(mockResponseObserver.isReady()).thenReturn(true);
+        when(mockJudgmentEventService.processJudgmentEvents(anyList()))
+            .thenAnswer(invocation -> created(invocation.getArgument(0)))
+            .thenThrow(new IllegalStateException());
+
+        StreamObserver<JudgmentEventMessage> requestObserver =
+            judgmentEventGrpcService.submitJudgments(mockResponseObserver);
+        requestObserver.onNext(createJudgmentEventMessage("1001"));
+        requestObserver.onNext(createJudgmentEventMessage("1002"));
+        requestObserver.onNext(createJudgmentEventMessage("1003"));
+        requestObserver.onCompleted();
+
+        InOrder inOrder = inOrder(mockResponseObserver);
+        inOrder.verify(mockResponseObserver).onNext(responseCaptor.capture());
+        inOrder.verify(mockResponseObserver).onError(errorCaptor.capture());
+        verify(mockResponseObserver, never()).onCompleted();
+
+        List<JudgmentEventStatus> results = responseCaptor.getValue().getResultsList();
+        assertEquals(2, results.size(), "Results of the saved chunk should be returned");
+        assertEquals("1002", results.get(1).getJudgmentId(), "Unexpected judgment id of last saved result");
+
+        StatusRuntimeException error = (StatusRuntimeException) errorCaptor.getValue();
+        assertEquals(Status.Code.UNAVAILABLE, error.getStatus().getCode(), "Unexpected status code");
+    }
+
+    @Test
+    void testSubmitJudgmentsRejected() {
+        when(mockIngestAdmissionService.admit(anyCollection()))
+            .thenThrow(new TooManyRequestsException("too many requests in flight for serviceId", 1));
+
+        StreamObserver<JudgmentEventMessage> requestObserver =
+            judgmentEventGrpcService.submitJudgments(mockResponseObserver);
+        requestObserver.onNext(createJudgmentEventMessage("1001"));
+        requestObserver.onNext(createJudgmentEventMessage("1002"));
+        requestObserver.onCompleted();
+
+        verifyNoInteractions(mockJudgmentEventService);
+        verify(mockResponseObserver).onError(errorCaptor.capture());
+        verify(mockResponseObserver, never()).onNext(any());
+
+        StatusRuntimeException error = (StatusRuntimeException) errorCaptor.getValue();
+        assertEquals(Status.Code.RESOURCE_EXHAUSTED, error.getStatus().getCode(), "Unexpected status code");
+    }
+
+    private List<JudgmentEventResult> created(List<JudgmentEvent> judgmentEvents) {
+        List<JudgmentEventResult> results = new ArrayList<>();
+        for (JudgmentEvent judgmentEvent : judgmentEvents) {
+            results.add(JudgmentEventResult.created(judgmentEvent));
+        }
+        return results;
+    }
+
+    private JudgmentEventMessage createJudgmentEventMessage(String judgmentId) {
+        return JudgmentEventMessage.newBuilder()
+            .setServiceId("UT01")
+            .setJudgmentId(judgmentId)
+            .setRegistrationType("R")
+            .build();
+    }
+}
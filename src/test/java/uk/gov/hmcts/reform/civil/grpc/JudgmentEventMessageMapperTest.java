@@ -0,0 +1,130 @@
+package uk.gov.hmcts.reform.civil.grpc;
+
+import com.google.protobuf.Timestamp;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.civil.grpc.api.DefendantAddressMessage;
+import uk.gov.hmcts.reform.civil.grpc.api.DefendantMessage;
+import uk.gov.hmcts.reform.civil.grpc.api.JudgmentEventMessage;
+import uk.gov.hmcts.reform.civil.grpc.api.JudgmentEventStatus;
+import uk.gov.hmcts.reform.civil.model.JudgmentEvent;
+import uk.gov.hmcts.reform.civil.model.JudgmentEventResult;
+import uk.gov.hmcts.reform.civil.model.RegistrationType;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class JudgmentEventMessageMapperTest {
+
+    private static final String SERVICE_ID = "UT01";
+    private static final String JUDGMENT_ID = "1001";
+    // 2024-01-01T01:00:00Z
+    private static final long JUDGMENT_EVENT_EPOCH_SECOND = 1704070800L;
+    private static final LocalDateTime JUDGMENT_EVENT_TIMESTAMP = LocalDateTime.of(2024, 1, 1, 1, 0, 0);
+
+    private JudgmentEventMessageMapper judgmentEventMessageMapper;
+
+    @BeforeEach
+    void setUp() {
+        judgmentEventMessageMapper = new JudgmentEventMessageMapper();
+    }
+
+    @Test
+    void testToJudgmentEvent() {
+        JudgmentEventMessage message = JudgmentEventMessage.newBuilder()
+            .setServiceId(SERVICE_ID)
+            .setJudgmentId(JUDGMENT_ID)
+            .setJudgmentEventTimeStamp(Timestamp.newBuilder().setSeconds(JUDGMENT_EVENT_EPOCH_SECOND))
+            .setCourtEpimsId("123456")
+            .setCcdCaseRef("10000001")
+            .setCaseNumber("0AA10001")
+            .setJudgmentAdminOrderTotal("11.00")
+            .setJudgmentAdminOrderDate("2024-01-01")
+            .setRegistrationType("R")
+            .setDefendant1(DefendantMessage.newBuilder()
+                               .setDefendantName("Def1FirstName Def1LastName")
+                               .setDefendantAddress(DefendantAddressMessage.newBuilder()
+                                                        .setDefendantAddressLine1("Def1 Address Line 1")
+                                                        .setDefendantPostcode("DD1 1DD")))
+            .build();
+
+        JudgmentEvent judgmentEvent = judgmentEventMessageMapper.toJudgmentEvent(message);
+
+        assertEquals(SERVICE_ID, judgmentEvent.getServiceId(), "Unexpected service id");
+        assertEquals(JUDGMENT_ID, judgmentEvent.getJudgmentId(), "Unexpected judgment id");
+        assertEquals(JUDGMENT_EVENT_TIMESTAMP,
+                     judgmentEvent.getJudgmentEventTimeStamp(),
+                     "Unexpected judgment event timestamp");
+        assertEquals(new BigDecimal("11.00"),
+                     judgmentEvent.getJudgmentAdminOrderTotal(),
+                     "Unexpected judgment admin order total");
+        assertEquals(LocalDate.of(2024, 1, 1),
+                     judgmentEvent.getJudgmentAdminOrderDate(),
+                     "Unexpected judgment admin order date");
+        assertEquals(RegistrationType.JUDGMENT_REGISTERED,
+                     judgmentEvent.getRegistrationType(),
+                     "Unexpected registration type");
+        assertEquals("DD1 1DD",
+                     judgmentEvent.getDefendant1().getDefendantAddress().getDefendantPostcode(),
+                     "Unexpected defendant 1 postcode");
+        assertNull(judgmentEvent.getDefendant1().getDefendantAddress().getDefendantAddressLine2(),
+                   "Defendant 1 address line 2 that is not set should be null");
+        assertNull(judgmentEvent.getCancellationDate(), "Cancellation date that is not set should be null");
+        assertNull(judgmentEvent.getDefendant2(), "Defendant 2 that is not set should be null");
+    }
+
+    @Test
+    void testToJudgmentEventEmptyMessage() {
+        JudgmentEvent judgmentEvent =
+            judgmentEventMessageMapper.toJudgmentEvent(JudgmentEventMessage.getDefaultInstance());
+
+        assertNull(judgmentEvent.getServiceId(), "Service id that is not set should be null");
+        assertNull(judgmentEvent.getJudgmentEventTimeStamp(),
+                   "Judgment event timestamp that is not set should be null");
+        assertNull(judgmentEvent.getRegistrationType(), "Registration type that is not set should be null");
+    }
+
+    @Test
+    void testToJudgmentEventInvalidDate() {
+        JudgmentEventMessage message =
+            JudgmentEventMessage.newBuilder().setJudgmentAdminOrderDate("01/01/2024").build();
+
+        assertThrows(IllegalArgumentException.class,
+                     () -> judgmentEventMessageMapper.toJudgmentEvent(message),
+                     "Invalid date should not be read");
+    }
+
+    @Test
+    void testToJudgmentEventInvalidTotal() {
+        JudgmentEventMessage message = JudgmentEventMessage.newBuilder().setJudgmentAdminOrderTotal("eleven").build();
+
+        assertThrows(IllegalArgumentException.class,
+                     () -> judgmentEventMessageMapper.toJudgmentEvent(message),
+                     "Invalid amount should not be read");
+    }
+
+    @Test
+    void testToJudgmentEventStatus() {
+        JudgmentEvent judgmentEvent = new JudgmentEvent();
+        judgmentEvent.setServiceId(SERVICE_ID);
+        judgmentEvent.setJudgmentId(JUDGMENT_ID);
+        judgmentEvent.setJudgmentEventTimeStamp(JUDGMENT_EVENT_TIMESTAMP);
+
+        JudgmentEventStatus status =
+            judgmentEventMessageMapper.toJudgmentEventStatus(JudgmentEventResult.created(judgmentEvent));
+
+        assertEquals(201, status.getStatus(), "Unexpected status");
+        assertEquals(JUDGMENT_ID, status.getJudgmentId(), "Unexpected judgment id");
+        assertEquals(JUDGMENT_EVENT_EPOCH_SECOND,
+                     status.getJudgmentEventTimeStamp().getSeconds(),
+                     "Unexpected judgment event timestamp");
+        assertFalse(status.hasCaseNumber(), "Case number should not be set");
+        assertFalse(status.hasErrorCode(), "Error code should not be set");
+    }
+}
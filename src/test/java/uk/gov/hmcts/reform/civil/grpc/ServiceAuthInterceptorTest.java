@@ -0,0 +1,98 @@
+package uk.gov.hmcts.reform.civil.grpc;
+
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.Status;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.hmcts.reform.authorisation.validators.AuthTokenValidator;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ServiceAuthInterceptorTest {
+
+    private static final String AUTHORISED_SERVICE = "civil_rtl_export";
+    private static final String TOKEN = "Bearer token";
+
+    @Mock
+    private AuthTokenValidator mockAuthTokenValidator;
+
+    @Mock
+    private ServerCall<Object, Object> mockServerCall;
+
+    @Mock
+    private ServerCallHandler<Object, Object> mockServerCallHandler;
+
+    @Captor
+    private ArgumentCaptor<Status> statusCaptor;
+
+    private ServiceAuthInterceptor serviceAuthInterceptor;
+
+    @BeforeEach
+    void setUp() {
+        serviceAuthInterceptor = new ServiceAuthInterceptor(mockAuthTokenValidator, List.of(AUTHORISED_SERVICE));
+    }
+
+    @Test
+    void testAuthorisedService() {
+        when(mockAuthTokenValidator.getServiceName(TOKEN)).thenReturn(AUTHORISED_SERVICE);
+        Metadata headers = createHeaders("token");
+
+        serviceAuthInterceptor.interceptCall(mockServerCall, headers, mockServerCallHandler);
+
+        verify(mockServerCallHandler).startCall(mockServerCall, headers);
+        verify(mockServerCall, never()).close(any(), any());
+    }
+
+    @Test
+    void testMissingToken() {
+        serviceAuthInterceptor.interceptCall(mockServerCall, new Metadata(), mockServerCallHandler);
+
+        assertClosed(Status.Code.UNAUTHENTICATED);
+        verifyNoInteractions(mockAuthTokenValidator);
+    }
+
+    @Test
+    void testInvalidToken() {
+        when(mockAuthTokenValidator.getServiceName(TOKEN)).thenThrow(new IllegalStateException());
+
+        serviceAuthInterceptor.interceptCall(mockServerCall, createHeaders(TOKEN), mockServerCallHandler);
+
+        assertClosed(Status.Code.UNAUTHENTICATED);
+    }
+
+    @Test
+    void testUnauthorisedService() {
+        when(mockAuthTokenValidator.getServiceName(TOKEN)).thenReturn("other_service");
+
+        serviceAuthInterceptor.interceptCall(mockServerCall, createHeaders(TOKEN), mockServerCallHandler);
+
+        assertClosed(Status.Code.PERMISSION_DENIED);
+    }
+
+    private Metadata createHeaders(String token) {
+        Metadata headers = new Metadata();
+        headers.put(ServiceAuthInterceptor.SERVICE_AUTHORIZATION, token);
+        return headers;
+    }
+
+    private void assertClosed(Status.Code expectedCode) {
+        verify(mockServerCall).close(statusCaptor.capture(), any());
+        verifyNoInteractions(mockServerCallHandler);
+        assertEquals(expectedCode, statusCaptor.getValue().getCode(), "Unexpected status code");
+    }
+}
@@ -0,0 +1,33 @@
+package uk.gov.hmcts.reform.civil.model;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class RegistrationTypeTest {
+
+    @ParameterizedTest
+    @EnumSource(RegistrationType.class)
+    void testFromRegType(RegistrationType registrationType) {
+        assertSame(registrationType,
+                   RegistrationType.fromRegType(registrationType.getRegType()),
+                   "Unexpected registration type returned for code");
+    }
+
+    @Test
+    void testFromRegTypeUnrecognised() {
+        assertThrows(IllegalArgumentException.class,
+                     () -> RegistrationType.fromRegType("X"),
+                     "Expected IllegalArgumentException to be thrown");
+    }
+
+    @Test
+    void testFromRegTypeNull() {
+        assertThrows(IllegalArgumentException.class,
+                     () -> RegistrationType.fromRegType(null),
+                     "Expected IllegalArgumentException to be thrown");
+    }
+}
@@ -0,0 +1,183 @@
+package uk.gov.hmcts.reform.civil.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.hmcts.reform.civil.domain.Judgment;
+import uk.gov.hmcts.reform.civil.exception.UnrecognisedEpimsIdException;
+import uk.gov.hmcts.reform.civil.exception.UnrecognisedServiceIdException;
+import uk.gov.hmcts.reform.civil.model.JudgmentEvent;
+import uk.gov.hmcts.reform.civil.repository.JudgmentRepository;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BackfillServiceTest {
+
+    private static final int BATCH_SIZE = 2;
+
+    private static final String COURT_EPIMS_ID = "123456";
+    private static final String COURT_EPIMS_ID_UNRECOGNISED = "999999";
+    private static final String COURT_CODE = "101";
+
+    @TempDir
+    private Path backfillDir;
+
+    @Mock
+    private JudgmentEventService mockJudgmentEventService;
+
+    @Mock
+    private RefDataService mockRefDataService;
+
+    @Mock
+    private JudgmentEventTransformerService mockJudgmentEventTransformerService;
+
+    @Mock
+    private JudgmentRepository mockJudgmentRepository;
+
+    private BackfillService backfillService;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        backfillService = new BackfillService(mockJudgmentEventService,
+                                              mockRefDataService,
+                                              mockJudgmentEventTransformerService,
+                                              mockJudgmentRepository,
+                                              objectMapper,
+                                              BATCH_SIZE);
+    }
+
+    @Test
+    void testBackfill() throws IOException {
+        Path file = writeFile("""
+            {"serviceId": "UT01", "judgmentId": "1001", "courtEpimsId": "123456", "registrationType": "R"}
+            {"serviceId": "UT01", "judgmentId": "1002", "courtEpimsId": "123456", "registrationType": "X"}
+            {"serviceId": "UT01", "judgmentId": "1003", "courtEpimsId": "999999", "registrationType": "R"}
+            {"serviceId": "UT01", "judgmentId": "1004", "courtEpimsId": "999999", "registrationType": "R"}
+            {"serviceId": "UT01", "judgmentId": "1005", "courtEpimsId": "123456", "registrationType": "R"}
+            {"serviceId": "UT01", "judgmentId": "1006", "courtEpimsId": "123456", "registrationType": "R"}
+            """);
+
+        when(mockRefDataService.getCourtLocationCode(COURT_EPIMS_ID)).thenReturn(COURT_CODE);
+        when(mockRefDataService.getCourtLocationCode(COURT_EPIMS_ID_UNRECOGNISED))
+            .thenThrow(new UnrecognisedEpimsIdException());
+        when(mockJudgmentEventTransformerService.transformJudgmentEvent(any(JudgmentEvent.class), anyString()))
+            .thenAnswer(invocation -> List.of(createJudgment(invocation.getArgument(0))));
+        // The first judgment event of each batch conflicts with existing judgments
+        when(mockJudgmentRepository.copyAllIfAbsent(anyList())).thenAnswer(invocation -> {
+            List<List<Judgment>> judgmentEvents = invocation.getArgument(0);
+            List<Boolean> copied = new ArrayList<>();
+            for (int i = 0; i < judgmentEvents.size(); i++) {
+                copied.add(i > 0);
+            }
+            return copied;
+        });
+
+        BackfillService.BackfillSummary summary = backfillService.backfill(file);
+
+        assertEquals(6, summary.read(), "Unexpected number of judgment events read");
+        assertEquals(3, summary.rejected(), "Unexpected number of judgment events rejected");
+        assertEquals(2, summary.conflicts(), "Unexpected number of judgment events conflicted");
+        assertEquals(1, summary.inserted(), "Unexpected number of judgments inserted");
+
+        // Court codes are only looked up once for each EPIMS id
+        verify(mockRefDataService).getCourtLocationCode(COURT_EPIMS_ID);
+        verify(mockRefDataService).getCourtLocationCode(COURT_EPIMS_ID_UNRECOGNISED);
+        verify(mockJudgmentRepository, times(2)).copyAllIfAbsent(anyList());
+    }
+
+    @Test
+    void testBackfillBatches() throws IOException {
+        Path file = writeFile("""
+            [
+              {"serviceId": "UT01", "judgmentId": "1001", "courtEpimsId": "123456", "registrationType": "R"},
+              {"serviceId": "UT01", "judgmentId": "1002", "courtEpimsId": "123456", "registrationType": "R"},
+              {"serviceId": "UT01", "judgmentId": "1003", "courtEpimsId": "123456", "registrationType": "R"}
+            ]
+            """);
+
+        when(mockRefDataService.getCourtLocationCode(COURT_EPIMS_ID)).thenReturn(COURT_CODE);
+        when(mockJudgmentEventTransformerService.transformJudgmentEvent(any(JudgmentEvent.class), anyString()))
+            .thenAnswer(invocation -> List.of(createJudgment(invocation.getArgument(0))));
+        when(mockJudgmentRepository.copyAllIfAbsent(anyList()))
+            .thenAnswer(invocation -> Collections.nCopies(((List<?>) invocation.getArgument(0)).size(), true));
+
+        BackfillService.BackfillSummary summary = backfillService.backfill(file);
+
+        assertEquals(3, summary.read(), "Unexpected number of judgment events read");
+        assertEquals(0, summary.rejected(), "No judgment events should be rejected");
+        assertEquals(0, summary.conflicts(), "No judgment events should conflict");
+        assertEquals(3, summary.inserted(), "Unexpected number of judgments inserted");
+
+        verify(mockJudgmentRepository, times(2)).copyAllIfAbsent(anyList());
+    }
+
+    @Test
+    void testBackfillInvalidServiceId() throws IOException {
+        Path file = writeFile("""
+            {"serviceId": "UT99", "judgmentId": "1001", "courtEpimsId": "123456", "registrationType": "R"}
+            """);
+
+        doThrow(new UnrecognisedServiceIdException()).when(mockJudgmentEventService)
+            .validateJudgmentEvent(any(JudgmentEvent.class));
+
+        BackfillService.BackfillSummary summary = backfillService.backfill(file);
+
+        assertEquals(1, summary.rejected(), "Judgment event should be rejected");
+        verify(mockRefDataService, never()).getCourtLocationCode(anyString());
+        verify(mockJudgmentRepository, never()).copyAllIfAbsent(anyList());
+    }
+
+    @Test
+    void testBackfillRefDataUnavailable() throws IOException {
+        Path file = writeFile("""
+            {"serviceId": "UT01", "judgmentId": "1001", "courtEpimsId": "123456", "registrationType": "R"}
+            """);
+
+        when(mockRefDataService.getCourtLocationCode(COURT_EPIMS_ID))
+            .thenThrow(new IllegalStateException("RefData unavailable"));
+
+        assertThrows(IllegalStateException.class,
+                     () -> backfillService.backfill(file),
+                     "Backfill should stop when RefData is unavailable");
+
+        verify(mockJudgmentRepository, never()).copyAllIfAbsent(anyList());
+    }
+
+    private Path writeFile(String content) throws IOException {
+        return Files.writeString(backfillDir.resolve("judgments.ndjson"), content);
+    }
+
+    private Judgment createJudgment(JudgmentEvent judgmentEvent) {
+        Judgment judgment = new Judgment();
+        judgment.setServiceId(judgmentEvent.getServiceId());
+        judgment.setJudgmentId(judgmentEvent.getJudgmentId());
+        return judgment;
+    }
+}
@@ -1,8 +1,11 @@
 package uk.gov.hmcts.reform.civil.service;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import uk.gov.hmcts.reform.civil.domain.Judgment;
@@ -13,9 +16,19 @@ import uk.gov.hmcts.reform.civil.exception.UnrecognisedServiceIdException;
 import uk.gov.hmcts.reform.civil.exception.UpdateExistingJudgmentException;
 import uk.gov.hmcts.reform.civil.model.Defendant;
 import uk.gov.hmcts.reform.civil.model.DefendantAddress;
+import uk.gov.hmcts.reform.civil.model.JudgmentContentHash;
 import uk.gov.hmcts.reform.civil.model.JudgmentEvent;
+import uk.gov.hmcts.reform.civil.model.JudgmentEventKey;
+import uk.gov.hmcts.reform.civil.model.JudgmentEventResult;
 import uk.gov.hmcts.reform.civil.model.RegistrationType;
 import uk.gov.hmcts.reform.civil.repository.JudgmentRepository;
+import uk.gov.hmcts.reform.civil.service.audit.JudgmentEventAuditService;
+import uk.gov.hmcts.reform.civil.service.ingest.GroupCommitCoordinator;
+import uk.gov.hmcts.reform.civil.service.ingest.IngestConfigProperties;
+import uk.gov.hmcts.reform.civil.service.ingest.JudgmentEventCache;
+import uk.gov.hmcts.reform.civil.service.ingest.JudgmentEventFingerprinter;
+import uk.gov.hmcts.reform.civil.service.ingest.JudgmentEventKeyFilter;
+import uk.gov.hmcts.reform.civil.service.ingest.JudgmentEventStageMetrics;
 import uk.gov.hmcts.reform.civil.service.validate.JudgmentEventValidatorService;
 
 import java.math.BigDecimal;
@@ -23,12 +36,24 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -57,6 +82,13 @@ class JudgmentEventServiceTest {
     private static final String JUDGMENT_ID_SUFFIX_1 = "-1";
     private static final String JUDGMENT_ID_SUFFIX_2 = "-2";
 
+    private static final String FINGERPRINT = "fingerprint";
+
+    private static final long TIMEOUT_SECONDS = 10;
+
+    private static final int HTTP_STATUS_CREATED = 201;
+    private static final int HTTP_STATUS_BAD_REQUEST = 400;
+
     @Mock
     private JudgmentEventValidatorService mockJudgmentEventValidatorService;
 
@@ -69,14 +101,137 @@ class JudgmentEventServiceTest {
     @Mock
     private JudgmentRepository mockJudgmentRepository;
 
+    @Mock
+    private JudgmentEventCache mockJudgmentEventCache;
+
+    @Mock
+    private JudgmentEventFingerprinter mockJudgmentEventFingerprinter;
+
+    @Mock
+    private GroupCommitCoordinator mockGroupCommitCoordinator;
+
+    @Mock
+    private JudgmentEventAuditService mockJudgmentEventAuditService;
+
+    @Mock
+    private JudgmentEventKeyFilter mockJudgmentEventKeyFilter;
+
+    private MeterRegistry meterRegistry;
+
     private JudgmentEventService judgmentEventService;
 
     @BeforeEach
     void setUp() {
-        judgmentEventService = new JudgmentEventService(mockJudgmentEventValidatorService,
-                                                        mockRefDataService,
-                                                        mockJudgmentEventTransformerService,
-                                                        mockJudgmentRepository);
+        meterRegistry = new SimpleMeterRegistry();
+        judgmentEventService = createJudgmentEventService(false);
+    }
+
+    @Test
+    void testProcessJudgmentEventReplay() {
+        JudgmentEvent judgmentEvent = createJudgmentEventOneDefendant(DEFENDANT_1_NAME);
+        JudgmentEventKey key = JudgmentEventKey.of(judgmentEvent);
+
+        when(mockJudgmentEventCache.isEnabled()).thenReturn(true);
+        when(mockJudgmentEventFingerprinter.fingerprint(judgmentEvent)).thenReturn(FINGERPRINT);
+        when(mockJudgmentEventCache.isAccepted(key, FINGERPRINT)).thenReturn(true);
+
+        assertDoesNotThrow(() -> judgmentEventService.processJudgmentEvent(judgmentEvent),
+                           "No exceptions should be thrown");
+
+        verifyNoInteractions(mockJudgmentEventValidatorService,
+                             mockRefDataService,
+                             mockJudgmentEventTransformerService,
+                             mockJudgmentRepository);
+        verify(mockJudgmentEventCache, never()).accepted(key, FINGERPRINT);
+        verify(mockJudgmentEventAuditService).audit(eq(judgmentEvent), any(LocalDateTime.class), eq("duplicate"));
+    }
+
+    @Test
+    void testProcessJudgmentEventAccepted() {
+        JudgmentEvent judgmentEvent = createJudgmentEventOneDefendant(DEFENDANT_1_NAME);
+        JudgmentEventKey key = JudgmentEventKey.of(judgmentEvent);
+
+        List<Judgment> newJudgments = List.of(createJudgment(JUDGMENT_ID + JUDGMENT_ID_SUFFIX_1,
+                                                             DEFENDANT_1_NAME,
+                                                             DEFENDANT_1_ADDRESS_LINE_1,
+                                                             DEFENDANT_1_POSTCODE));
+
+        when(mockJudgmentEventCache.isEnabled()).thenReturn(true);
+        when(mockJudgmentEventFingerprinter.fingerprint(judgmentEvent)).thenReturn(FINGERPRINT);
+        configureMockBehaviour(judgmentEvent, newJudgments, new ArrayList<>());
+
+        judgmentEventService.processJudgmentEvent(judgmentEvent);
+
+        verify(mockJudgmentEventCache).isAccepted(key, FINGERPRINT);
+        verify(mockJudgmentEventCache).accepted(key, FINGERPRINT);
+        verify(mockJudgmentEventAuditService).audit(eq(judgmentEvent), any(LocalDateTime.class), eq("created"));
+    }
+
+    @Test
+    void testProcessJudgmentEventNotAcceptedOnError() {
+        JudgmentEvent judgmentEvent = createJudgmentEventOneDefendant(DEFENDANT_1_DIFF_NAME);
+
+        List<Judgment> newJudgments = List.of(createJudgment(JUDGMENT_ID + JUDGMENT_ID_SUFFIX_1,
+                                                             DEFENDANT_1_DIFF_NAME,
+                                                             DEFENDANT_1_ADDRESS_LINE_1,
+                                                             DEFENDANT_1_POSTCODE));
+        List<Judgment> existingJudgments = List.of(createJudgment(JUDGMENT_ID + JUDGMENT_ID_SUFFIX_1,
+                                                                  DEFENDANT_1_NAME,
+                                                                  DEFENDANT_1_ADDRESS_LINE_1,
+                                                                  DEFENDANT_1_POSTCODE));
+
+        checkUpdateExistingJudgmentException(judgmentEvent, newJudgments, existingJudgments);
+
+        verify(mockJudgmentEventCache, never()).accepted(any(JudgmentEventKey.class), any());
+        verify(mockJudgmentEventAuditService).audit(eq(judgmentEvent), any(LocalDateTime.class), eq("008"));
+    }
+
+    @Test
+    void testProcessJudgmentEventConcurrentDuplicate() throws InterruptedException {
+        JudgmentEvent judgmentEvent = createJudgmentEventOneDefendant(DEFENDANT_1_NAME);
+        JudgmentEvent duplicateJudgmentEvent = createJudgmentEventOneDefendant(DEFENDANT_1_NAME);
+
+        List<Judgment> newJudgments = List.of(createJudgment(JUDGMENT_ID + JUDGMENT_ID_SUFFIX_1,
+                                                             DEFENDANT_1_NAME,
+                                                             DEFENDANT_1_ADDRESS_LINE_1,
+                                                             DEFENDANT_1_POSTCODE));
+
+        CountDownLatch refDataCalled = new CountDownLatch(1);
+        CountDownLatch refDataReleased = new CountDownLatch(1);
+        when(mockRefDataService.getCourtLocationCode(COURT_EPIMS_ID)).thenAnswer(invocation -> {
+            refDataCalled.countDown();
+            refDataReleased.await();
+            return COURT_CODE;
+        });
+        when(mockJudgmentEventTransformerService.transformJudgmentEvent(judgmentEvent, COURT_CODE))
+            .thenReturn(newJudgments);
+        when(mockJudgmentRepository.saveAllIfAbsent(List.of(newJudgments))).thenReturn(List.of(true));
+        when(mockJudgmentEventFingerprinter.fingerprint(any(JudgmentEvent.class))).thenReturn(FINGERPRINT);
+
+        Thread first = new Thread(() -> judgmentEventService.processJudgmentEvent(judgmentEvent));
+        first.start();
+        assertTrue(refDataCalled.await(TIMEOUT_SECONDS, TimeUnit.SECONDS), "First judgment event should be processed");
+
+        AtomicReference<Throwable> duplicateFailure = new AtomicReference<>();
+        Thread duplicate = new Thread(() -> judgmentEventService.processJudgmentEvent(duplicateJudgmentEvent));
+        duplicate.setUncaughtExceptionHandler((thread, e) -> duplicateFailure.set(e));
+        duplicate.start();
+
+        // The duplicate waits for the first judgment event to finish
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+        while (duplicate.getState() != Thread.State.WAITING && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertEquals(Thread.State.WAITING, duplicate.getState(), "Duplicate judgment event should be waiting");
+
+        refDataReleased.countDown();
+        first.join(TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS));
+        duplicate.join(TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS));
+
+        assertNull(duplicateFailure.get(), "Duplicate judgment event should be answered from the first");
+        verify(mockJudgmentEventValidatorService).validateServiceId(SERVICE_ID);
+        verify(mockRefDataService).getCourtLocationCode(COURT_EPIMS_ID);
+        verify(mockJudgmentRepository).saveAllIfAbsent(List.of(newJudgments));
     }
 
     @Test
@@ -149,8 +304,259 @@ class JudgmentEventServiceTest {
         assertDoesNotThrow(() -> judgmentEventService.processJudgmentEvent(judgmentEvent),
                            "No exceptions should be thrown");
 
-        verifyMockBehaviour(judgmentEvent);
-        verify(mockJudgmentRepository).saveAll(newJudgments);
+        verifyMockBehaviour(judgmentEvent, newJudgments, existingJudgments);
+    }
+
+    @Test
+    void testProcessJudgmentEventStageMetrics() {
+        JudgmentEvent judgmentEvent = createJudgmentEventOneDefendant(DEFENDANT_1_NAME);
+
+        List<Judgment> newJudgments = List.of(createJudgment(JUDGMENT_ID + JUDGMENT_ID_SUFFIX_1,
+                                                             DEFENDANT_1_NAME,
+                                                             DEFENDANT_1_ADDRESS_LINE_1,
+                                                             DEFENDANT_1_POSTCODE));
+
+        configureMockBehaviour(judgmentEvent, newJudgments, new ArrayList<>());
+
+        judgmentEventService.processJudgmentEvent(judgmentEvent);
+
+        for (String stage : List.of("validate", "refData", "transform", "persist")) {
+            assertEquals(1,
+                         getStageTimerCount(stage, SERVICE_ID, "created"),
+                         "Stage [" + stage + "] should be timed once");
+        }
+    }
+
+    @Test
+    void testProcessJudgmentEventStageMetricsUnrecognisedServiceId() {
+        JudgmentEvent judgmentEvent = new JudgmentEvent();
+        judgmentEvent.setServiceId(SERVICE_ID_UNRECOGNISED);
+
+        doThrow(new UnrecognisedServiceIdException())
+            .when(mockJudgmentEventValidatorService).validateServiceId(SERVICE_ID_UNRECOGNISED);
+
+        assertThrows(UnrecognisedServiceIdException.class,
+                     () -> judgmentEventService.processJudgmentEvent(judgmentEvent),
+                     "UnrecognisedServiceIdException should be thrown");
+
+        assertEquals(1,
+                     getStageTimerCount("validate", "unrecognised", "001"),
+                     "Validate stage should be timed once");
+        assertNull(meterRegistry.find("rtl.export.ingest.stage").tag("stage", "refData").timer(),
+                   "Stages that were not reached should not be timed");
+    }
+
+    @Test
+    void testProcessJudgmentEventReplayCheck() {
+        judgmentEventService = createJudgmentEventService(true);
+
+        JudgmentEvent judgmentEvent = createJudgmentEventOneDefendant(DEFENDANT_1_NAME);
+        JudgmentEventKey key = JudgmentEventKey.of(judgmentEvent);
+
+        List<Judgment> savedJudgments = List.of(createJudgment(JUDGMENT_ID + JUDGMENT_ID_SUFFIX_1,
+                                                               DEFENDANT_1_NAME,
+                                                               DEFENDANT_1_ADDRESS_LINE_1,
+                                                               DEFENDANT_1_POSTCODE));
+        List<Judgment> newJudgments = List.of(createJudgment(JUDGMENT_ID + JUDGMENT_ID_SUFFIX_1,
+                                                             DEFENDANT_1_NAME,
+                                                             DEFENDANT_1_ADDRESS_LINE_1,
+                                                             DEFENDANT_1_POSTCODE));
+
+        when(mockJudgmentEventKeyFilter.isLoaded()).thenReturn(true);
+        when(mockJudgmentEventKeyFilter.mayContain(key)).thenReturn(true);
+        when(mockJudgmentRepository.findContentHashesByEventDetails(SERVICE_ID,
+                                                                    JUDGMENT_ID,
+                                                                    JUDGMENT_EVENT_TIMESTAMP,
+                                                                    CASE_NUMBER))
+            .thenReturn(toContentHashes(savedJudgments));
+        when(mockJudgmentEventTransformerService.transformJudgmentEvent(judgmentEvent, COURT_CODE))
+            .thenReturn(newJudgments);
+
+        assertDoesNotThrow(() -> judgmentEventService.processJudgmentEvent(judgmentEvent),
+                           "No exceptions should be thrown for a replay");
+
+        // The key filter shows the judgment event is most likely a replay, so RefData is not called alongside
+        verifyNoInteractions(mockRefDataService);
+        verify(mockJudgmentRepository, never()).saveAllIfAbsent(anyList());
+        assertEquals(1,
+                     getStageTimerCount("replayCheck", SERVICE_ID, "duplicate"),
+                     "Replay check should be timed once");
+    }
+
+    @Test
+    void testProcessJudgmentEventReplayCheckUpdated() {
+        judgmentEventService = createJudgmentEventService(true);
+
+        JudgmentEvent judgmentEvent = createJudgmentEventOneDefendant(DEFENDANT_1_DIFF_NAME);
+        JudgmentEventKey key = JudgmentEventKey.of(judgmentEvent);
+
+        List<Judgment> savedJudgments = List.of(createJudgment(JUDGMENT_ID + JUDGMENT_ID_SUFFIX_1,
+                                                               DEFENDANT_1_NAME,
+                                                               DEFENDANT_1_ADDRESS_LINE_1,
+                                                               DEFENDANT_1_POSTCODE));
+        List<Judgment> newJudgments = List.of(createJudgment(JUDGMENT_ID + JUDGMENT_ID_SUFFIX_1,
+                                                             DEFENDANT_1_DIFF_NAME,
+                                                             DEFENDANT_1_ADDRESS_LINE_1,
+                                                             DEFENDANT_1_POSTCODE));
+
+        when(mockJudgmentEventKeyFilter.isLoaded()).thenReturn(true);
+        when(mockJudgmentEventKeyFilter.mayContain(key)).thenReturn(true);
+        configureMockBehaviour(judgmentEvent, newJudgments, savedJudgments);
+
+        assertThrows(UpdateExistingJudgmentException.class,
+                     () -> judgmentEventService.processJudgmentEvent(judgmentEvent),
+                     "UpdateExistingJudgmentException should be thrown");
+
+        // RefData is only called once the replay check has found that the judgment event is not a replay
+        InOrder inOrder = inOrder(mockJudgmentRepository, mockRefDataService);
+        inOrder.verify(mockJudgmentRepository)
+            .findContentHashesByEventDetails(SERVICE_ID, JUDGMENT_ID, JUDGMENT_EVENT_TIMESTAMP, CASE_NUMBER);
+        inOrder.verify(mockRefDataService).getCourtLocationCode(COURT_EPIMS_ID);
+        inOrder.verify(mockJudgmentRepository).saveAllIfAbsent(List.of(newJudgments));
+    }
+
+    @Test
+    void testProcessJudgmentEventReplayCheckKeyFilterNotLoaded() throws InterruptedException {
+        judgmentEventService = createJudgmentEventService(true);
+
+        JudgmentEvent judgmentEvent = createJudgmentEventOneDefendant(DEFENDANT_1_NAME);
+
+        List<Judgment> savedJudgments = List.of(createJudgment(JUDGMENT_ID + JUDGMENT_ID_SUFFIX_1,
+                                                               DEFENDANT_1_NAME,
+                                                               DEFENDANT_1_ADDRESS_LINE_1,
+                                                               DEFENDANT_1_POSTCODE));
+        List<Judgment> newJudgments = List.of(createJudgment(JUDGMENT_ID + JUDGMENT_ID_SUFFIX_1,
+                                                             DEFENDANT_1_NAME,
+                                                             DEFENDANT_1_ADDRESS_LINE_1,
+                                                             DEFENDANT_1_POSTCODE));
+
+        CountDownLatch refDataCalled = new CountDownLatch(1);
+        CountDownLatch refDataCancelled = new CountDownLatch(1);
+        when(mockRefDataService.getCourtLocationCode(COURT_EPIMS_ID)).thenAnswer(invocation -> {
+            refDataCalled.countDown();
+            try {
+                new CountDownLatch(1).await();
+            } catch (InterruptedException e) {
+                refDataCancelled.countDown();
+            }
+            return COURT_CODE;
+        });
+        // The database is only read once the RefData lookup is in flight, so the two must run at the same time
+        when(mockJudgmentRepository.findContentHashesByEventDetails(SERVICE_ID,
+                                                                    JUDGMENT_ID,
+                                                                    JUDGMENT_EVENT_TIMESTAMP,
+                                                                    CASE_NUMBER))
+            .thenAnswer(invocation -> {
+                assertTrue(refDataCalled.await(TIMEOUT_SECONDS, TimeUnit.SECONDS),
+                           "RefData should be called alongside the replay check");
+                return toContentHashes(savedJudgments);
+            });
+        when(mockJudgmentEventTransformerService.transformJudgmentEvent(judgmentEvent, COURT_CODE))
+            .thenReturn(newJudgments);
+
+        assertDoesNotThrow(() -> judgmentEventService.processJudgmentEvent(judgmentEvent),
+                           "No exceptions should be thrown for a replay");
+
+        assertTrue(refDataCancelled.await(TIMEOUT_SECONDS, TimeUnit.SECONDS),
+                   "RefData lookup should be cancelled for a replay");
+        verify(mockJudgmentRepository, never()).saveAllIfAbsent(anyList());
+    }
+
+    @Test
+    void testProcessJudgmentEventReplayCheckUnrecognisedEpimsId() {
+        judgmentEventService = createJudgmentEventService(true);
+
+        JudgmentEvent judgmentEvent = createJudgmentEventOneDefendant(DEFENDANT_1_NAME);
+
+        when(mockRefDataService.getCourtLocationCode(COURT_EPIMS_ID)).thenThrow(new UnrecognisedEpimsIdException());
+        when(mockJudgmentRepository.findContentHashesByEventDetails(SERVICE_ID,
+                                                                    JUDGMENT_ID,
+                                                                    JUDGMENT_EVENT_TIMESTAMP,
+                                                                    CASE_NUMBER))
+            .thenReturn(List.of());
+
+        assertThrows(UnrecognisedEpimsIdException.class,
+                     () -> judgmentEventService.processJudgmentEvent(judgmentEvent),
+                     "UnrecognisedEpimsIdException from the RefData lookup should be thrown");
+
+        verifyNoInteractions(mockJudgmentEventTransformerService);
+        verify(mockJudgmentRepository, never()).saveAllIfAbsent(anyList());
+    }
+
+    @Test
+    void testProcessJudgmentEventReplayCheckChangedEpimsId() {
+        judgmentEventService = createJudgmentEventService(true);
+
+        JudgmentEvent judgmentEvent = createJudgmentEventOneDefendant(DEFENDANT_1_NAME);
+        judgmentEvent.setCourtEpimsId(COURT_EPIMS_ID_UNRECOGNISED);
+
+        List<Judgment> savedJudgments = List.of(createJudgment(JUDGMENT_ID + JUDGMENT_ID_SUFFIX_1,
+                                                               DEFENDANT_1_NAME,
+                                                               DEFENDANT_1_ADDRESS_LINE_1,
+                                                               DEFENDANT_1_POSTCODE));
+
+        when(mockRefDataService.getCourtLocationCode(COURT_EPIMS_ID_UNRECOGNISED))
+            .thenThrow(new UnrecognisedEpimsIdException());
+        when(mockJudgmentRepository.findContentHashesByEventDetails(SERVICE_ID,
+                                                                    JUDGMENT_ID,
+                                                                    JUDGMENT_EVENT_TIMESTAMP,
+                                                                    CASE_NUMBER))
+            .thenReturn(toContentHashes(savedJudgments));
+
+        assertThrows(UnrecognisedEpimsIdException.class,
+                     () -> judgmentEventService.processJudgmentEvent(judgmentEvent),
+                     "Judgment event with a different court EPIMS id should not be treated as a replay");
+
+        verifyNoInteractions(mockJudgmentEventTransformerService);
+        verify(mockJudgmentRepository, never()).saveAllIfAbsent(anyList());
+    }
+
+    @Test
+    void testProcessJudgmentEventReplayCheckKeyFilterNew() {
+        judgmentEventService = createJudgmentEventService(true);
+
+        JudgmentEvent judgmentEvent = createJudgmentEventOneDefendant(DEFENDANT_1_NAME);
+        JudgmentEventKey key = JudgmentEventKey.of(judgmentEvent);
+
+        List<Judgment> newJudgments = List.of(createJudgment(JUDGMENT_ID + JUDGMENT_ID_SUFFIX_1,
+                                                             DEFENDANT_1_NAME,
+                                                             DEFENDANT_1_ADDRESS_LINE_1,
+                                                             DEFENDANT_1_POSTCODE));
+
+        when(mockJudgmentEventKeyFilter.isLoaded()).thenReturn(true);
+        when(mockJudgmentEventKeyFilter.mayContain(key)).thenReturn(false);
+        configureMockBehaviour(judgmentEvent, newJudgments, new ArrayList<>());
+
+        assertDoesNotThrow(() -> judgmentEventService.processJudgmentEvent(judgmentEvent),
+                           "No exceptions should be thrown");
+
+        verify(mockJudgmentRepository, never())
+            .findContentHashesByEventDetails(SERVICE_ID, JUDGMENT_ID, JUDGMENT_EVENT_TIMESTAMP, CASE_NUMBER);
+        verify(mockJudgmentRepository).saveAllIfAbsent(List.of(newJudgments));
+    }
+
+    @Test
+    void testProcessJudgmentEventGroupCommit() {
+        JudgmentEvent judgmentEvent = createJudgmentEventOneDefendant(DEFENDANT_1_NAME);
+
+        List<Judgment> newJudgments = List.of(createJudgment(JUDGMENT_ID + JUDGMENT_ID_SUFFIX_1,
+                                                             DEFENDANT_1_NAME,
+                                                             DEFENDANT_1_ADDRESS_LINE_1,
+                                                             DEFENDANT_1_POSTCODE));
+
+        when(mockRefDataService.getCourtLocationCode(COURT_EPIMS_ID)).thenReturn(COURT_CODE);
+        when(mockJudgmentEventTransformerService.transformJudgmentEvent(judgmentEvent, COURT_CODE))
+            .thenReturn(newJudgments);
+        when(mockGroupCommitCoordinator.isEnabled()).thenReturn(true);
+        when(mockGroupCommitCoordinator.saveIfAbsent(newJudgments)).thenReturn(true);
+
+        assertDoesNotThrow(() -> judgmentEventService.processJudgmentEvent(judgmentEvent),
+                           "No exceptions should be thrown");
+
+        verify(mockGroupCommitCoordinator).saveIfAbsent(newJudgments);
+        verify(mockJudgmentRepository, never()).saveAllIfAbsent(anyList());
+        verify(mockJudgmentRepository, never())
+            .findContentHashesByEventDetails(SERVICE_ID, JUDGMENT_ID, JUDGMENT_EVENT_TIMESTAMP, CASE_NUMBER);
     }
 
     @Test
@@ -233,7 +639,7 @@ class JudgmentEventServiceTest {
                      () -> judgmentEventService.processJudgmentEvent(judgmentEvent),
                      "DifferentNumberOfDefendantsException should be thrown");
 
-        verifyMockBehaviour(judgmentEvent);
+        verifyMockBehaviour(judgmentEvent, newJudgments, existingJudgments);
     }
 
     @Test
@@ -259,8 +665,303 @@ class JudgmentEventServiceTest {
         assertDoesNotThrow(() -> judgmentEventService.processJudgmentEvent(judgmentEvent),
                            "No exceptions should be thrown");
 
-        verifyMockBehaviour(judgmentEvent);
-        verify(mockJudgmentRepository, never()).saveAll(newJudgments);
+        verifyMockBehaviour(judgmentEvent, newJudgments, existingJudgments);
+        verify(mockJudgmentRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    void testProcessJudgmentEventKeyFilterDuplicate() {
+        JudgmentEvent judgmentEvent = createJudgmentEventOneDefendant(DEFENDANT_1_NAME);
+        JudgmentEventKey key = JudgmentEventKey.of(judgmentEvent);
+
+        List<Judgment> newJudgments = List.of(createJudgment(JUDGMENT_ID + JUDGMENT_ID_SUFFIX_1,
+                                                             DEFENDANT_1_NAME,
+                                                             DEFENDANT_1_ADDRESS_LINE_1,
+                                                             DEFENDANT_1_POSTCODE));
+        List<Judgment> existingJudgments = List.of(createJudgment(JUDGMENT_ID + JUDGMENT_ID_SUFFIX_1,
+                                                                  DEFENDANT_1_NAME,
+                                                                  DEFENDANT_1_ADDRESS_LINE_1,
+                                                                  DEFENDANT_1_POSTCODE));
+
+        when(mockJudgmentEventKeyFilter.mayContain(key)).thenReturn(true);
+        when(mockRefDataService.getCourtLocationCode(COURT_EPIMS_ID)).thenReturn(COURT_CODE);
+        when(mockJudgmentEventTransformerService.transformJudgmentEvent(judgmentEvent, COURT_CODE))
+            .thenReturn(newJudgments);
+        when(mockJudgmentRepository.findContentHashesByEventDetails(SERVICE_ID,
+                                                                    JUDGMENT_ID,
+                                                                    JUDGMENT_EVENT_TIMESTAMP,
+                                                                    CASE_NUMBER))
+            .thenReturn(toContentHashes(existingJudgments));
+
+        assertDoesNotThrow(() -> judgmentEventService.processJudgmentEvent(judgmentEvent),
+                           "No exceptions should be thrown");
+
+        verify(mockJudgmentEventKeyFilter).recordLookup(true);
+        verify(mockJudgmentRepository, never()).saveAllIfAbsent(anyList());
+        verify(mockJudgmentEventAuditService).audit(eq(judgmentEvent), any(LocalDateTime.class), eq("duplicate"));
+    }
+
+    @Test
+    void testProcessJudgmentEventKeyFilterFalsePositive() {
+        JudgmentEvent judgmentEvent = createJudgmentEventOneDefendant(DEFENDANT_1_NAME);
+        JudgmentEventKey key = JudgmentEventKey.of(judgmentEvent);
+
+        List<Judgment> newJudgments = List.of(createJudgment(JUDGMENT_ID + JUDGMENT_ID_SUFFIX_1,
+                                                             DEFENDANT_1_NAME,
+                                                             DEFENDANT_1_ADDRESS_LINE_1,
+                                                             DEFENDANT_1_POSTCODE));
+
+        when(mockJudgmentEventKeyFilter.mayContain(key)).thenReturn(true);
+        configureMockBehaviour(judgmentEvent, newJudgments, new ArrayList<>());
+        when(mockJudgmentRepository.findContentHashesByEventDetails(SERVICE_ID,
+                                                                    JUDGMENT_ID,
+                                                                    JUDGMENT_EVENT_TIMESTAMP,
+                                                                    CASE_NUMBER))
+            .thenReturn(List.of());
+
+        assertDoesNotThrow(() -> judgmentEventService.processJudgmentEvent(judgmentEvent),
+                           "No exceptions should be thrown");
+
+        verify(mockJudgmentEventKeyFilter).recordLookup(false);
+        verify(mockJudgmentRepository).saveAllIfAbsent(List.of(newJudgments));
+        verify(mockJudgmentEventKeyFilter).put(key);
+    }
+
+    @Test
+    void testProcessJudgmentEventReportedToRtl() {
+        JudgmentEvent judgmentEvent = createJudgmentEventOneDefendant(DEFENDANT_1_NAME);
+
+        List<Judgment> newJudgments = List.of(createJudgment(JUDGMENT_ID + JUDGMENT_ID_SUFFIX_1,
+                                                             DEFENDANT_1_NAME,
+                                                             DEFENDANT_1_ADDRESS_LINE_1,
+                                                             DEFENDANT_1_POSTCODE));
+
+        Judgment existingJudgment = createJudgment(JUDGMENT_ID + JUDGMENT_ID_SUFFIX_1,
+                                                   DEFENDANT_1_NAME,
+                                                   DEFENDANT_1_ADDRESS_LINE_1,
+                                                   DEFENDANT_1_POSTCODE);
+        existingJudgment.setReportedToRtl(LocalDateTime.of(2024, 1, 2, 0, 0, 0));
+
+        checkUpdateExistingJudgmentException(judgmentEvent, newJudgments, List.of(existingJudgment));
+    }
+
+    @Test
+    void testProcessJudgmentEventSameAsExistingNoContentHash() {
+        JudgmentEvent judgmentEvent = createJudgmentEventOneDefendant(DEFENDANT_1_NAME);
+
+        List<Judgment> newJudgments = List.of(createJudgment(JUDGMENT_ID + JUDGMENT_ID_SUFFIX_1,
+                                                             DEFENDANT_1_NAME,
+                                                             DEFENDANT_1_ADDRESS_LINE_1,
+                                                             DEFENDANT_1_POSTCODE));
+
+        Judgment existingJudgment = createJudgment(JUDGMENT_ID + JUDGMENT_ID_SUFFIX_1,
+                                                   DEFENDANT_1_NAME,
+                                                   DEFENDANT_1_ADDRESS_LINE_1,
+                                                   DEFENDANT_1_POSTCODE);
+        existingJudgment.setContentHash(null);
+        List<Judgment> existingJudgments = List.of(existingJudgment);
+
+        when(mockRefDataService.getCourtLocationCode(COURT_EPIMS_ID)).thenReturn(COURT_CODE);
+        when(mockJudgmentEventTransformerService.transformJudgmentEvent(judgmentEvent, COURT_CODE))
+            .thenReturn(newJudgments);
+        when(mockJudgmentRepository.saveAllIfAbsent(List.of(newJudgments))).thenReturn(List.of(false));
+        when(mockJudgmentRepository.findContentHashesByEventDetails(SERVICE_ID,
+                                                                    JUDGMENT_ID,
+                                                                    JUDGMENT_EVENT_TIMESTAMP,
+                                                                    CASE_NUMBER))
+            .thenReturn(toContentHashes(existingJudgments));
+        when(mockJudgmentRepository.findByEventDetails(SERVICE_ID, JUDGMENT_ID, JUDGMENT_EVENT_TIMESTAMP, CASE_NUMBER))
+            .thenReturn(existingJudgments);
+
+        assertDoesNotThrow(() -> judgmentEventService.processJudgmentEvent(judgmentEvent),
+                           "No exceptions should be thrown");
+
+        verify(mockJudgmentRepository).findByEventDetails(SERVICE_ID,
+                                                          JUDGMENT_ID,
+                                                          JUDGMENT_EVENT_TIMESTAMP,
+                                                          CASE_NUMBER);
+    }
+
+    @Test
+    void testProcessJudgmentEvents() {
+        JudgmentEvent judgmentEventNew = createJudgmentEventOneDefendant(DEFENDANT_1_NAME);
+        JudgmentEvent judgmentEventRepeated = createJudgmentEventOneDefendant(DEFENDANT_1_NAME);
+        JudgmentEvent judgmentEventUnrecognised = createJudgmentEventOneDefendant(DEFENDANT_1_NAME);
+        judgmentEventUnrecognised.setServiceId(SERVICE_ID_UNRECOGNISED);
+
+        List<Judgment> newJudgments = List.of(createJudgment(JUDGMENT_ID + JUDGMENT_ID_SUFFIX_1,
+                                                             DEFENDANT_1_NAME,
+                                                             DEFENDANT_1_ADDRESS_LINE_1,
+                                                             DEFENDANT_1_POSTCODE));
+        List<Judgment> repeatedJudgments = List.of(createJudgment(JUDGMENT_ID + JUDGMENT_ID_SUFFIX_1,
+                                                                  DEFENDANT_1_NAME,
+                                                                  DEFENDANT_1_ADDRESS_LINE_1,
+                                                                  DEFENDANT_1_POSTCODE));
+
+        doThrow(new UnrecognisedServiceIdException())
+            .when(mockJudgmentEventValidatorService).validateServiceId(SERVICE_ID_UNRECOGNISED);
+        when(mockRefDataService.getCourtLocationCode(COURT_EPIMS_ID)).thenReturn(COURT_CODE);
+        when(mockJudgmentEventTransformerService.transformJudgmentEvent(judgmentEventNew, COURT_CODE))
+            .thenReturn(newJudgments);
+        when(mockJudgmentEventTransformerService.transformJudgmentEvent(judgmentEventRepeated, COURT_CODE))
+            .thenReturn(repeatedJudgments);
+        when(mockJudgmentRepository.saveAllIfAbsent(List.of(newJudgments))).thenReturn(List.of(true));
+
+        List<JudgmentEventResult> results = judgmentEventService.processJudgmentEvents(
+            List.of(judgmentEventNew, judgmentEventUnrecognised, judgmentEventRepeated));
+
+        assertEquals(3, results.size(), "Unexpected number of results");
+        assertEquals(HTTP_STATUS_CREATED, results.get(0).getStatus(), "New judgment event should be created");
+        assertEquals(HTTP_STATUS_BAD_REQUEST,
+                     results.get(1).getStatus(),
+                     "Unrecognised service id should be rejected");
+        assertEquals("001", results.get(1).getErrorCode(), "Unexpected error code");
+        assertEquals(HTTP_STATUS_CREATED,
+                     results.get(2).getStatus(),
+                     "Repeated judgment event should be treated as a duplicate");
+
+        verify(mockRefDataService).getCourtLocationCode(COURT_EPIMS_ID);
+        verify(mockJudgmentRepository).saveAllIfAbsent(List.of(newJudgments));
+        verify(mockJudgmentRepository, never()).findContentHashesByEventDetails(SERVICE_ID,
+                                                                                JUDGMENT_ID,
+                                                                                JUDGMENT_EVENT_TIMESTAMP,
+                                                                                CASE_NUMBER);
+        verify(mockJudgmentEventAuditService)
+            .audit(eq(judgmentEventNew), any(LocalDateTime.class), eq("created"));
+        verify(mockJudgmentEventAuditService)
+            .audit(eq(judgmentEventUnrecognised), any(LocalDateTime.class), eq("001"));
+        verify(mockJudgmentEventAuditService)
+            .audit(eq(judgmentEventRepeated), any(LocalDateTime.class), eq("duplicate"));
+    }
+
+    @Test
+    void testProcessJudgmentEventsExisting() {
+        JudgmentEvent judgmentEvent = createJudgmentEventOneDefendant(DEFENDANT_1_NAME);
+
+        List<Judgment> newJudgments = List.of(createJudgment(JUDGMENT_ID + JUDGMENT_ID_SUFFIX_1,
+                                                             DEFENDANT_1_NAME,
+                                                             DEFENDANT_1_ADDRESS_LINE_1,
+                                                             DEFENDANT_1_POSTCODE));
+        List<Judgment> existingJudgments = List.of(createJudgment(JUDGMENT_ID + JUDGMENT_ID_SUFFIX_1,
+                                                                  DEFENDANT_1_NAME,
+                                                                  DEFENDANT_1_ADDRESS_LINE_1,
+                                                                  DEFENDANT_1_POSTCODE));
+
+        configureMockBehaviour(judgmentEvent, newJudgments, existingJudgments);
+
+        List<JudgmentEventResult> results = judgmentEventService.processJudgmentEvents(List.of(judgmentEvent));
+
+        assertEquals(HTTP_STATUS_CREATED,
+                     results.getFirst().getStatus(),
+                     "Judgment event already saved should be treated as a duplicate");
+
+        verifyMockBehaviour(judgmentEvent, newJudgments, existingJudgments);
+        // Audited with the same outcome as a judgment event already saved that is posted to /judgment
+        verify(mockJudgmentEventAuditService)
+            .audit(eq(judgmentEvent), any(LocalDateTime.class), eq("duplicate"));
+    }
+
+    @Test
+    void testProcessJudgmentEventsNoneNew() {
+        JudgmentEvent judgmentEvent = createJudgmentEventOneDefendant(DEFENDANT_1_DIFF_NAME);
+
+        List<Judgment> newJudgments = List.of(createJudgment(JUDGMENT_ID + JUDGMENT_ID_SUFFIX_1,
+                                                             DEFENDANT_1_DIFF_NAME,
+                                                             DEFENDANT_1_ADDRESS_LINE_1,
+                                                             DEFENDANT_1_POSTCODE));
+        List<Judgment> existingJudgments = List.of(createJudgment(JUDGMENT_ID + JUDGMENT_ID_SUFFIX_1,
+                                                                  DEFENDANT_1_NAME,
+                                                                  DEFENDANT_1_ADDRESS_LINE_1,
+                                                                  DEFENDANT_1_POSTCODE));
+
+        configureMockBehaviour(judgmentEvent, newJudgments, existingJudgments);
+
+        List<JudgmentEventResult> results = judgmentEventService.processJudgmentEvents(List.of(judgmentEvent));
+
+        assertEquals(1, results.size(), "Unexpected number of results");
+        assertEquals(HTTP_STATUS_BAD_REQUEST, results.getFirst().getStatus(), "Updated judgment should be rejected");
+        assertEquals("008", results.getFirst().getErrorCode(), "Unexpected error code");
+
+        verifyMockBehaviour(judgmentEvent, newJudgments, existingJudgments);
+    }
+
+    @Test
+    void testProcessJudgmentEventsExistingRepeated() {
+        JudgmentEvent judgmentEvent = createJudgmentEventOneDefendant(DEFENDANT_1_DIFF_NAME);
+        JudgmentEvent judgmentEventRepeated = createJudgmentEventOneDefendant(DEFENDANT_1_DIFF_NAME);
+
+        List<Judgment> newJudgments = List.of(createJudgment(JUDGMENT_ID + JUDGMENT_ID_SUFFIX_1,
+                                                             DEFENDANT_1_DIFF_NAME,
+                                                             DEFENDANT_1_ADDRESS_LINE_1,
+                                                             DEFENDANT_1_POSTCODE));
+        List<Judgment> repeatedJudgments = List.of(createJudgment(JUDGMENT_ID + JUDGMENT_ID_SUFFIX_1,
+                                                                  DEFENDANT_1_DIFF_NAME,
+                                                                  DEFENDANT_1_ADDRESS_LINE_1,
+                                                                  DEFENDANT_1_POSTCODE));
+        List<Judgment> existingJudgments = List.of(createJudgment(JUDGMENT_ID + JUDGMENT_ID_SUFFIX_1,
+                                                                  DEFENDANT_1_NAME,
+                                                                  DEFENDANT_1_ADDRESS_LINE_1,
+                                                                  DEFENDANT_1_POSTCODE));
+
+        configureMockBehaviour(judgmentEvent, newJudgments, existingJudgments);
+        when(mockJudgmentEventTransformerService.transformJudgmentEvent(judgmentEventRepeated, COURT_CODE))
+            .thenReturn(repeatedJudgments);
+
+        List<JudgmentEventResult> results =
+            judgmentEventService.processJudgmentEvents(List.of(judgmentEvent, judgmentEventRepeated));
+
+        assertEquals(2, results.size(), "Unexpected number of results");
+        assertEquals(HTTP_STATUS_BAD_REQUEST, results.get(0).getStatus(), "Updated judgment should be rejected");
+        assertEquals("008", results.get(0).getErrorCode(), "Unexpected error code");
+        assertEquals(HTTP_STATUS_BAD_REQUEST,
+                     results.get(1).getStatus(),
+                     "Repeated updated judgment should be rejected");
+        assertEquals("008", results.get(1).getErrorCode(), "Unexpected error code");
+
+        verify(mockRefDataService).getCourtLocationCode(COURT_EPIMS_ID);
+        verify(mockJudgmentRepository).saveAllIfAbsent(List.of(newJudgments));
+        verify(mockJudgmentRepository).findContentHashesByEventDetails(SERVICE_ID,
+                                                                       JUDGMENT_ID,
+                                                                       JUDGMENT_EVENT_TIMESTAMP,
+                                                                       CASE_NUMBER);
+    }
+
+    @Test
+    void testProcessJudgmentEventsUnrecognisedEpimsIdRepeated() {
+        JudgmentEvent judgmentEvent = createJudgmentEventOneDefendant(DEFENDANT_1_NAME);
+        judgmentEvent.setCourtEpimsId(COURT_EPIMS_ID_UNRECOGNISED);
+        JudgmentEvent judgmentEventRepeated = createJudgmentEventOneDefendant(DEFENDANT_1_NAME);
+        judgmentEventRepeated.setCourtEpimsId(COURT_EPIMS_ID_UNRECOGNISED);
+
+        when(mockRefDataService.getCourtLocationCode(COURT_EPIMS_ID_UNRECOGNISED))
+            .thenThrow(new UnrecognisedEpimsIdException());
+
+        List<JudgmentEventResult> results =
+            judgmentEventService.processJudgmentEvents(List.of(judgmentEvent, judgmentEventRepeated));
+
+        assertEquals(2, results.size(), "Unexpected number of results");
+        assertEquals("003", results.get(0).getErrorCode(), "Unexpected error code");
+        assertEquals("003", results.get(1).getErrorCode(), "Unexpected error code of repeated EPIMS id");
+
+        verify(mockRefDataService).getCourtLocationCode(COURT_EPIMS_ID_UNRECOGNISED);
+        verifyNoInteractions(mockJudgmentEventTransformerService);
+    }
+
+    private JudgmentEventService createJudgmentEventService(boolean replayCheck) {
+        IngestConfigProperties ingestConfigProperties = new IngestConfigProperties();
+        ingestConfigProperties.setReplayCheck(replayCheck);
+
+        return new JudgmentEventService(mockJudgmentEventValidatorService,
+                                        mockRefDataService,
+                                        mockJudgmentEventTransformerService,
+                                        mockJudgmentRepository,
+                                        mockJudgmentEventCache,
+                                        mockJudgmentEventFingerprinter,
+                                        mockGroupCommitCoordinator,
+                                        new JudgmentEventStageMetrics(meterRegistry),
+                                        mockJudgmentEventAuditService,
+                                        mockJudgmentEventKeyFilter,
+                                        ingestConfigProperties);
     }
 
     private void checkUpdateExistingJudgmentException(JudgmentEvent judgmentEvent,
@@ -272,7 +973,16 @@ class JudgmentEventServiceTest {
                      () -> judgmentEventService.processJudgmentEvent(judgmentEvent),
                      "UpdateExistingJudgmentException should be thrown");
 
-        verifyMockBehaviour(judgmentEvent);
+        verifyMockBehaviour(judgmentEvent, newJudgments, existingJudgments);
+    }
+
+    private long getStageTimerCount(String stage, String serviceId, String outcome) {
+        return meterRegistry.get("rtl.export.ingest.stage")
+            .tag("stage", stage)
+            .tag("serviceId", serviceId)
+            .tag("outcome", outcome)
+            .timer()
+            .count();
     }
 
     private void configureMockBehaviour(JudgmentEvent judgmentEvent,
@@ -281,19 +991,39 @@ class JudgmentEventServiceTest {
         when(mockRefDataService.getCourtLocationCode(COURT_EPIMS_ID)).thenReturn(COURT_CODE);
         when(mockJudgmentEventTransformerService.transformJudgmentEvent(judgmentEvent, COURT_CODE))
             .thenReturn(newJudgments);
-        when(mockJudgmentRepository.findByEventDetails(SERVICE_ID, JUDGMENT_ID, JUDGMENT_EVENT_TIMESTAMP, CASE_NUMBER))
-            .thenReturn(existingJudgments);
+        when(mockJudgmentRepository.saveAllIfAbsent(List.of(newJudgments)))
+            .thenReturn(List.of(existingJudgments.isEmpty()));
+        if (!existingJudgments.isEmpty()) {
+            when(mockJudgmentRepository.findContentHashesByEventDetails(SERVICE_ID,
+                                                                        JUDGMENT_ID,
+                                                                        JUDGMENT_EVENT_TIMESTAMP,
+                                                                        CASE_NUMBER))
+                .thenReturn(toContentHashes(existingJudgments));
+        }
+    }
+
+    private List<JudgmentContentHash> toContentHashes(List<Judgment> judgments) {
+        return judgments.stream()
+            .map(judgment -> new JudgmentContentHash(judgment.getJudgmentId(),
+                                                     judgment.getContentHash(),
+                                                     judgment.getReportedToRtl(),
+                                                     judgment.getCourtCode(),
+                                                     judgment.getCourtEpimsId()))
+            .toList();
     }
 
-    private void verifyMockBehaviour(JudgmentEvent judgmentEvent) {
+    private void verifyMockBehaviour(JudgmentEvent judgmentEvent,
+                                     List<Judgment> newJudgments,
+                                     List<Judgment> existingJudgments) {
         verify(mockJudgmentEventValidatorService).validateServiceId(SERVICE_ID);
         verify(mockJudgmentEventValidatorService).validateCancellationDate(RegistrationType.JUDGMENT_REGISTERED, null);
         verify(mockRefDataService).getCourtLocationCode(COURT_EPIMS_ID);
         verify(mockJudgmentEventTransformerService).transformJudgmentEvent(judgmentEvent, COURT_CODE);
-        verify(mockJudgmentRepository).findByEventDetails(SERVICE_ID,
-                                                          JUDGMENT_ID,
-                                                          JUDGMENT_EVENT_TIMESTAMP,
-                                                          CASE_NUMBER);
+        verify(mockJudgmentRepository).saveAllIfAbsent(List.of(newJudgments));
+        verify(mockJudgmentRepository, existingJudgments.isEmpty() ? never() : times(1))
+            .findContentHashesByEventDetails(SERVICE_ID, JUDGMENT_ID, JUDGMENT_EVENT_TIMESTAMP, CASE_NUMBER);
+        verify(mockJudgmentRepository, never())
+            .findByEventDetails(SERVICE_ID, JUDGMENT_ID, JUDGMENT_EVENT_TIMESTAMP, CASE_NUMBER);
     }
 
     private JudgmentEvent createJudgmentEventOneDefendant(String defendant1Name) {
@@ -354,6 +1084,8 @@ class JudgmentEventServiceTest {
         judgment.setDefendantName(defendantName);
         judgment.setDefendantAddressLine1(defendantAddressLine1);
         judgment.setDefendantAddressPostcode(defendantPostcode);
+        judgment.setContentHash(judgment.calculateContentHash());
+        judgment.setCourtEpimsId(COURT_EPIMS_ID);
 
         return judgment;
     }
@@ -102,6 +102,8 @@ class JudgmentEventTransformerServiceTest {
                      "Unexpected DefendantAddressPostcode");
         assertNull(judgment.getDefendantDob(), "DefendantDob should be null");
         assertNull(judgment.getReportedToRtl(), "ReportedToRtl should be null");
+        assertEquals(judgment.calculateContentHash(), judgment.getContentHash(), "Unexpected ContentHash");
+        assertEquals(COURT_EPIMS_ID, judgment.getCourtEpimsId(), "Unexpected CourtEpimsId");
 
         verifyDefendantNameMockBehaviour(DEFENDANT_1_PREFIX);
         verifyDefendantAddressLineMockBehaviour(DEFENDANT_1_PREFIX, 1);
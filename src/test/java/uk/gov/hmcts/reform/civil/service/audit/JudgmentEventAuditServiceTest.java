@@ -0,0 +1,156 @@
+package uk.gov.hmcts.reform.civil.service.audit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.hmcts.reform.civil.domain.JudgmentEventAudit;
+import uk.gov.hmcts.reform.civil.model.JudgmentEvent;
+import uk.gov.hmcts.reform.civil.repository.JudgmentEventAuditRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class JudgmentEventAuditServiceTest {
+
+    private static final int QUEUE_CAPACITY = 3;
+    private static final int BATCH_SIZE = 2;
+
+    private static final String SERVICE_ID = "UT01";
+    private static final String JUDGMENT_ID = "1001";
+    private static final LocalDateTime JUDGMENT_EVENT_TIMESTAMP = LocalDateTime.of(2024, 1, 1, 1, 0, 0);
+    private static final String CASE_NUMBER = "0AA10001";
+    private static final LocalDateTime RECEIVED_AT = LocalDateTime.of(2024, 1, 2, 1, 0, 0);
+    private static final String OUTCOME = "created";
+
+    @Mock
+    private JudgmentEventAuditRepository mockJudgmentEventAuditRepository;
+
+    @Captor
+    private ArgumentCaptor<List<JudgmentEventAudit>> judgmentEventAuditsCaptor;
+
+    private AuditConfigProperties auditConfigProperties;
+
+    private MeterRegistry meterRegistry;
+
+    private JudgmentEventAuditService judgmentEventAuditService;
+
+    @BeforeEach
+    void setUp() {
+        auditConfigProperties = new AuditConfigProperties();
+        auditConfigProperties.setEnabled(true);
+        auditConfigProperties.setQueueCapacity(QUEUE_CAPACITY);
+        auditConfigProperties.setBatchSize(BATCH_SIZE);
+
+        meterRegistry = new SimpleMeterRegistry();
+
+        judgmentEventAuditService = new JudgmentEventAuditService(mockJudgmentEventAuditRepository,
+                                                                  new ObjectMapper().findAndRegisterModules(),
+                                                                  auditConfigProperties,
+                                                                  meterRegistry);
+    }
+
+    @Test
+    void testAuditDisabled() {
+        auditConfigProperties.setEnabled(false);
+
+        judgmentEventAuditService.audit(createJudgmentEvent(), RECEIVED_AT, OUTCOME);
+        judgmentEventAuditService.writeAuditRecords();
+
+        assertEquals(0.0, getQueueDepth(), "Nothing should be queued when audit is disabled");
+        verifyNoInteractions(mockJudgmentEventAuditRepository);
+    }
+
+    @Test
+    void testWriteAuditRecords() {
+        JudgmentEvent judgmentEvent = createJudgmentEvent();
+
+        judgmentEventAuditService.audit(judgmentEvent, RECEIVED_AT, OUTCOME);
+        judgmentEventAuditService.audit(judgmentEvent, RECEIVED_AT, OUTCOME);
+        judgmentEventAuditService.audit(judgmentEvent, RECEIVED_AT, OUTCOME);
+        assertEquals(3.0, getQueueDepth(), "Unexpected queue depth before write");
+
+        judgmentEventAuditService.writeAuditRecords();
+
+        assertEquals(0.0, getQueueDepth(), "Unexpected queue depth after write");
+        verify(mockJudgmentEventAuditRepository, times(2)).saveAll(judgmentEventAuditsCaptor.capture());
+
+        List<List<JudgmentEventAudit>> batches = judgmentEventAuditsCaptor.getAllValues();
+        assertEquals(BATCH_SIZE, batches.get(0).size(), "Unexpected size of first batch");
+        assertEquals(1, batches.get(1).size(), "Unexpected size of second batch");
+
+        JudgmentEventAudit judgmentEventAudit = batches.getFirst().getFirst();
+        assertEquals(SERVICE_ID, judgmentEventAudit.getServiceId(), "Unexpected service id");
+        assertEquals(JUDGMENT_ID, judgmentEventAudit.getJudgmentId(), "Unexpected judgment id");
+        assertEquals(JUDGMENT_EVENT_TIMESTAMP,
+                     judgmentEventAudit.getJudgmentEventTimestamp(),
+                     "Unexpected judgment event timestamp");
+        assertEquals(CASE_NUMBER, judgmentEventAudit.getCaseNumber(), "Unexpected case number");
+        assertEquals(RECEIVED_AT, judgmentEventAudit.getReceivedAt(), "Unexpected received at");
+        assertEquals(OUTCOME, judgmentEventAudit.getOutcome(), "Unexpected outcome");
+        assertTrue(judgmentEventAudit.getPayload().contains("\"judgmentId\":\"" + JUDGMENT_ID + "\""),
+                   "Payload should contain the judgment event");
+    }
+
+    @Test
+    void testAuditQueueFull() {
+        JudgmentEvent judgmentEvent = createJudgmentEvent();
+
+        for (int i = 0; i < QUEUE_CAPACITY + 2; i++) {
+            judgmentEventAuditService.audit(judgmentEvent, RECEIVED_AT, OUTCOME);
+        }
+
+        assertEquals(QUEUE_CAPACITY, getQueueDepth(), "Queue should not grow beyond its capacity");
+        assertEquals(2.0, getDroppedCount(JudgmentEventAuditService.REASON_QUEUE_FULL), "Unexpected dropped count");
+    }
+
+    @Test
+    void testWriteAuditRecordsFailed() {
+        when(mockJudgmentEventAuditRepository.saveAll(anyList())).thenThrow(new IllegalStateException());
+
+        judgmentEventAuditService.audit(createJudgmentEvent(), RECEIVED_AT, OUTCOME);
+        judgmentEventAuditService.writeAuditRecords();
+
+        assertEquals(0.0, getQueueDepth(), "Failed batch should not be left on the queue");
+        assertEquals(1.0,
+                     getDroppedCount(JudgmentEventAuditService.REASON_WRITE_FAILED),
+                     "Unexpected dropped count");
+    }
+
+    private double getQueueDepth() {
+        return meterRegistry.get(JudgmentEventAuditService.METRIC_QUEUE_DEPTH).gauge().value();
+    }
+
+    private double getDroppedCount(String reason) {
+        return meterRegistry.get(JudgmentEventAuditService.METRIC_DROPPED)
+            .tag(JudgmentEventAuditService.TAG_REASON, reason)
+            .counter()
+            .count();
+    }
+
+    private JudgmentEvent createJudgmentEvent() {
+        JudgmentEvent judgmentEvent = new JudgmentEvent();
+
+        judgmentEvent.setServiceId(SERVICE_ID);
+        judgmentEvent.setJudgmentId(JUDGMENT_ID);
+        judgmentEvent.setJudgmentEventTimeStamp(JUDGMENT_EVENT_TIMESTAMP);
+        judgmentEvent.setCaseNumber(CASE_NUMBER);
+
+        return judgmentEvent;
+    }
+}
@@ -0,0 +1,63 @@
+package uk.gov.hmcts.reform.civil.service.diagnostics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jdk.jfr.consumer.RecordedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class VirtualThreadPinningMonitorTest {
+
+    private static final String METRIC_PINNED = "rtl.export.virtual.thread.pinned";
+    private static final long PINNED_THRESHOLD = 20L;
+
+    @Mock
+    private RecordedEvent mockRecordedEvent;
+
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void testStartStopDisabled() {
+        VirtualThreadPinningMonitor monitor = new VirtualThreadPinningMonitor(false, PINNED_THRESHOLD, meterRegistry);
+
+        assertDoesNotThrow(monitor::start, "Start should not throw an exception");
+        assertDoesNotThrow(monitor::stop, "Stop should not throw an exception");
+    }
+
+    @Test
+    void testStartStopEnabled() {
+        VirtualThreadPinningMonitor monitor = new VirtualThreadPinningMonitor(true, PINNED_THRESHOLD, meterRegistry);
+
+        assertDoesNotThrow(monitor::start, "Start should not throw an exception");
+        assertDoesNotThrow(monitor::stop, "Stop should not throw an exception");
+    }
+
+    @Test
+    void testPinned() {
+        when(mockRecordedEvent.getDuration()).thenReturn(Duration.ofMillis(50));
+
+        VirtualThreadPinningMonitor monitor = new VirtualThreadPinningMonitor(true, PINNED_THRESHOLD, meterRegistry);
+        monitor.pinned(mockRecordedEvent);
+
+        Timer timer = meterRegistry.get(METRIC_PINNED).timer();
+        assertEquals(1, timer.count(), "Pinned timer has unexpected count");
+        assertEquals(50.0, timer.totalTime(TimeUnit.MILLISECONDS), "Pinned timer has unexpected total time");
+    }
+}
@@ -0,0 +1,156 @@
+package uk.gov.hmcts.reform.civil.service.ingest;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DirectoryJudgmentEventSourceTest {
+
+    private static final int CHUNK_SIZE = 1000;
+
+    private static final String RESULT = "{\"status\":201}\n";
+
+    @TempDir
+    private Path sourceDir;
+
+    @Mock
+    private JudgmentEventStreamService mockJudgmentEventStreamService;
+
+    private DirectorySourceConfigProperties directorySourceConfigProperties;
+
+    private DirectoryJudgmentEventSource directoryJudgmentEventSource;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        directorySourceConfigProperties = new DirectorySourceConfigProperties();
+        directorySourceConfigProperties.setPath(sourceDir.toString());
+        directorySourceConfigProperties.setChunkSize(CHUNK_SIZE);
+
+        directoryJudgmentEventSource =
+            new DirectoryJudgmentEventSource(mockJudgmentEventStreamService, directorySourceConfigProperties);
+
+        Files.createDirectories(sourceDir.resolve("inbox"));
+        Files.createDirectories(sourceDir.resolve("done"));
+        Files.createDirectories(sourceDir.resolve("failed"));
+    }
+
+    @Test
+    void testStartNotEnabled() throws InterruptedException {
+        directoryJudgmentEventSource.start();
+        directoryJudgmentEventSource.stop();
+
+        assertFalse(directoryJudgmentEventSource.isEnabled(), "Directory source should not be enabled");
+    }
+
+    @Test
+    void testProcessInbox() throws IOException {
+        writeInboxFile("events.ndjson");
+        writeInboxFile("events.json");
+        writeInboxFile("events.ndjson.tmp");
+
+        when(mockJudgmentEventStreamService.processJudgmentEvents(any(InputStream.class),
+                                                                   any(OutputStream.class),
+                                                                   eq(CHUNK_SIZE)))
+            .thenAnswer(invocation -> {
+                OutputStream outputStream = invocation.getArgument(1);
+                outputStream.write(RESULT.getBytes(StandardCharsets.UTF_8));
+                return 1;
+            });
+
+        int processed = directoryJudgmentEventSource.processInbox();
+
+        assertEquals(2, processed, "Unexpected number of files processed");
+        assertDone("events.ndjson");
+        assertDone("events.json");
+        assertTrue(Files.exists(sourceDir.resolve("inbox").resolve("events.ndjson.tmp")),
+                   "Incomplete file should be left in the inbox");
+    }
+
+    @Test
+    void testProcessInboxFailed() throws IOException {
+        writeInboxFile("events.ndjson");
+
+        when(mockJudgmentEventStreamService.processJudgmentEvents(any(InputStream.class),
+                                                                   any(OutputStream.class),
+                                                                   eq(CHUNK_SIZE)))
+            .thenThrow(new IllegalStateException("Database unavailable"));
+
+        int processed = directoryJudgmentEventSource.processInbox();
+
+        assertEquals(1, processed, "Unexpected number of files processed");
+        assertTrue(Files.exists(sourceDir.resolve("failed").resolve("events.ndjson")),
+                   "File should have been moved to failed directory");
+        assertTrue(Files.exists(sourceDir.resolve("failed").resolve("events.ndjson.results.ndjson")),
+                   "Results file should have been moved to failed directory");
+        assertFalse(Files.exists(sourceDir.resolve("inbox").resolve("events.ndjson")),
+                    "File should no longer be in the inbox");
+    }
+
+    @Test
+    void testProcessInboxMoveFailed() throws IOException {
+        writeInboxFile("events1.ndjson");
+        writeInboxFile("events2.ndjson");
+        // A file that fails cannot be moved to the failed directory
+        Files.delete(sourceDir.resolve("failed"));
+
+        when(mockJudgmentEventStreamService.processJudgmentEvents(any(InputStream.class),
+                                                                   any(OutputStream.class),
+                                                                   eq(CHUNK_SIZE)))
+            .thenThrow(new IllegalStateException("Database unavailable"))
+            .thenAnswer(invocation -> {
+                OutputStream outputStream = invocation.getArgument(1);
+                outputStream.write(RESULT.getBytes(StandardCharsets.UTF_8));
+                return 1;
+            });
+
+        int processed = directoryJudgmentEventSource.processInbox();
+
+        assertEquals(1, processed, "Only the file that could be moved should have been processed");
+        assertTrue(Files.exists(sourceDir.resolve("inbox").resolve("events1.ndjson")),
+                   "File that could not be moved should be left in the inbox");
+        assertDone("events2.ndjson");
+    }
+
+    @Test
+    void testProcessInboxEmpty() throws IOException {
+        int processed = directoryJudgmentEventSource.processInbox();
+
+        assertEquals(0, processed, "No files should have been processed");
+        verify(mockJudgmentEventStreamService, never())
+            .processJudgmentEvents(any(InputStream.class), any(OutputStream.class), eq(CHUNK_SIZE));
+    }
+
+    private void writeInboxFile(String fileName) throws IOException {
+        Files.writeString(sourceDir.resolve("inbox").resolve(fileName), "{}\n");
+    }
+
+    private void assertDone(String fileName) throws IOException {
+        Path done = sourceDir.resolve("done");
+        assertTrue(Files.exists(done.resolve(fileName)), "File should have been moved to done directory");
+        assertEquals(RESULT,
+                     Files.readString(done.resolve(fileName + ".results.ndjson")),
+                     "Unexpected results file content");
+        assertFalse(Files.exists(sourceDir.resolve("inbox").resolve(fileName)),
+                    "File should no longer be in the inbox");
+    }
+}
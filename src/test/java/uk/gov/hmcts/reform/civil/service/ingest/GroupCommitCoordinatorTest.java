@@ -0,0 +1,200 @@
+package uk.gov.hmcts.reform.civil.service.ingest;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import uk.gov.hmcts.reform.civil.domain.Judgment;
+import uk.gov.hmcts.reform.civil.repository.JudgmentRepository;
+
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class GroupCommitCoordinatorTest {
+
+    private static final long WINDOW = 60_000;
+    private static final int MAX_BATCH_SIZE = 2;
+    private static final long TIMEOUT_SECONDS = 10;
+
+    @Mock
+    private JudgmentRepository mockJudgmentRepository;
+
+    private GroupCommitConfigProperties groupCommitConfigProperties;
+
+    private GroupCommitCoordinator groupCommitCoordinator;
+
+    private ExecutorService callers;
+
+    @BeforeEach
+    void setUp() {
+        groupCommitConfigProperties = new GroupCommitConfigProperties();
+        groupCommitConfigProperties.setEnabled(true);
+        groupCommitConfigProperties.setWindow(WINDOW);
+        groupCommitConfigProperties.setMaxBatchSize(MAX_BATCH_SIZE);
+
+        groupCommitCoordinator = new GroupCommitCoordinator(mockJudgmentRepository, groupCommitConfigProperties);
+        groupCommitCoordinator.start();
+
+        callers = Executors.newFixedThreadPool(MAX_BATCH_SIZE);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        callers.shutdownNow();
+        groupCommitCoordinator.stop();
+    }
+
+    @Test
+    void testIsEnabled() {
+        assertTrue(groupCommitCoordinator.isEnabled(), "Group commit should be enabled");
+
+        groupCommitConfigProperties.setMaxBatchSize(0);
+        assertFalse(groupCommitCoordinator.isEnabled(), "Group commit should not be enabled without a batch size");
+
+        groupCommitConfigProperties.setMaxBatchSize(MAX_BATCH_SIZE);
+        groupCommitConfigProperties.setEnabled(false);
+        assertFalse(groupCommitCoordinator.isEnabled(), "Group commit should not be enabled");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testSaveIfAbsent() throws ExecutionException, InterruptedException, TimeoutException {
+        List<Judgment> judgments1 = List.of(createJudgment("1001"));
+        List<Judgment> judgments2 = List.of(createJudgment("2002"));
+
+        when(mockJudgmentRepository.saveAllIfAbsent(anyList())).thenAnswer(invocation -> {
+            List<List<Judgment>> judgmentEvents = invocation.getArgument(0);
+            return judgmentEvents.stream().map(judgments -> judgments == judgments1).toList();
+        });
+
+        Future<Boolean> saved1 = callers.submit(() -> groupCommitCoordinator.saveIfAbsent(judgments1));
+        Future<Boolean> saved2 = callers.submit(() -> groupCommitCoordinator.saveIfAbsent(judgments2));
+
+        // The window is longer than the timeout, so the group must be saved once it is full
+        assertTrue(saved1.get(TIMEOUT_SECONDS, TimeUnit.SECONDS), "First judgment event should have been saved");
+        assertFalse(saved2.get(TIMEOUT_SECONDS, TimeUnit.SECONDS), "Second judgment event should not have been saved");
+
+        ArgumentCaptor<List<List<Judgment>>> judgmentEventsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(mockJudgmentRepository).saveAllIfAbsent(judgmentEventsCaptor.capture());
+        assertEquals(MAX_BATCH_SIZE,
+                     judgmentEventsCaptor.getValue().size(),
+                     "Both judgment events should have been saved together");
+    }
+
+    @Test
+    void testSaveIfAbsentWindow() {
+        groupCommitConfigProperties.setWindow(1);
+
+        List<Judgment> judgments = List.of(createJudgment("1001"));
+        when(mockJudgmentRepository.saveAllIfAbsent(List.of(judgments))).thenReturn(List.of(true));
+
+        assertTrue(groupCommitCoordinator.saveIfAbsent(judgments),
+                   "Judgment event should have been saved once the window closed");
+    }
+
+    @Test
+    void testSaveIfAbsentConnectionFailure() throws InterruptedException, TimeoutException {
+        List<Judgment> judgments1 = List.of(createJudgment("1001"));
+        List<Judgment> judgments2 = List.of(createJudgment("2002"));
+
+        when(mockJudgmentRepository.saveAllIfAbsent(anyList()))
+            .thenThrow(new DataAccessResourceFailureException("Unable to acquire JDBC Connection"));
+
+        Future<Boolean> saved1 = callers.submit(() -> groupCommitCoordinator.saveIfAbsent(judgments1));
+        Future<Boolean> saved2 = callers.submit(() -> groupCommitCoordinator.saveIfAbsent(judgments2));
+
+        for (Future<Boolean> saved : List.of(saved1, saved2)) {
+            ExecutionException executionException =
+                assertThrows(ExecutionException.class,
+                             () -> saved.get(TIMEOUT_SECONDS, TimeUnit.SECONDS),
+                             "Every judgment event in the group should fail");
+            assertInstanceOf(DataAccessResourceFailureException.class,
+                             executionException.getCause(),
+                             "Group commit failure should be passed on to each caller");
+        }
+
+        // The judgment events are not saved separately, as each would only fail in the same way
+        verify(mockJudgmentRepository).saveAllIfAbsent(anyList());
+    }
+
+    @Test
+    void testSaveIfAbsentFailure() throws InterruptedException, TimeoutException {
+        List<Judgment> judgments1 = List.of(createJudgment("1001"));
+        List<Judgment> judgments2 = List.of(createJudgment("2002"));
+
+        DataIntegrityViolationException exception = new DataIntegrityViolationException("Value too long");
+        when(mockJudgmentRepository.saveAllIfAbsent(anyList())).thenThrow(exception);
+
+        Future<Boolean> saved1 = callers.submit(() -> groupCommitCoordinator.saveIfAbsent(judgments1));
+        Future<Boolean> saved2 = callers.submit(() -> groupCommitCoordinator.saveIfAbsent(judgments2));
+
+        for (Future<Boolean> saved : List.of(saved1, saved2)) {
+            ExecutionException executionException =
+                assertThrows(ExecutionException.class,
+                             () -> saved.get(TIMEOUT_SECONDS, TimeUnit.SECONDS),
+                             "Every judgment event in the group should fail");
+            assertInstanceOf(DataIntegrityViolationException.class,
+                             executionException.getCause(),
+                             "Group commit failure should be passed on to each caller");
+        }
+
+        // The group and then each judgment event on its own
+        verify(mockJudgmentRepository, times(3)).saveAllIfAbsent(anyList());
+    }
+
+    @Test
+    void testSaveIfAbsentFailureOneJudgmentEvent()
+        throws ExecutionException, InterruptedException, TimeoutException {
+        List<Judgment> judgments1 = List.of(createJudgment("1001"));
+        List<Judgment> judgments2 = List.of(createJudgment("2002"));
+
+        // Any save that includes the second judgment event fails
+        when(mockJudgmentRepository.saveAllIfAbsent(anyList())).thenAnswer(invocation -> {
+            List<List<Judgment>> judgmentEvents = invocation.getArgument(0);
+            if (judgmentEvents.contains(judgments2)) {
+                throw new DataIntegrityViolationException("Value too long");
+            }
+            return judgmentEvents.stream().map(judgments -> true).toList();
+        });
+
+        Future<Boolean> saved1 = callers.submit(() -> groupCommitCoordinator.saveIfAbsent(judgments1));
+        Future<Boolean> saved2 = callers.submit(() -> groupCommitCoordinator.saveIfAbsent(judgments2));
+
+        assertTrue(saved1.get(TIMEOUT_SECONDS, TimeUnit.SECONDS),
+                   "Judgment event grouped with a failing judgment event should have been saved");
+        ExecutionException executionException =
+            assertThrows(ExecutionException.class,
+                         () -> saved2.get(TIMEOUT_SECONDS, TimeUnit.SECONDS),
+                         "Failing judgment event should fail");
+        assertInstanceOf(DataIntegrityViolationException.class,
+                         executionException.getCause(),
+                         "Failure should be passed on to the caller of the failing judgment event");
+    }
+
+    private Judgment createJudgment(String judgmentId) {
+        Judgment judgment = new Judgment();
+        judgment.setJudgmentId(judgmentId);
+        return judgment;
+    }
+}
@@ -0,0 +1,246 @@
+package uk.gov.hmcts.reform.civil.service.ingest;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.hmcts.reform.civil.exception.TooManyRequestsException;
+import uk.gov.hmcts.reform.civil.service.validate.ServiceIdConfigProperties;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class IngestAdmissionServiceTest {
+
+    private static final String SERVICE_ID_1 = "UT01";
+    private static final String SERVICE_ID_2 = "UT02";
+    private static final String SERVICE_ID_UNRECOGNISED_1 = "UT98";
+    private static final String SERVICE_ID_UNRECOGNISED_2 = "UT99";
+
+    private static final int DEFAULT_LIMIT = 1;
+    private static final int SERVICE_ID_2_LIMIT = 2;
+    private static final int MAX_THREADS_AWAITING_CONNECTION = 4;
+    private static final long RETRY_AFTER = 3;
+    private static final long QUEUE_TIMEOUT = 50;
+
+    @Mock
+    private HikariDataSource mockDataSource;
+
+    @Mock
+    private HikariPoolMXBean mockPool;
+
+    private AdmissionConfigProperties admissionConfigProperties;
+
+    private MeterRegistry meterRegistry;
+
+    private IngestAdmissionService ingestAdmissionService;
+
+    @BeforeEach
+    void setUp() {
+        admissionConfigProperties = new AdmissionConfigProperties();
+        admissionConfigProperties.setEnabled(true);
+        admissionConfigProperties.setDefaultLimit(DEFAULT_LIMIT);
+        admissionConfigProperties.setLimits(Map.of(SERVICE_ID_2, SERVICE_ID_2_LIMIT));
+        admissionConfigProperties.setMaxThreadsAwaitingConnection(MAX_THREADS_AWAITING_CONNECTION);
+        admissionConfigProperties.setRetryAfter(RETRY_AFTER);
+
+        admissionConfigProperties.setQueueTimeout(QUEUE_TIMEOUT);
+
+        ServiceIdConfigProperties serviceIdConfigProperties = new ServiceIdConfigProperties();
+        serviceIdConfigProperties.setServiceIds(List.of(SERVICE_ID_1));
+
+        meterRegistry = new SimpleMeterRegistry();
+
+        ingestAdmissionService = new IngestAdmissionService(mockDataSource,
+                                                            admissionConfigProperties,
+                                                            serviceIdConfigProperties,
+                                                            meterRegistry);
+    }
+
+    @Test
+    void testAdmitNotEnabled() {
+        admissionConfigProperties.setEnabled(false);
+
+        for (int i = 0; i <= DEFAULT_LIMIT; i++) {
+            assertDoesNotThrow(() -> ingestAdmissionService.admit(SERVICE_ID_1),
+                               "Requests should always be admitted when admission control is not enabled");
+        }
+        verifyNoInteractions(mockDataSource);
+    }
+
+    @Test
+    void testAdmitServiceLimit() {
+        when(mockDataSource.getHikariPoolMXBean()).thenReturn(mockPool);
+
+        IngestAdmissionService.Admission admission = ingestAdmissionService.admit(SERVICE_ID_1);
+
+        TooManyRequestsException exception = assertThrows(TooManyRequestsException.class,
+                                                           () -> ingestAdmissionService.admit(SERVICE_ID_1),
+                                                           "Request over the default limit should be rejected");
+        assertEquals(RETRY_AFTER, exception.getRetryAfter(), "Unexpected retry after");
+
+        // Other serviceIds have their own limits
+        ingestAdmissionService.admit(SERVICE_ID_2);
+        ingestAdmissionService.admit(SERVICE_ID_2);
+        assertThrows(TooManyRequestsException.class,
+                     () -> ingestAdmissionService.admit(SERVICE_ID_2),
+                     "Request over the serviceId limit should be rejected");
+
+        admission.close();
+        assertDoesNotThrow(() -> ingestAdmissionService.admit(SERVICE_ID_1),
+                           "Request should be admitted once an earlier request has finished");
+    }
+
+    @Test
+    void testAdmitConnectionPoolSaturated() {
+        when(mockDataSource.getHikariPoolMXBean()).thenReturn(mockPool);
+        when(mockPool.getThreadsAwaitingConnection()).thenReturn(MAX_THREADS_AWAITING_CONNECTION);
+
+        assertThrows(TooManyRequestsException.class,
+                     () -> ingestAdmissionService.admit(SERVICE_ID_1),
+                     "Request should be rejected when the connection pool is saturated");
+    }
+
+    @Test
+    void testAdmitServiceIds() {
+        when(mockDataSource.getHikariPoolMXBean()).thenReturn(mockPool);
+
+        IngestAdmissionService.Admission admission =
+            ingestAdmissionService.admit(List.of(SERVICE_ID_2, SERVICE_ID_2, SERVICE_ID_1));
+
+        // The request is counted once for each distinct serviceId
+        assertDoesNotThrow(() -> ingestAdmissionService.admit(SERVICE_ID_2),
+                           "ServiceId should only be counted once for the request");
+        assertThrows(TooManyRequestsException.class,
+                     () -> ingestAdmissionService.admit(List.of(SERVICE_ID_2, SERVICE_ID_1)),
+                     "Request should be rejected if any serviceId is over its limit");
+
+        admission.close();
+        assertDoesNotThrow(() -> ingestAdmissionService.admit(SERVICE_ID_1),
+                           "Request should be admitted once the earlier request has finished");
+    }
+
+    @Test
+    void testAdmitUnrecognisedServiceIdsShareCompartment() {
+        when(mockDataSource.getHikariPoolMXBean()).thenReturn(mockPool);
+
+        ingestAdmissionService.admit(SERVICE_ID_UNRECOGNISED_1);
+
+        assertThrows(TooManyRequestsException.class,
+                     () -> ingestAdmissionService.admit(SERVICE_ID_UNRECOGNISED_2),
+                     "Unrecognised serviceIds should share the same compartment");
+        assertDoesNotThrow(() -> ingestAdmissionService.admit(SERVICE_ID_1),
+                           "Recognised serviceId should not be affected by unrecognised serviceIds");
+    }
+
+    @Test
+    void testAdmitQueued() throws Exception {
+        when(mockDataSource.getHikariPoolMXBean()).thenReturn(mockPool);
+        admissionConfigProperties.setQueueLimit(1);
+        admissionConfigProperties.setQueueTimeout(TimeUnit.SECONDS.toMillis(10));
+
+        IngestAdmissionService.Admission admission = ingestAdmissionService.admit(SERVICE_ID_1);
+
+        CompletableFuture<IngestAdmissionService.Admission> queuedAdmission =
+            CompletableFuture.supplyAsync(() -> ingestAdmissionService.admit(SERVICE_ID_1));
+        waitForQueued(SERVICE_ID_1);
+
+        assertThrows(TooManyRequestsException.class,
+                     () -> ingestAdmissionService.admit(SERVICE_ID_1),
+                     "Request should be rejected when the queue is full");
+        assertEquals(1.0,
+                     getRejectedCount(SERVICE_ID_1, IngestAdmissionService.REASON_QUEUE_FULL),
+                     "Unexpected queue full rejected count");
+
+        admission.close();
+        assertDoesNotThrow(() -> queuedAdmission.get(10, TimeUnit.SECONDS),
+                           "Queued request should be admitted once the earlier request has finished");
+        assertEquals(1.0, getGauge(IngestAdmissionService.METRIC_IN_FLIGHT, SERVICE_ID_1), "Unexpected in flight");
+        assertEquals(0.0, getGauge(IngestAdmissionService.METRIC_QUEUED, SERVICE_ID_1), "Unexpected queued");
+    }
+
+    @Test
+    void testAdmitQueuedBeforeLaterRequest() throws Exception {
+        when(mockDataSource.getHikariPoolMXBean()).thenReturn(mockPool);
+        admissionConfigProperties.setQueueLimit(1);
+        admissionConfigProperties.setQueueTimeout(TimeUnit.SECONDS.toMillis(10));
+
+        IngestAdmissionService.Admission admission = ingestAdmissionService.admit(SERVICE_ID_1);
+
+        AtomicReference<Thread> queuedThread = new AtomicReference<>();
+        CompletableFuture<IngestAdmissionService.Admission> queuedAdmission = CompletableFuture.supplyAsync(() -> {
+            queuedThread.set(Thread.currentThread());
+            return ingestAdmissionService.admit(SERVICE_ID_1);
+        });
+        waitForWaiting(queuedThread);
+
+        // The later request arrives as the permit is released, before the queued request has woken up to take it
+        admissionConfigProperties.setQueueTimeout(QUEUE_TIMEOUT);
+        admission.close();
+        assertThrows(TooManyRequestsException.class,
+                     () -> ingestAdmissionService.admit(SERVICE_ID_1),
+                     "Later request should not be admitted ahead of the queued request");
+
+        assertDoesNotThrow(() -> queuedAdmission.get(10, TimeUnit.SECONDS),
+                           "Queued request should be admitted once the earlier request has finished");
+    }
+
+    @Test
+    void testAdmitQueueTimeout() {
+        when(mockDataSource.getHikariPoolMXBean()).thenReturn(mockPool);
+        admissionConfigProperties.setQueueLimit(1);
+
+        ingestAdmissionService.admit(SERVICE_ID_1);
+
+        assertThrows(TooManyRequestsException.class,
+                     () -> ingestAdmissionService.admit(SERVICE_ID_1),
+                     "Queued request should be rejected when it times out");
+        assertEquals(1.0,
+                     getRejectedCount(SERVICE_ID_1, IngestAdmissionService.REASON_QUEUE_TIMEOUT),
+                     "Unexpected queue timeout rejected count");
+    }
+
+    private void waitForQueued(String compartment) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (getGauge(IngestAdmissionService.METRIC_QUEUED, compartment) < 1.0) {
+            assertTrue(System.nanoTime() < deadline, "Request should have been queued");
+            Thread.sleep(10);
+        }
+    }
+
+    private void waitForWaiting(AtomicReference<Thread> thread) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (thread.get() == null || thread.get().getState() != Thread.State.TIMED_WAITING) {
+            assertTrue(System.nanoTime() < deadline, "Request should be waiting in the queue");
+            Thread.sleep(10);
+        }
+    }
+
+    private double getGauge(String name, String compartment) {
+        return meterRegistry.get(name).tag(IngestAdmissionService.TAG_COMPARTMENT, compartment).gauge().value();
+    }
+
+    private double getRejectedCount(String compartment, String reason) {
+        return meterRegistry.get(IngestAdmissionService.METRIC_REJECTED)
+            .tag(IngestAdmissionService.TAG_COMPARTMENT, compartment)
+            .tag(IngestAdmissionService.TAG_REASON, reason)
+            .counter()
+            .count();
+    }
+}
@@ -0,0 +1,77 @@
+package uk.gov.hmcts.reform.civil.service.ingest;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.civil.model.JudgmentEventKey;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JudgmentEventCacheTest {
+
+    private static final JudgmentEventKey KEY =
+        new JudgmentEventKey("UT01", "1001", LocalDateTime.of(2024, 1, 1, 1, 0, 0), "0AA10001");
+    private static final JudgmentEventKey OTHER_KEY =
+        new JudgmentEventKey("UT01", "2002", LocalDateTime.of(2024, 1, 1, 1, 0, 0), "0AA10001");
+
+    private static final String FINGERPRINT = "fingerprint";
+    private static final String OTHER_FINGERPRINT = "otherFingerprint";
+
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void testIsAccepted() {
+        JudgmentEventCache judgmentEventCache = createJudgmentEventCache(true);
+
+        assertTrue(judgmentEventCache.isEnabled(), "Cache should be enabled");
+        assertFalse(judgmentEventCache.isAccepted(KEY, FINGERPRINT), "Judgment event should not be accepted");
+
+        judgmentEventCache.accepted(KEY, FINGERPRINT);
+
+        assertTrue(judgmentEventCache.isAccepted(KEY, FINGERPRINT), "Judgment event should be accepted");
+        assertFalse(judgmentEventCache.isAccepted(KEY, OTHER_FINGERPRINT),
+                    "Judgment event with different content should not be accepted");
+        assertFalse(judgmentEventCache.isAccepted(OTHER_KEY, FINGERPRINT),
+                    "Judgment event with different key should not be accepted");
+    }
+
+    @Test
+    void testIsAcceptedDisabled() {
+        JudgmentEventCache judgmentEventCache = createJudgmentEventCache(false);
+
+        judgmentEventCache.accepted(KEY, FINGERPRINT);
+
+        assertFalse(judgmentEventCache.isEnabled(), "Cache should not be enabled");
+        assertFalse(judgmentEventCache.isAccepted(KEY, FINGERPRINT),
+                    "Judgment event should not be accepted when cache is disabled");
+    }
+
+    @Test
+    void testMetrics() {
+        createJudgmentEventCache(true);
+
+        assertNotNull(meterRegistry.find("cache.gets").tag("cache", "judgmentEventCache").functionCounter(),
+                      "Cache gets should be monitored");
+        assertNotNull(meterRegistry.find("cache.evictions").tag("cache", "judgmentEventCache").functionCounter(),
+                      "Cache evictions should be monitored");
+    }
+
+    private JudgmentEventCache createJudgmentEventCache(boolean enabled) {
+        JudgmentEventCacheConfigProperties cacheConfigProperties = new JudgmentEventCacheConfigProperties();
+        cacheConfigProperties.setEnabled(enabled);
+        cacheConfigProperties.setMaximumSize(10);
+        cacheConfigProperties.setExpireAfterWrite(60);
+
+        return new JudgmentEventCache(cacheConfigProperties, meterRegistry);
+    }
+}
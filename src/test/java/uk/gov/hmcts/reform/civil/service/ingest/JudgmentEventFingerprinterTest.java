@@ -0,0 +1,55 @@
+package uk.gov.hmcts.reform.civil.service.ingest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.civil.model.JudgmentEvent;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class JudgmentEventFingerprinterTest {
+
+    private JudgmentEventFingerprinter judgmentEventFingerprinter;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        judgmentEventFingerprinter = new JudgmentEventFingerprinter(objectMapper);
+    }
+
+    @Test
+    void testFingerprint() {
+        String fingerprint = judgmentEventFingerprinter.fingerprint(createJudgmentEvent(new BigDecimal("11.00")));
+
+        assertEquals(64, fingerprint.length(), "Fingerprint does not have expected length");
+        assertEquals(fingerprint,
+                     judgmentEventFingerprinter.fingerprint(createJudgmentEvent(new BigDecimal("11.00"))),
+                     "Judgment events with the same content should have the same fingerprint");
+    }
+
+    @Test
+    void testFingerprintDifferentContent() {
+        assertNotEquals(judgmentEventFingerprinter.fingerprint(createJudgmentEvent(new BigDecimal("11.00"))),
+                        judgmentEventFingerprinter.fingerprint(createJudgmentEvent(new BigDecimal("12.00"))),
+                        "Judgment events with different content should have different fingerprints");
+    }
+
+    private JudgmentEvent createJudgmentEvent(BigDecimal judgmentAdminOrderTotal) {
+        JudgmentEvent judgmentEvent = new JudgmentEvent();
+        judgmentEvent.setServiceId("UT01");
+        judgmentEvent.setJudgmentId("1001");
+        judgmentEvent.setJudgmentEventTimeStamp(LocalDateTime.of(2024, 1, 1, 1, 0, 0));
+        judgmentEvent.setCaseNumber("0AA10001");
+        judgmentEvent.setJudgmentAdminOrderTotal(judgmentAdminOrderTotal);
+        return judgmentEvent;
+    }
+}
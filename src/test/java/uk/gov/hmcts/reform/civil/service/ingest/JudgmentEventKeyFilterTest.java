@@ -0,0 +1,149 @@
+package uk.gov.hmcts.reform.civil.service.ingest;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.hmcts.reform.civil.model.JudgmentEventKey;
+import uk.gov.hmcts.reform.civil.repository.JudgmentRepository;
+
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+
+@ExtendWith(MockitoExtension.class)
+class JudgmentEventKeyFilterTest {
+
+    private static final JudgmentEventKey KEY_SAVED =
+        new JudgmentEventKey("UT01", "1001", LocalDateTime.of(2024, 1, 1, 1, 0, 0), "0AA10001");
+    private static final JudgmentEventKey KEY_NEW =
+        new JudgmentEventKey("UT01", "2002", LocalDateTime.of(2024, 2, 2, 2, 0, 0), "0AA20002");
+
+    @Mock
+    private JudgmentRepository mockJudgmentRepository;
+
+    private MeterRegistry meterRegistry;
+
+    private JudgmentEventKeyFilter judgmentEventKeyFilter;
+
+    @BeforeEach
+    void setUp() {
+        KeyFilterConfigProperties keyFilterConfigProperties = new KeyFilterConfigProperties();
+        keyFilterConfigProperties.setEnabled(true);
+        keyFilterConfigProperties.setExpectedInsertions(1000L);
+        keyFilterConfigProperties.setFalsePositiveRate(0.01);
+
+        meterRegistry = new SimpleMeterRegistry();
+
+        judgmentEventKeyFilter =
+            new JudgmentEventKeyFilter(mockJudgmentRepository, keyFilterConfigProperties, meterRegistry);
+    }
+
+    @Test
+    void testMayContainNotLoaded() {
+        judgmentEventKeyFilter.put(KEY_SAVED);
+
+        assertFalse(judgmentEventKeyFilter.mayContain(KEY_SAVED),
+                    "Filter that has not been loaded should not be used");
+    }
+
+    @Test
+    void testRebuild() {
+        loadKeys(KEY_SAVED);
+
+        judgmentEventKeyFilter.rebuild();
+
+        assertTrue(judgmentEventKeyFilter.mayContain(KEY_SAVED), "Saved key should be in filter");
+        assertFalse(judgmentEventKeyFilter.mayContain(KEY_NEW), "New key should not be in filter");
+        assertEquals(1.0, getLookupCount(JudgmentEventKeyFilter.RESULT_NEW), "Unexpected new lookup count");
+        assertEquals(1.0,
+                     meterRegistry.get(JudgmentEventKeyFilter.METRIC_KEYS).gauge().value(),
+                     "Unexpected number of keys");
+    }
+
+    @Test
+    void testRebuildSubHundredthTimestamp() {
+        // Keys are loaded with the timestamp stored to hundredths of a second
+        loadKeys(new JudgmentEventKey("UT01", "3003", LocalDateTime.of(2024, 3, 3, 3, 0, 0, 120_000_000), "0AA30003"));
+        judgmentEventKeyFilter.rebuild();
+
+        JudgmentEventKey requestKey =
+            new JudgmentEventKey("UT01", "3003", LocalDateTime.of(2024, 3, 3, 3, 0, 0, 123_456_789), "0AA30003");
+        assertTrue(judgmentEventKeyFilter.mayContain(requestKey),
+                   "Key of a request with a finer timestamp than is stored should be in filter");
+    }
+
+    @Test
+    void testPut() {
+        loadKeys(KEY_SAVED);
+        judgmentEventKeyFilter.rebuild();
+
+        judgmentEventKeyFilter.put(KEY_NEW);
+
+        assertTrue(judgmentEventKeyFilter.mayContain(KEY_NEW), "Key should be in filter once put");
+    }
+
+    @Test
+    void testPutWhileRebuilding() {
+        doAnswer(invocation -> {
+            Consumer<JudgmentEventKey> consumer = invocation.getArgument(0);
+            consumer.accept(KEY_SAVED);
+            // Judgment event saved after the keys were read
+            judgmentEventKeyFilter.put(KEY_NEW);
+            return null;
+        }).when(mockJudgmentRepository).forEachJudgmentEventKey(any());
+
+        judgmentEventKeyFilter.rebuild();
+
+        assertTrue(judgmentEventKeyFilter.mayContain(KEY_NEW), "Key put while rebuilding should be in filter");
+    }
+
+    @Test
+    void testRebuildFailedKeepsFilter() {
+        loadKeys(KEY_SAVED);
+        judgmentEventKeyFilter.rebuild();
+
+        doThrow(new IllegalStateException()).when(mockJudgmentRepository).forEachJudgmentEventKey(any());
+        judgmentEventKeyFilter.rebuild();
+
+        assertTrue(judgmentEventKeyFilter.mayContain(KEY_SAVED), "Filter should be kept when rebuild fails");
+    }
+
+    @Test
+    void testRecordLookup() {
+        judgmentEventKeyFilter.recordLookup(true);
+        judgmentEventKeyFilter.recordLookup(false);
+        judgmentEventKeyFilter.recordLookup(false);
+
+        assertEquals(1.0,
+                     getLookupCount(JudgmentEventKeyFilter.RESULT_DUPLICATE),
+                     "Unexpected duplicate lookup count");
+        assertEquals(2.0,
+                     getLookupCount(JudgmentEventKeyFilter.RESULT_FALSE_POSITIVE),
+                     "Unexpected false positive lookup count");
+    }
+
+    private void loadKeys(JudgmentEventKey key) {
+        doAnswer(invocation -> {
+            Consumer<JudgmentEventKey> consumer = invocation.getArgument(0);
+            consumer.accept(key);
+            return null;
+        }).when(mockJudgmentRepository).forEachJudgmentEventKey(any());
+    }
+
+    private double getLookupCount(String result) {
+        return meterRegistry.get(JudgmentEventKeyFilter.METRIC_LOOKUPS)
+            .tag(JudgmentEventKeyFilter.TAG_RESULT, result)
+            .counter()
+            .count();
+    }
+}
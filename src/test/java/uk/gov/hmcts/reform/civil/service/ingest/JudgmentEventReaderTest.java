@@ -0,0 +1,96 @@
+package uk.gov.hmcts.reform.civil.service.ingest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.civil.model.JudgmentEvent;
+import uk.gov.hmcts.reform.civil.model.RegistrationType;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class JudgmentEventReaderTest {
+
+    private static final String JUDGMENT_EVENT = """
+        {
+          "serviceId": "UT01",
+          "judgmentId": "1001",
+          "judgmentEventTimeStamp": "2024-01-01T01:00:00Z",
+          "courtEpimsId": "123456",
+          "ccdCaseRef": "10000001",
+          "caseNumber": "0AA10001",
+          "judgmentAdminOrderTotal": 11.00,
+          "judgmentAdminOrderDate": "2024-01-01",
+          "registrationType": "C",
+          "cancellationDate": "2024-01-02",
+          "defendant1": {
+            "defendantName": "Jud1Def1FirstName Jud1Def1LastName",
+            "defendantAddress": {
+              "defendantAddressLine1": "Jud1Def1 Address Line 1",
+              "defendantPostcode": "JD1 1DD"
+            }
+          }
+        }
+        """;
+
+    private JudgmentEventReader judgmentEventReader;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .registerModule(new BlackbirdModule());
+
+        judgmentEventReader = new JudgmentEventReader(objectMapper);
+    }
+
+    @Test
+    void testWarmUp() {
+        assertDoesNotThrow(() -> judgmentEventReader.warmUp(), "Warm up should not throw an exception");
+    }
+
+    @Test
+    void testReadInputStream() throws IOException {
+        JudgmentEvent judgmentEvent =
+            judgmentEventReader.read(new ByteArrayInputStream(JUDGMENT_EVENT.getBytes(StandardCharsets.UTF_8)));
+
+        assertJudgmentEvent(judgmentEvent);
+    }
+
+    @Test
+    void testReadReader() throws IOException {
+        JudgmentEvent judgmentEvent = judgmentEventReader.read(new StringReader(JUDGMENT_EVENT));
+
+        assertJudgmentEvent(judgmentEvent);
+    }
+
+    private void assertJudgmentEvent(JudgmentEvent judgmentEvent) {
+        assertEquals("UT01", judgmentEvent.getServiceId(), "Judgment event has unexpected service id");
+        assertEquals("1001", judgmentEvent.getJudgmentId(), "Judgment event has unexpected judgment id");
+        assertEquals(LocalDateTime.of(2024, 1, 1, 1, 0, 0),
+                     judgmentEvent.getJudgmentEventTimeStamp(),
+                     "Judgment event has unexpected timestamp");
+        assertEquals(new BigDecimal("11.00"),
+                     judgmentEvent.getJudgmentAdminOrderTotal(),
+                     "Judgment event has unexpected admin order total");
+        assertEquals(RegistrationType.JUDGMENT_CANCELLED,
+                     judgmentEvent.getRegistrationType(),
+                     "Judgment event has unexpected registration type");
+        assertEquals(LocalDate.of(2024, 1, 2),
+                     judgmentEvent.getCancellationDate(),
+                     "Judgment event has unexpected cancellation date");
+        assertEquals("JD1 1DD",
+                     judgmentEvent.getDefendant1().getDefendantAddress().getDefendantPostcode(),
+                     "Defendant has unexpected postcode");
+    }
+}
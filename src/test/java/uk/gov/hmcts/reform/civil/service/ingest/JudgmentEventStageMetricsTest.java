@@ -0,0 +1,82 @@
+package uk.gov.hmcts.reform.civil.service.ingest;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.civil.exception.UnrecognisedEpimsIdException;
+import uk.gov.hmcts.reform.civil.service.ingest.JudgmentEventStageMetrics.Stage;
+import uk.gov.hmcts.reform.civil.service.ingest.JudgmentEventStageMetrics.StageTimings;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class JudgmentEventStageMetricsTest {
+
+    private static final String SERVICE_ID = "UT01";
+    private static final String COURT_CODE = "101";
+
+    private MeterRegistry meterRegistry;
+
+    private JudgmentEventStageMetrics judgmentEventStageMetrics;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        judgmentEventStageMetrics = new JudgmentEventStageMetrics(meterRegistry);
+    }
+
+    @Test
+    void testOutcome() {
+        assertEquals("003",
+                     JudgmentEventStageMetrics.outcome(new UnrecognisedEpimsIdException()),
+                     "Judgment event error should have its error code as outcome");
+        assertEquals("error",
+                     JudgmentEventStageMetrics.outcome(new IllegalStateException()),
+                     "Unexpected exception should have error as outcome");
+    }
+
+    @Test
+    void testRecord() {
+        StageTimings stageTimings = judgmentEventStageMetrics.start();
+
+        String courtCode = stageTimings.time(Stage.REF_DATA, () -> COURT_CODE);
+        stageTimings.record(SERVICE_ID, JudgmentEventStageMetrics.OUTCOME_CREATED);
+
+        assertEquals(COURT_CODE, courtCode, "Timed stage should return its result");
+
+        Timer timer = meterRegistry.find(JudgmentEventStageMetrics.METRIC_STAGE)
+            .tag(JudgmentEventStageMetrics.TAG_STAGE, "refData")
+            .tag(JudgmentEventStageMetrics.TAG_SERVICE_ID, SERVICE_ID)
+            .tag(JudgmentEventStageMetrics.TAG_OUTCOME, JudgmentEventStageMetrics.OUTCOME_CREATED)
+            .timer();
+        assertNotNull(timer, "RefData stage should be timed");
+        assertEquals(1, timer.count(), "RefData stage should be timed once");
+        assertNull(meterRegistry.find(JudgmentEventStageMetrics.METRIC_STAGE)
+                       .tag(JudgmentEventStageMetrics.TAG_STAGE, "persist")
+                       .timer(),
+                   "Persist stage was not reached so should not be timed");
+    }
+
+    @Test
+    void testRecordFailedStage() {
+        StageTimings stageTimings = judgmentEventStageMetrics.start();
+
+        UnrecognisedEpimsIdException exception = new UnrecognisedEpimsIdException();
+        assertThrows(UnrecognisedEpimsIdException.class,
+                     () -> stageTimings.time(Stage.REF_DATA, () -> {
+                         throw exception;
+                     }),
+                     "Exception from stage should be thrown");
+        stageTimings.record(SERVICE_ID, JudgmentEventStageMetrics.outcome(exception));
+
+        assertNotNull(meterRegistry.find(JudgmentEventStageMetrics.METRIC_STAGE)
+                          .tag(JudgmentEventStageMetrics.TAG_STAGE, "refData")
+                          .tag(JudgmentEventStageMetrics.TAG_OUTCOME, "003")
+                          .timer(),
+                      "Failed stage should still be timed");
+    }
+}
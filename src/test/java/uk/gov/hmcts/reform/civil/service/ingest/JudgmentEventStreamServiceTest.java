@@ -0,0 +1,257 @@
+package uk.gov.hmcts.reform.civil.service.ingest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.hmcts.reform.civil.exception.TooManyRequestsException;
+import uk.gov.hmcts.reform.civil.model.JudgmentEvent;
+import uk.gov.hmcts.reform.civil.model.JudgmentEventResult;
+import uk.gov.hmcts.reform.civil.service.JudgmentEventService;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class JudgmentEventStreamServiceTest {
+
+    private static final int CHUNK_SIZE = 2;
+
+    private static final int HTTP_STATUS_CREATED = 201;
+    private static final int HTTP_STATUS_BAD_REQUEST = 400;
+    private static final int HTTP_STATUS_TOO_MANY_REQUESTS = 429;
+
+    @Mock
+    private JudgmentEventService mockJudgmentEventService;
+
+    @Mock
+    private IngestAdmissionService mockIngestAdmissionService;
+
+    @Mock
+    private IngestAdmissionService.Admission mockAdmission;
+
+    private ObjectMapper objectMapper;
+
+    private JudgmentEventStreamService judgmentEventStreamService;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        IngestConfigProperties ingestConfigProperties = new IngestConfigProperties();
+        ingestConfigProperties.setChunkSize(CHUNK_SIZE);
+
+        judgmentEventStreamService = new JudgmentEventStreamService(mockJudgmentEventService,
+                                                                    mockIngestAdmissionService,
+                                                                    objectMapper,
+                                                                    ingestConfigProperties);
+    }
+
+    @Test
+    void testProcessJudgmentEventsInChunks() throws IOException {
+        String judgmentEvents = """
+            {"serviceId": "UT01", "judgmentId": "1001", "registrationType": "R"}
+            {"serviceId": "UT01", "judgmentId": "1002", "registrationType": "R"}
+            {"serviceId": "UT01", "judgmentId": "1003", "registrationType": "R"}
+            """;
+
+        when(mockJudgmentEventService.processJudgmentEvents(anyList())).thenAnswer(
+            invocation -> createdResults(invocation.getArgument(0))
+        );
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        int count = judgmentEventStreamService.processJudgmentEvents(toInputStream(judgmentEvents), outputStream);
+
+        assertEquals(3, count, "Unexpected number of judgment events read");
+
+        List<JsonNode> results = readResults(outputStream);
+        assertEquals(3, results.size(), "Unexpected number of results");
+        assertResult(results.get(0), "1001", HTTP_STATUS_CREATED);
+        assertResult(results.get(1), "1002", HTTP_STATUS_CREATED);
+        assertResult(results.get(2), "1003", HTTP_STATUS_CREATED);
+
+        verify(mockJudgmentEventService, times(2)).processJudgmentEvents(anyList());
+        verify(mockIngestAdmissionService, times(2)).admit(anyCollection());
+    }
+
+    @Test
+    void testProcessJudgmentEventsJsonArray() throws IOException {
+        String judgmentEvents = """
+            [
+              {"serviceId": "UT01", "judgmentId": "1001", "registrationType": "R"},
+              {"serviceId": "UT01", "judgmentId": "1002", "registrationType": "R"},
+              {"serviceId": "UT01", "judgmentId": "1003", "registrationType": "R"}
+            ]
+            """;
+
+        when(mockJudgmentEventService.processJudgmentEvents(anyList())).thenAnswer(
+            invocation -> createdResults(invocation.getArgument(0))
+        );
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        int count = judgmentEventStreamService.processJudgmentEvents(toInputStream(judgmentEvents), outputStream, 3);
+
+        assertEquals(3, count, "Unexpected number of judgment events read");
+
+        List<JsonNode> results = readResults(outputStream);
+        assertEquals(3, results.size(), "Unexpected number of results");
+        assertResult(results.get(0), "1001", HTTP_STATUS_CREATED);
+        assertResult(results.get(2), "1003", HTTP_STATUS_CREATED);
+
+        verify(mockJudgmentEventService).processJudgmentEvents(anyList());
+        // Chunks from the directory source are not admitted
+        verifyNoInteractions(mockIngestAdmissionService);
+    }
+
+    @Test
+    void testProcessJudgmentEventsFirstChunkRejected() {
+        String judgmentEvents = """
+            {"serviceId": "UT01", "judgmentId": "1001", "registrationType": "R"}
+            {"serviceId": "UT01", "judgmentId": "1002", "registrationType": "R"}
+            """;
+
+        when(mockIngestAdmissionService.admit(anyCollection()))
+            .thenThrow(new TooManyRequestsException("too many requests in flight for serviceId", 1));
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        assertThrows(TooManyRequestsException.class,
+                     () -> judgmentEventStreamService.processJudgmentEvents(toInputStream(judgmentEvents),
+                                                                            outputStream),
+                     "Rejection of the first chunk should be thrown");
+
+        assertEquals(0, outputStream.size(), "No results should be written");
+        verifyNoInteractions(mockJudgmentEventService);
+    }
+
+    @Test
+    void testProcessJudgmentEventsLaterChunkRejected() throws IOException {
+        String judgmentEvents = """
+            {"serviceId": "UT01", "judgmentId": "1001", "registrationType": "R"}
+            {"serviceId": "UT01", "judgmentId": "1002", "registrationType": "R"}
+            {"serviceId": "UT01", "judgmentId": "1003", "registrationType": "R"}
+            {"serviceId": "UT01", "judgmentId": "1004", "registrationType": "R"}
+            {"serviceId": "UT01", "judgmentId": "1005", "registrationType": "R"}
+            """;
+
+        when(mockIngestAdmissionService.admit(anyCollection()))
+            .thenReturn(mockAdmission)
+            .thenThrow(new TooManyRequestsException("too many requests in flight for serviceId", 1));
+        when(mockJudgmentEventService.processJudgmentEvents(anyList())).thenAnswer(
+            invocation -> createdResults(invocation.getArgument(0))
+        );
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        int count = judgmentEventStreamService.processJudgmentEvents(toInputStream(judgmentEvents), outputStream);
+
+        assertEquals(4, count, "Stream should not be read after the rejected chunk");
+
+        List<JsonNode> results = readResults(outputStream);
+        assertEquals(4, results.size(), "Unexpected number of results");
+        assertResult(results.get(1), "1002", HTTP_STATUS_CREATED);
+        assertResult(results.get(2), "1003", HTTP_STATUS_TOO_MANY_REQUESTS);
+        assertResult(results.get(3), "1004", HTTP_STATUS_TOO_MANY_REQUESTS);
+
+        verify(mockJudgmentEventService).processJudgmentEvents(anyList());
+        verify(mockAdmission).close();
+    }
+
+    @Test
+    void testProcessJudgmentEventsUnboundRecord() throws IOException {
+        String judgmentEvents = """
+            {"serviceId": "UT01", "judgmentId": "1001", "registrationType": "R"}
+            {"serviceId": "UT01", "judgmentId": "1002", "registrationType": "X"}
+            {"serviceId": "UT01", "judgmentId": "1003", "registrationType": "R"}
+            """;
+
+        when(mockJudgmentEventService.processJudgmentEvents(anyList())).thenAnswer(
+            invocation -> createdResults(invocation.getArgument(0))
+        );
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        int count = judgmentEventStreamService.processJudgmentEvents(toInputStream(judgmentEvents), outputStream);
+
+        assertEquals(2, count, "Unexpected number of judgment events read");
+
+        List<JsonNode> results = readResults(outputStream);
+        assertEquals(3, results.size(), "Unexpected number of results");
+        assertResult(results.get(0), "1001", HTTP_STATUS_CREATED);
+        assertResult(results.get(1), null, HTTP_STATUS_BAD_REQUEST);
+        assertResult(results.get(2), "1003", HTTP_STATUS_CREATED);
+    }
+
+    @Test
+    void testProcessJudgmentEventsInvalidJson() throws IOException {
+        String judgmentEvents = """
+            {"serviceId": "UT01", "judgmentId": "1001", "registrationType": "R"}
+            {"serviceId": "UT01", "judgmentId":
+            """;
+
+        when(mockJudgmentEventService.processJudgmentEvents(anyList())).thenAnswer(
+            invocation -> createdResults(invocation.getArgument(0))
+        );
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        judgmentEventStreamService.processJudgmentEvents(toInputStream(judgmentEvents), outputStream);
+
+        List<JsonNode> results = readResults(outputStream);
+        assertEquals(2, results.size(), "Unexpected number of results");
+        assertResult(results.get(0), "1001", HTTP_STATUS_CREATED);
+        assertResult(results.get(1), null, HTTP_STATUS_BAD_REQUEST);
+
+        ArgumentCaptor<List<JudgmentEvent>> captor = createListCaptor();
+        verify(mockJudgmentEventService).processJudgmentEvents(captor.capture());
+        assertEquals(1, captor.getValue().size(), "Only the readable judgment event should be processed");
+    }
+
+    private List<JudgmentEventResult> createdResults(List<JudgmentEvent> judgmentEvents) {
+        return judgmentEvents.stream().map(JudgmentEventResult::created).toList();
+    }
+
+    private ByteArrayInputStream toInputStream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private List<JsonNode> readResults(ByteArrayOutputStream outputStream) throws IOException {
+        List<JsonNode> results = new ArrayList<>();
+        for (String line : outputStream.toString(StandardCharsets.UTF_8).split("\n")) {
+            results.add(objectMapper.readTree(line));
+        }
+        return results;
+    }
+
+    private void assertResult(JsonNode result, String expectedJudgmentId, int expectedStatus) {
+        if (expectedJudgmentId == null) {
+            assertNull(result.get("judgmentId"), "Result should not have a judgment id");
+        } else {
+            assertEquals(expectedJudgmentId, result.get("judgmentId").textValue(), "Unexpected judgment id");
+        }
+        assertEquals(expectedStatus, result.get("status").intValue(), "Unexpected status");
+    }
+
+    @SuppressWarnings("unchecked")
+    private ArgumentCaptor<List<JudgmentEvent>> createListCaptor() {
+        return ArgumentCaptor.forClass(List.class);
+    }
+}
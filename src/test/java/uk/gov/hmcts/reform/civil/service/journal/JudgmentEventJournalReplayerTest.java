@@ -0,0 +1,191 @@
+package uk.gov.hmcts.reform.civil.service.journal;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.hmcts.reform.civil.exception.JudgmentEventErrorType;
+import uk.gov.hmcts.reform.civil.model.JudgmentEvent;
+import uk.gov.hmcts.reform.civil.model.JudgmentEventResult;
+import uk.gov.hmcts.reform.civil.service.JudgmentEventService;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class JudgmentEventJournalReplayerTest {
+
+    private static final int BATCH_SIZE = 10;
+    private static final int MAX_ATTEMPTS = 2;
+    private static final long END_POSITION = 100L;
+
+    private static final String SERVICE_ID = "UT01";
+
+    @Mock
+    private JudgmentEventJournal mockJudgmentEventJournal;
+
+    @Mock
+    private JudgmentEventJournalService mockJudgmentEventJournalService;
+
+    @Mock
+    private JudgmentEventService mockJudgmentEventService;
+
+    private JudgmentEventJournalReplayer judgmentEventJournalReplayer;
+
+    @BeforeEach
+    void setUp() {
+        judgmentEventJournalReplayer = createJudgmentEventJournalReplayer(MAX_ATTEMPTS);
+    }
+
+    @Test
+    void testReplayJudgmentEventsEmpty() {
+        when(mockJudgmentEventJournal.read(BATCH_SIZE))
+            .thenReturn(new JudgmentEventJournal.JournalBatch(Collections.emptyList(), 0L));
+
+        assertFalse(judgmentEventJournalReplayer.replayJudgmentEvents(), "Nothing should have been replayed");
+
+        verify(mockJudgmentEventJournalService).journalReplayed();
+        verify(mockJudgmentEventJournal, never()).markReplayed(anyLong());
+    }
+
+    @Test
+    void testReplayJudgmentEvents() {
+        List<JudgmentEvent> judgmentEvents = List.of(createJudgmentEvent("1001"), createJudgmentEvent("2002"));
+
+        when(mockJudgmentEventJournal.read(BATCH_SIZE))
+            .thenReturn(new JudgmentEventJournal.JournalBatch(judgmentEvents, END_POSITION));
+        when(mockJudgmentEventService.processJudgmentEvents(judgmentEvents)).thenReturn(List.of(
+            JudgmentEventResult.created(judgmentEvents.get(0)),
+            JudgmentEventResult.error(judgmentEvents.get(1),
+                                      JudgmentEventErrorType.UNRECOGNISED_SERVICE_ID.toJudgmentEventError())
+        ));
+        when(mockJudgmentEventJournal.markReplayed(END_POSITION)).thenReturn(false);
+
+        assertTrue(judgmentEventJournalReplayer.replayJudgmentEvents(), "Batch should have been replayed");
+
+        verify(mockJudgmentEventJournal).markReplayed(END_POSITION);
+        verify(mockJudgmentEventJournalService, never()).journalReplayed();
+    }
+
+    @Test
+    void testReplayJudgmentEventsDrained() {
+        List<JudgmentEvent> judgmentEvents = List.of(createJudgmentEvent("1001"));
+
+        when(mockJudgmentEventJournal.read(BATCH_SIZE))
+            .thenReturn(new JudgmentEventJournal.JournalBatch(judgmentEvents, END_POSITION));
+        when(mockJudgmentEventService.processJudgmentEvents(judgmentEvents))
+            .thenReturn(List.of(JudgmentEventResult.created(judgmentEvents.getFirst())));
+        when(mockJudgmentEventJournal.markReplayed(END_POSITION)).thenReturn(true);
+
+        assertFalse(judgmentEventJournalReplayer.replayJudgmentEvents(), "Journal should have been drained");
+
+        verify(mockJudgmentEventJournalService).journalReplayed();
+    }
+
+    @Test
+    void testReplayJudgmentEventsInternalError() {
+        List<JudgmentEvent> judgmentEvents = List.of(createJudgmentEvent("1001"));
+
+        when(mockJudgmentEventJournal.read(BATCH_SIZE))
+            .thenReturn(new JudgmentEventJournal.JournalBatch(judgmentEvents, END_POSITION));
+        when(mockJudgmentEventService.processJudgmentEvents(judgmentEvents))
+            .thenReturn(List.of(JudgmentEventResult.internalError(judgmentEvents.getFirst())));
+        when(mockJudgmentEventJournal.markReplayed(END_POSITION)).thenReturn(true);
+
+        assertFalse(judgmentEventJournalReplayer.replayJudgmentEvents(), "Batch should be replayed again");
+        verify(mockJudgmentEventJournal, never()).markReplayed(anyLong());
+
+        // Once attempts are exhausted the batch is moved to the dead letter file so the journal is not held up
+        assertFalse(judgmentEventJournalReplayer.replayJudgmentEvents(), "Journal should have been drained");
+        InOrder inOrder = inOrder(mockJudgmentEventJournal);
+        inOrder.verify(mockJudgmentEventJournal).deadLetter(judgmentEvents);
+        inOrder.verify(mockJudgmentEventJournal).markReplayed(END_POSITION);
+    }
+
+    @Test
+    void testReplayJudgmentEventsInternalErrorOnlyDeadLettered() {
+        judgmentEventJournalReplayer = createJudgmentEventJournalReplayer(1);
+
+        List<JudgmentEvent> judgmentEvents = List.of(createJudgmentEvent("1001"),
+                                                     createJudgmentEvent("2002"),
+                                                     createJudgmentEvent("3003"));
+
+        when(mockJudgmentEventJournal.read(BATCH_SIZE))
+            .thenReturn(new JudgmentEventJournal.JournalBatch(judgmentEvents, END_POSITION));
+        when(mockJudgmentEventService.processJudgmentEvents(judgmentEvents)).thenReturn(List.of(
+            JudgmentEventResult.created(judgmentEvents.get(0)),
+            JudgmentEventResult.internalError(judgmentEvents.get(1)),
+            JudgmentEventResult.error(judgmentEvents.get(2),
+                                      JudgmentEventErrorType.UNRECOGNISED_SERVICE_ID.toJudgmentEventError())
+        ));
+        when(mockJudgmentEventJournal.markReplayed(END_POSITION)).thenReturn(true);
+
+        assertFalse(judgmentEventJournalReplayer.replayJudgmentEvents(), "Journal should have been drained");
+
+        verify(mockJudgmentEventJournal).deadLetter(List.of(judgmentEvents.get(1)));
+    }
+
+    @Test
+    void testReplayJournalDeadLetterFailed() {
+        judgmentEventJournalReplayer = createJudgmentEventJournalReplayer(1);
+
+        List<JudgmentEvent> judgmentEvents = List.of(createJudgmentEvent("1001"));
+
+        when(mockJudgmentEventJournal.read(BATCH_SIZE))
+            .thenReturn(new JudgmentEventJournal.JournalBatch(judgmentEvents, END_POSITION));
+        when(mockJudgmentEventService.processJudgmentEvents(judgmentEvents))
+            .thenReturn(List.of(JudgmentEventResult.internalError(judgmentEvents.getFirst())));
+        doThrow(new UncheckedIOException(new IOException("Disk full")))
+            .when(mockJudgmentEventJournal).deadLetter(judgmentEvents);
+
+        judgmentEventJournalReplayer.replayJournal();
+
+        verify(mockJudgmentEventJournal, never()).markReplayed(anyLong());
+    }
+
+    @Test
+    void testReplayJournalDatabaseUnavailable() {
+        List<JudgmentEvent> judgmentEvents = List.of(createJudgmentEvent("1001"));
+
+        when(mockJudgmentEventJournal.read(BATCH_SIZE))
+            .thenReturn(new JudgmentEventJournal.JournalBatch(judgmentEvents, END_POSITION));
+        when(mockJudgmentEventService.processJudgmentEvents(judgmentEvents))
+            .thenThrow(new IllegalStateException("Database unavailable"));
+
+        judgmentEventJournalReplayer.replayJournal();
+
+        verify(mockJudgmentEventJournal, never()).markReplayed(anyLong());
+        verify(mockJudgmentEventJournalService, never()).journalReplayed();
+    }
+
+    private JudgmentEventJournalReplayer createJudgmentEventJournalReplayer(int maxAttempts) {
+        JournalConfigProperties journalConfigProperties = new JournalConfigProperties();
+        journalConfigProperties.setBatchSize(BATCH_SIZE);
+        journalConfigProperties.setMaxAttempts(maxAttempts);
+
+        return new JudgmentEventJournalReplayer(mockJudgmentEventJournal,
+                                                mockJudgmentEventJournalService,
+                                                mockJudgmentEventService,
+                                                journalConfigProperties);
+    }
+
+    private JudgmentEvent createJudgmentEvent(String judgmentId) {
+        JudgmentEvent judgmentEvent = new JudgmentEvent();
+        judgmentEvent.setServiceId(SERVICE_ID);
+        judgmentEvent.setJudgmentId(judgmentId);
+        return judgmentEvent;
+    }
+}
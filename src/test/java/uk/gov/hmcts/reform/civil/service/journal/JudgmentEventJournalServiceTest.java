@@ -0,0 +1,93 @@
+package uk.gov.hmcts.reform.civil.service.journal;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.CannotCreateTransactionException;
+import uk.gov.hmcts.reform.civil.exception.UnrecognisedServiceIdException;
+import uk.gov.hmcts.reform.civil.model.JudgmentEvent;
+import uk.gov.hmcts.reform.civil.service.JudgmentEventService;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class JudgmentEventJournalServiceTest {
+
+    @Mock
+    private JudgmentEventService mockJudgmentEventService;
+
+    @Mock
+    private JudgmentEventJournal mockJudgmentEventJournal;
+
+    private JournalConfigProperties journalConfigProperties;
+
+    private JudgmentEventJournalService judgmentEventJournalService;
+
+    @BeforeEach
+    void setUp() {
+        journalConfigProperties = new JournalConfigProperties();
+        journalConfigProperties.setEnabled(true);
+
+        judgmentEventJournalService = new JudgmentEventJournalService(mockJudgmentEventService,
+                                                                      mockJudgmentEventJournal,
+                                                                      journalConfigProperties);
+    }
+
+    @Test
+    void testIsDatabaseUnavailable() {
+        assertTrue(judgmentEventJournalService.isDatabaseUnavailable(new CannotCreateTransactionException("Test")),
+                   "Unable to get a connection should be treated as the database being unavailable");
+        assertTrue(judgmentEventJournalService.isDatabaseUnavailable(new QueryTimeoutException("Test")),
+                   "Query timeout should be treated as the database being unavailable");
+        assertFalse(judgmentEventJournalService.isDatabaseUnavailable(new DataIntegrityViolationException("Test")),
+                    "Constraint violation should not be treated as the database being unavailable");
+        assertFalse(judgmentEventJournalService.isDatabaseUnavailable(new UnrecognisedServiceIdException()),
+                    "Validation failure should not be treated as the database being unavailable");
+
+        journalConfigProperties.setEnabled(false);
+        assertFalse(judgmentEventJournalService.isDatabaseUnavailable(new CannotCreateTransactionException("Test")),
+                    "Nothing should be journalled when the journal is not enabled");
+    }
+
+    @Test
+    void testJournalJudgmentEvent() {
+        JudgmentEvent judgmentEvent = new JudgmentEvent();
+
+        assertFalse(judgmentEventJournalService.isJournalling(), "Should not be journalling initially");
+
+        judgmentEventJournalService.journalJudgmentEvent(judgmentEvent);
+
+        assertTrue(judgmentEventJournalService.isJournalling(), "Should be journalling once an event is journalled");
+        verify(mockJudgmentEventService).validateJudgmentEvent(judgmentEvent);
+        verify(mockJudgmentEventJournal).append(judgmentEvent);
+
+        judgmentEventJournalService.journalReplayed();
+
+        assertFalse(judgmentEventJournalService.isJournalling(), "Should not be journalling once replayed");
+    }
+
+    @Test
+    void testJournalJudgmentEventInvalid() {
+        JudgmentEvent judgmentEvent = new JudgmentEvent();
+
+        doThrow(new UnrecognisedServiceIdException()).when(mockJudgmentEventService)
+            .validateJudgmentEvent(judgmentEvent);
+
+        assertThrows(UnrecognisedServiceIdException.class,
+                     () -> judgmentEventJournalService.journalJudgmentEvent(judgmentEvent),
+                     "UnrecognisedServiceIdException should be thrown");
+
+        verify(mockJudgmentEventJournal, never()).append(any(JudgmentEvent.class));
+        assertFalse(judgmentEventJournalService.isJournalling(), "Invalid judgment event should not be journalled");
+    }
+}
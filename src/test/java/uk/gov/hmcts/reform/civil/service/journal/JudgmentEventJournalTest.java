@@ -0,0 +1,180 @@
+package uk.gov.hmcts.reform.civil.service.journal;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import uk.gov.hmcts.reform.civil.model.JudgmentEvent;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JudgmentEventJournalTest {
+
+    private static final String JOURNAL_FILE_NAME = "judgment-events.journal";
+    private static final String DEAD_LETTER_FILE_NAME = "judgment-events.dead-letter.ndjson";
+
+    private static final String SERVICE_ID = "UT01";
+    private static final LocalDateTime JUDGMENT_EVENT_TIMESTAMP = LocalDateTime.of(2024, 1, 1, 1, 0, 0);
+
+    @TempDir
+    private Path journalDir;
+
+    private ObjectMapper objectMapper;
+
+    private JournalConfigProperties journalConfigProperties;
+
+    private JudgmentEventJournal judgmentEventJournal;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        journalConfigProperties = new JournalConfigProperties();
+        journalConfigProperties.setEnabled(true);
+        journalConfigProperties.setDirectory(journalDir.toString());
+
+        judgmentEventJournal = openJournal();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        judgmentEventJournal.close();
+    }
+
+    @Test
+    void testReadEmpty() {
+        JudgmentEventJournal.JournalBatch batch = judgmentEventJournal.read(10);
+
+        assertTrue(batch.isEmpty(), "Empty journal should have nothing to replay");
+        assertEquals(0, batch.endPosition(), "Unexpected end position");
+    }
+
+    @Test
+    void testAppendAndRead() {
+        judgmentEventJournal.append(createJudgmentEvent("1001"));
+        judgmentEventJournal.append(createJudgmentEvent("2002"));
+        judgmentEventJournal.append(createJudgmentEvent("3003"));
+
+        JudgmentEventJournal.JournalBatch first = judgmentEventJournal.read(2);
+        assertJudgmentIds(List.of("1001", "2002"), first);
+        assertFalse(judgmentEventJournal.markReplayed(first.endPosition()),
+                    "Journal should not be empty after the first batch");
+
+        JudgmentEventJournal.JournalBatch second = judgmentEventJournal.read(2);
+        assertJudgmentIds(List.of("3003"), second);
+        assertEquals(JUDGMENT_EVENT_TIMESTAMP,
+                     second.judgmentEvents().getFirst().getJudgmentEventTimeStamp(),
+                     "Unexpected judgment event timestamp");
+        assertTrue(judgmentEventJournal.markReplayed(second.endPosition()),
+                   "Journal should be empty after the second batch");
+        assertEquals(0, journalFile().toFile().length(), "Replayed journal should be truncated");
+
+        judgmentEventJournal.append(createJudgmentEvent("4004"));
+        assertJudgmentIds(List.of("4004"), judgmentEventJournal.read(2));
+    }
+
+    @Test
+    void testReopen() throws IOException {
+        judgmentEventJournal.append(createJudgmentEvent("1001"));
+        judgmentEventJournal.append(createJudgmentEvent("2002"));
+        judgmentEventJournal.markReplayed(judgmentEventJournal.read(1).endPosition());
+        judgmentEventJournal.close();
+
+        judgmentEventJournal = openJournal();
+
+        // Judgment events not yet truncated from the journal are replayed again
+        assertJudgmentIds(List.of("1001", "2002"), judgmentEventJournal.read(10));
+    }
+
+    @Test
+    void testReopenIncompleteRecord() throws IOException {
+        judgmentEventJournal.append(createJudgmentEvent("1001"));
+        judgmentEventJournal.close();
+        long validLength = journalFile().toFile().length();
+
+        Files.write(journalFile(), new byte[] {0, 0, 1, 0, 1, 2}, StandardOpenOption.APPEND);
+
+        judgmentEventJournal = openJournal();
+
+        assertEquals(validLength, journalFile().toFile().length(), "Incomplete record should be discarded");
+        assertJudgmentIds(List.of("1001"), judgmentEventJournal.read(10));
+    }
+
+    @Test
+    void testReopenChecksumMismatch() throws IOException {
+        judgmentEventJournal.append(createJudgmentEvent("1001"));
+        judgmentEventJournal.close();
+        long validLength = journalFile().toFile().length();
+
+        byte[] content = Files.readAllBytes(journalFile());
+        Files.write(journalFile(), content, StandardOpenOption.APPEND);
+        // Corrupt the last byte of the payload of the second record
+        byte[] corrupted = Files.readAllBytes(journalFile());
+        corrupted[corrupted.length - 2] ^= 1;
+        Files.write(journalFile(), corrupted);
+
+        judgmentEventJournal = openJournal();
+
+        assertEquals(validLength, journalFile().toFile().length(), "Corrupt record should be discarded");
+        assertJudgmentIds(List.of("1001"), judgmentEventJournal.read(10));
+    }
+
+    @Test
+    void testDeadLetter() throws IOException {
+        judgmentEventJournal.deadLetter(List.of(createJudgmentEvent("1001")));
+        judgmentEventJournal.deadLetter(List.of(createJudgmentEvent("2002"), createJudgmentEvent("3003")));
+
+        List<String> lines = Files.readAllLines(journalDir.resolve(DEAD_LETTER_FILE_NAME));
+        assertEquals(3, lines.size(), "Each dead letter judgment event should be on its own line");
+        assertEquals(List.of("1001", "2002", "3003"),
+                     lines.stream().map(this::readJudgmentId).toList(),
+                     "Unexpected judgment events in dead letter file");
+    }
+
+    private JudgmentEventJournal openJournal() {
+        JudgmentEventJournal journal = new JudgmentEventJournal(objectMapper, journalConfigProperties);
+        journal.open();
+        return journal;
+    }
+
+    private Path journalFile() {
+        return journalDir.resolve(JOURNAL_FILE_NAME);
+    }
+
+    private void assertJudgmentIds(List<String> expectedJudgmentIds, JudgmentEventJournal.JournalBatch batch) {
+        assertEquals(expectedJudgmentIds,
+                     batch.judgmentEvents().stream().map(JudgmentEvent::getJudgmentId).toList(),
+                     "Unexpected judgment events read from journal");
+    }
+
+    private String readJudgmentId(String line) {
+        try {
+            return objectMapper.readValue(line, JudgmentEvent.class).getJudgmentId();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private JudgmentEvent createJudgmentEvent(String judgmentId) {
+        JudgmentEvent judgmentEvent = new JudgmentEvent();
+        judgmentEvent.setServiceId(SERVICE_ID);
+        judgmentEvent.setJudgmentId(judgmentId);
+        judgmentEvent.setJudgmentEventTimeStamp(JUDGMENT_EVENT_TIMESTAMP);
+        return judgmentEvent;
+    }
+}
@@ -0,0 +1,176 @@
+package uk.gov.hmcts.reform.civil.service.staging;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.hmcts.reform.civil.domain.JudgmentEventStaging;
+import uk.gov.hmcts.reform.civil.exception.UnrecognisedServiceIdException;
+import uk.gov.hmcts.reform.civil.model.JudgmentEvent;
+import uk.gov.hmcts.reform.civil.repository.JudgmentEventStagingRepository;
+import uk.gov.hmcts.reform.civil.service.JudgmentEventService;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class JudgmentEventStagingServiceTest {
+
+    private static final int BATCH_SIZE = 10;
+    private static final int CLAIM_TIMEOUT = 300;
+
+    private static final String SERVICE_ID = "AAA1";
+    private static final String JUDGMENT_ID = "1001";
+    private static final LocalDateTime JUDGMENT_EVENT_TIMESTAMP = LocalDateTime.of(2024, 1, 2, 3, 4, 5);
+    private static final String CASE_NUMBER = "0AA00001";
+
+    @Mock
+    private JudgmentEventService mockJudgmentEventService;
+
+    @Mock
+    private JudgmentEventStagingRepository mockJudgmentEventStagingRepository;
+
+    private JudgmentEventStagingService judgmentEventStagingService;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        StagingConfigProperties stagingConfigProperties = new StagingConfigProperties();
+        stagingConfigProperties.setEnabled(true);
+        stagingConfigProperties.setBatchSize(BATCH_SIZE);
+        stagingConfigProperties.setClaimTimeout(CLAIM_TIMEOUT);
+
+        judgmentEventStagingService = new JudgmentEventStagingService(mockJudgmentEventService,
+                                                                      mockJudgmentEventStagingRepository,
+                                                                      objectMapper,
+                                                                      stagingConfigProperties);
+    }
+
+    @Test
+    void testIsEnabled() {
+        assertTrue(judgmentEventStagingService.isEnabled(), "Staging should be enabled");
+    }
+
+    @Test
+    void testStageJudgmentEvent() {
+        JudgmentEvent judgmentEvent = createJudgmentEvent();
+
+        judgmentEventStagingService.stageJudgmentEvent(judgmentEvent);
+
+        verify(mockJudgmentEventService).validateJudgmentEvent(judgmentEvent);
+
+        ArgumentCaptor<JudgmentEventStaging> captor = ArgumentCaptor.forClass(JudgmentEventStaging.class);
+        verify(mockJudgmentEventStagingRepository).save(captor.capture());
+
+        JudgmentEventStaging staging = captor.getValue();
+        assertEquals(SERVICE_ID, staging.getServiceId(), "Staged judgment event has unexpected service id");
+        assertEquals(JUDGMENT_ID, staging.getJudgmentId(), "Staged judgment event has unexpected judgment id");
+        assertEquals(JUDGMENT_EVENT_TIMESTAMP,
+                     staging.getJudgmentEventTimestamp(),
+                     "Staged judgment event has unexpected judgment event timestamp");
+        assertEquals(CASE_NUMBER, staging.getCaseNumber(), "Staged judgment event has unexpected case number");
+        assertTrue(staging.getPayload().contains("\"judgmentId\":\"" + JUDGMENT_ID + "\""),
+                   "Staged judgment event has unexpected payload");
+        assertEquals(JudgmentEventStaging.STATUS_PENDING,
+                     staging.getStatus(),
+                     "Staged judgment event has unexpected status");
+        assertNotNull(staging.getReceivedAt(), "Staged judgment event should have a received at date");
+    }
+
+    @Test
+    void testStageJudgmentEventInvalid() {
+        JudgmentEvent judgmentEvent = createJudgmentEvent();
+
+        doThrow(new UnrecognisedServiceIdException()).when(mockJudgmentEventService)
+            .validateJudgmentEvent(judgmentEvent);
+
+        assertThrows(UnrecognisedServiceIdException.class,
+                     () -> judgmentEventStagingService.stageJudgmentEvent(judgmentEvent),
+                     "Expected exception has not been thrown");
+
+        verify(mockJudgmentEventStagingRepository, never()).save(any(JudgmentEventStaging.class));
+    }
+
+    @Test
+    void testClaimJudgmentEvents() {
+        JudgmentEventStaging staging = createStaging(1L);
+
+        when(mockJudgmentEventStagingRepository.findForProcessing(any(LocalDateTime.class), eq(BATCH_SIZE)))
+            .thenReturn(List.of(staging));
+
+        List<JudgmentEventStaging> claimed = judgmentEventStagingService.claimJudgmentEvents();
+
+        assertEquals(List.of(staging), claimed, "Unexpected judgment events claimed");
+        assertEquals(JudgmentEventStaging.STATUS_PROCESSING,
+                     staging.getStatus(),
+                     "Claimed judgment event has unexpected status");
+        assertNotNull(staging.getClaimedAt(), "Claimed judgment event should have a claimed at date");
+        assertEquals(1, staging.getAttempts(), "Claimed judgment event has unexpected number of attempts");
+
+        verify(mockJudgmentEventStagingRepository).saveAll(claimed);
+    }
+
+    @Test
+    void testFinishJudgmentEvents() {
+        JudgmentEventStaging completed = createStaging(1L);
+        JudgmentEventStaging failed = createStaging(2L);
+        failed.setErrorCode("001");
+        failed.setErrorMessage("x".repeat(300));
+
+        judgmentEventStagingService.finishJudgmentEvents(List.of(completed), List.of(failed));
+
+        verify(mockJudgmentEventStagingRepository).deleteAllByIdInBatch(List.of(1L));
+        verify(mockJudgmentEventStagingRepository).saveAll(List.of(failed));
+
+        assertEquals(JudgmentEventStaging.STATUS_FAILED,
+                     failed.getStatus(),
+                     "Failed judgment event has unexpected status");
+        assertEquals(255,
+                     failed.getErrorMessage().length(),
+                     "Failed judgment event error message should be truncated");
+    }
+
+    @Test
+    void testFinishJudgmentEventsNoneCompleted() {
+        judgmentEventStagingService.finishJudgmentEvents(Collections.emptyList(), Collections.emptyList());
+
+        verify(mockJudgmentEventStagingRepository, never()).deleteAllByIdInBatch(anyList());
+    }
+
+    private JudgmentEvent createJudgmentEvent() {
+        JudgmentEvent judgmentEvent = new JudgmentEvent();
+        judgmentEvent.setServiceId(SERVICE_ID);
+        judgmentEvent.setJudgmentId(JUDGMENT_ID);
+        judgmentEvent.setJudgmentEventTimeStamp(JUDGMENT_EVENT_TIMESTAMP);
+        judgmentEvent.setCaseNumber(CASE_NUMBER);
+        return judgmentEvent;
+    }
+
+    private JudgmentEventStaging createStaging(long id) {
+        JudgmentEventStaging staging = new JudgmentEventStaging();
+        staging.setId(id);
+        staging.setStatus(JudgmentEventStaging.STATUS_PENDING);
+        return staging;
+    }
+}
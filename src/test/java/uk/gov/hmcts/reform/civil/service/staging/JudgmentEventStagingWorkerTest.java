@@ -0,0 +1,159 @@
+package uk.gov.hmcts.reform.civil.service.staging;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.hmcts.reform.civil.domain.JudgmentEventStaging;
+import uk.gov.hmcts.reform.civil.exception.JudgmentEventErrorType;
+import uk.gov.hmcts.reform.civil.model.JudgmentEvent;
+import uk.gov.hmcts.reform.civil.model.JudgmentEventResult;
+import uk.gov.hmcts.reform.civil.service.JudgmentEventService;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class JudgmentEventStagingWorkerTest {
+
+    private static final int MAX_ATTEMPTS = 2;
+
+    private static final String SERVICE_ID = "AAA1";
+
+    @Mock
+    private JudgmentEventStagingService mockJudgmentEventStagingService;
+
+    @Mock
+    private JudgmentEventService mockJudgmentEventService;
+
+    private JudgmentEventStagingWorker judgmentEventStagingWorker;
+
+    @BeforeEach
+    void setUp() {
+        StagingConfigProperties stagingConfigProperties = new StagingConfigProperties();
+        stagingConfigProperties.setBatchSize(10);
+        stagingConfigProperties.setMaxAttempts(MAX_ATTEMPTS);
+
+        judgmentEventStagingWorker = new JudgmentEventStagingWorker(mockJudgmentEventStagingService,
+                                                                    mockJudgmentEventService,
+                                                                    new ObjectMapper(),
+                                                                    stagingConfigProperties);
+    }
+
+    @Test
+    void testProcessJudgmentEventsNoneClaimed() {
+        when(mockJudgmentEventStagingService.claimJudgmentEvents()).thenReturn(Collections.emptyList());
+
+        int claimed = judgmentEventStagingWorker.processJudgmentEvents();
+
+        assertEquals(0, claimed, "No judgment events should have been claimed");
+        verify(mockJudgmentEventService, never()).processJudgmentEvents(anyList());
+        verify(mockJudgmentEventStagingService, never()).finishJudgmentEvents(anyList(), anyList());
+    }
+
+    @Test
+    void testProcessJudgmentEvents() {
+        JudgmentEventStaging created = createStaging(1L, "1001", 1);
+        JudgmentEventStaging rejected = createStaging(2L, "2002", 1);
+        JudgmentEventStaging unreadable = createStaging(3L, "3003", 1);
+        unreadable.setPayload("{");
+        JudgmentEventStaging retried = createStaging(4L, "4004", 1);
+        JudgmentEventStaging exhausted = createStaging(5L, "5005", MAX_ATTEMPTS);
+
+        when(mockJudgmentEventStagingService.claimJudgmentEvents())
+            .thenReturn(List.of(created, rejected, unreadable, retried, exhausted));
+        when(mockJudgmentEventService.processJudgmentEvents(anyList())).thenAnswer(invocation -> {
+            List<JudgmentEvent> judgmentEvents = invocation.getArgument(0);
+            return List.of(
+                JudgmentEventResult.created(judgmentEvents.get(0)),
+                JudgmentEventResult.error(judgmentEvents.get(1),
+                                          JudgmentEventErrorType.UNRECOGNISED_SERVICE_ID.toJudgmentEventError()),
+                JudgmentEventResult.internalError(judgmentEvents.get(2)),
+                JudgmentEventResult.internalError(judgmentEvents.get(3))
+            );
+        });
+
+        int claimed = judgmentEventStagingWorker.processJudgmentEvents();
+
+        assertEquals(5, claimed, "Unexpected number of judgment events claimed");
+
+        ArgumentCaptor<List<JudgmentEventStaging>> completedCaptor = createListCaptor();
+        ArgumentCaptor<List<JudgmentEventStaging>> failedCaptor = createListCaptor();
+        verify(mockJudgmentEventStagingService).finishJudgmentEvents(completedCaptor.capture(),
+                                                                      failedCaptor.capture());
+
+        assertEquals(List.of(created), completedCaptor.getValue(), "Unexpected completed judgment events");
+        assertEquals(List.of(unreadable, rejected, exhausted), failedCaptor.getValue(),
+                     "Unexpected failed judgment events");
+
+        assertEquals("001", rejected.getErrorCode(), "Rejected judgment event has unexpected error code");
+        assertNull(unreadable.getErrorCode(), "Unreadable judgment event should not have an error code");
+        assertTrue(unreadable.getErrorMessage().startsWith("unable to read"),
+                   "Unreadable judgment event has unexpected error message");
+    }
+
+    @Test
+    void testProcessJudgmentEventsBatchFailed() {
+        JudgmentEventStaging created = createStaging(1L, "1001", 1);
+        JudgmentEventStaging poison = createStaging(2L, "2002", 1);
+        JudgmentEventStaging exhausted = createStaging(3L, "3003", MAX_ATTEMPTS);
+        JudgmentEventStaging unreadable = createStaging(4L, "4004", 1);
+        unreadable.setPayload("{");
+
+        when(mockJudgmentEventStagingService.claimJudgmentEvents())
+            .thenReturn(List.of(created, poison, exhausted, unreadable));
+        // A batch containing a poison judgment event always fails
+        when(mockJudgmentEventService.processJudgmentEvents(anyList())).thenAnswer(invocation -> {
+            List<JudgmentEvent> judgmentEvents = invocation.getArgument(0);
+            if (judgmentEvents.stream().anyMatch(judgmentEvent -> !"1001".equals(judgmentEvent.getJudgmentId()))) {
+                throw new IllegalStateException();
+            }
+            return List.of(JudgmentEventResult.created(judgmentEvents.getFirst()));
+        });
+
+        int claimed = judgmentEventStagingWorker.processJudgmentEvents();
+
+        assertEquals(4, claimed, "Unexpected number of judgment events claimed");
+        verify(mockJudgmentEventService, times(4)).processJudgmentEvents(anyList());
+
+        ArgumentCaptor<List<JudgmentEventStaging>> completedCaptor = createListCaptor();
+        ArgumentCaptor<List<JudgmentEventStaging>> failedCaptor = createListCaptor();
+        verify(mockJudgmentEventStagingService).finishJudgmentEvents(completedCaptor.capture(),
+                                                                      failedCaptor.capture());
+
+        assertEquals(List.of(created),
+                     completedCaptor.getValue(),
+                     "Judgment event batched with a poison judgment event should be completed");
+        assertEquals(List.of(unreadable, exhausted),
+                     failedCaptor.getValue(),
+                     "Unreadable judgment event and poison judgment event out of attempts should be failed");
+    }
+
+    private JudgmentEventStaging createStaging(long id, String judgmentId, int attempts) {
+        JudgmentEventStaging staging = new JudgmentEventStaging();
+        staging.setId(id);
+        staging.setServiceId(SERVICE_ID);
+        staging.setJudgmentId(judgmentId);
+        staging.setPayload("{\"serviceId\":\"" + SERVICE_ID + "\",\"judgmentId\":\"" + judgmentId + "\"}");
+        staging.setStatus(JudgmentEventStaging.STATUS_PROCESSING);
+        staging.setAttempts(attempts);
+        return staging;
+    }
+
+    @SuppressWarnings("unchecked")
+    private ArgumentCaptor<List<JudgmentEventStaging>> createListCaptor() {
+        return ArgumentCaptor.forClass(List.class);
+    }
+}
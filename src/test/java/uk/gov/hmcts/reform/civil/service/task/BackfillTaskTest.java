@@ -0,0 +1,65 @@
+package uk.gov.hmcts.reform.civil.service.task;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.hmcts.reform.civil.service.BackfillService;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class BackfillTaskTest {
+
+    @TempDir
+    private Path backfillDir;
+
+    @Mock
+    private BackfillService mockBackfillService;
+
+    private BackfillTask backfillTask;
+
+    @BeforeEach
+    void setUp() {
+        backfillTask = new BackfillTask(mockBackfillService, null);
+    }
+
+    @Test
+    void testBackfillTask() throws IOException {
+        Path file = Files.writeString(backfillDir.resolve("judgments.ndjson"), "{}\n");
+        backfillTask.setFile(file.toString());
+
+        backfillTask.run();
+
+        verify(mockBackfillService).backfill(file);
+    }
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    void testBackfillTaskNoFile(String file) {
+        backfillTask.setFile(file);
+
+        backfillTask.run();
+
+        verify(mockBackfillService, never()).backfill(any(Path.class));
+    }
+
+    @Test
+    void testBackfillTaskFileNotFound() {
+        backfillTask.setFile(backfillDir.resolve("missing.ndjson").toString());
+
+        backfillTask.run();
+
+        verify(mockBackfillService, never()).backfill(any(Path.class));
+    }
+}